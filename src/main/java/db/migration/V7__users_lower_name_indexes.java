@@ -0,0 +1,35 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.SQLException;
+
+/**
+ * Indexes for the user directory search, which matches the start of the lowercased username, first name
+ * and last name with LIKE. A plain index on a column serves neither the lower() call nor, on PostgreSQL
+ * with a non-C collation, a LIKE prefix, so each column gets an index on lower(column) with the
+ * text_pattern_ops operator class.
+ * H2 has no expression indexes; there the migration does nothing and the search reads the user_roles index.
+ */
+public class V7__users_lower_name_indexes extends BaseJavaMigration {
+
+    private static final String[] STATEMENTS = {
+            "create index if not exists idx_users_lower_username on users (lower(username) text_pattern_ops)",
+            "create index if not exists idx_users_lower_first_name on users (lower(first_name) text_pattern_ops)",
+            "create index if not exists idx_users_lower_last_name on users (lower(last_name) text_pattern_ops)"
+    };
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        var connection = context.getConnection();
+        if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            return;
+        }
+        try (var statement = connection.createStatement()) {
+            for (var sql : STATEMENTS) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Moves invite_seq past the ids of existing invites. Invites used identity ids before they switched to
+ * invite_seq, and a database baselined at V1 keeps the sequence at its start, so the first ids handed out
+ * would collide with existing invites.
+ * Hibernate allocates the 50 ids up to each value of the sequence, so its next value must be at least
+ * the highest invite id plus 50. The sequence never moves backwards, so ids already handed out by
+ * running instances are not handed out again.
+ */
+public class V8__invite_seq_past_existing_ids extends BaseJavaMigration {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        var connection = context.getConnection();
+        var postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        try (var statement = connection.createStatement()) {
+            var next = queryLong(statement, postgres ? "select nextval('invite_seq')" : "select next value for invite_seq");
+            var maxId = queryLong(statement, "select coalesce(max(id), 0) from invite");
+            statement.execute("alter sequence invite_seq restart with " + Math.max(next, maxId + ALLOCATION_SIZE));
+        }
+    }
+
+    private static long queryLong(Statement statement, String sql) throws SQLException {
+        try (var resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package get2gether.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the user availability storage, bound from the availability.* properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "availability")
+public class AvailabilityProperties {
+
+    /**
+     * Where the available days of users are stored.
+     */
+    public enum Storage {
+        /** One row per user and day in the availability_days table. */
+        ROWS,
+        /** One bitmap per user with a 31-bit mask per month, in the users.availability_bitmap column. */
+        BITMAP
+    }
+
+    private Storage storage = Storage.ROWS;
+    /** Number of users whose availability is moved to the configured storage per transaction on startup. */
+    private int migrationBatchSize = 500;
+    /** How long a group stays in the group availability index before it is indexed again from the database. */
+    private Duration indexTtl = Duration.ofMinutes(10);
+    /** Maximum number of groups in the group availability index; the least recently read ones are dropped first. */
+    private int indexMaxGroups = 10_000;
+}
@@ -0,0 +1,114 @@
+package get2gether.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process stand-in for an external STOMP broker, active when websocket.broker.mode is "embedded".
+ * Every application context in the JVM started with the same websocket.broker.embedded.name joins
+ * one relay group. Messages the application publishes on one node, such as chat messages and
+ * user notifications, are replayed on the broker channel of every other node in the group,
+ * so they reach subscribers regardless of which node the subscriber is connected to.
+ * User destinations are resolved by each node against its own sessions.
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "embedded")
+@Slf4j
+public class EmbeddedBrokerRelay implements ChannelInterceptor, SmartLifecycle {
+
+    static final String RELAYED_HEADER = "embeddedBrokerRelayed";
+
+    private static final Map<String, Set<EmbeddedBrokerRelay>> NODES_BY_GROUP = new ConcurrentHashMap<>();
+
+    private final String group;
+    private final MessageChannel brokerChannel;
+    private volatile boolean running;
+
+    public EmbeddedBrokerRelay(WebSocketProperties properties,
+                               @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+        this.group = properties.getBroker().getEmbedded().getName();
+        this.brokerChannel = brokerChannel;
+    }
+
+    /**
+     * Replays messages published on this node's broker channel on all other nodes of the group.
+     * Messages that were themselves relayed, or that are a local user destination already
+     * resolved to a session of this node, are not forwarded again.
+     *
+     * @param message the message being sent to the broker
+     * @param channel the broker channel of this node
+     * @return the unchanged message, which is still delivered locally
+     */
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        if (!running || !isPublishedLocally(message)) {
+            return message;
+        }
+        var relayed = MessageBuilder.fromMessage(message).setHeader(RELAYED_HEADER, true).build();
+        for (var node : NODES_BY_GROUP.getOrDefault(group, Set.of())) {
+            if (node != this) {
+                node.deliver(relayed);
+            }
+        }
+        return message;
+    }
+
+    @Override
+    public void start() {
+        NODES_BY_GROUP.computeIfAbsent(group, name -> ConcurrentHashMap.newKeySet()).add(this);
+        running = true;
+        log.info("[EmbeddedBrokerRelay]: joined relay group '{}'", group);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        NODES_BY_GROUP.computeIfPresent(group, (name, nodes) -> {
+            nodes.remove(this);
+            return nodes.isEmpty() ? null : nodes;
+        });
+        log.info("[EmbeddedBrokerRelay]: left relay group '{}'", group);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void deliver(Message<?> message) {
+        if (!running) {
+            return;
+        }
+        try {
+            brokerChannel.send(message);
+        } catch (MessagingException e) {
+            log.warn("[EmbeddedBrokerRelay]: failed to relay message to {}: {}",
+                    SimpMessageHeaderAccessor.getDestination(message.getHeaders()), e.getMessage());
+        }
+    }
+
+    private static boolean isPublishedLocally(Message<?> message) {
+        var headers = message.getHeaders();
+        return SimpMessageHeaderAccessor.getMessageType(headers) == SimpMessageType.MESSAGE
+                && !headers.containsKey(RELAYED_HEADER)
+                && NativeMessageHeaderAccessor.getFirstNativeHeader(
+                        SimpMessageHeaderAccessor.ORIGINAL_DESTINATION, headers) == null;
+    }
+}
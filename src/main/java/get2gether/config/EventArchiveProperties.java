@@ -0,0 +1,20 @@
+package get2gether.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Period;
+
+/**
+ * Settings of the past event archiver, bound from the events.archive.* properties.
+ * The schedule itself is read from events.archive.cron (default: every night at 03:30, "-" disables it).
+ */
+@Data
+@ConfigurationProperties(prefix = "events.archive")
+public class EventArchiveProperties {
+
+    /** Events dated more than this before today are moved to the archive tables. */
+    private Period horizon = Period.ofDays(30);
+    /** Number of events archived per transaction. */
+    private int batchSize = 500;
+}
@@ -0,0 +1,34 @@
+package get2gether.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the application event dispatch, bound from the events.dispatch.* properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "events.dispatch")
+public class EventDispatchProperties {
+
+    /**
+     * How the action managers receive application events.
+     */
+    public enum Mode {
+        /** Listeners run in the publishing thread, inside the publisher's transaction. */
+        SYNC,
+        /** Listeners run after the publisher's transaction commits, on the dispatch workers. */
+        ASYNC
+    }
+
+    private Mode mode = Mode.SYNC;
+    /** Number of worker threads processing events in async mode. */
+    private int workers = 4;
+    /** Number of waiting events in async mode above which newly queued events are counted as overflowed. */
+    private int backlogThreshold = 10_000;
+    /** Attempts per event, including the first one. */
+    private int maxAttempts = 3;
+    /** Delay before the first retry; doubled on every further retry. */
+    private Duration retryBackoff = Duration.ofMillis(200);
+}
@@ -0,0 +1,39 @@
+package get2gether.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of password hashing, bound from the security.password.* properties.
+ * Changing the algorithm or raising the BCrypt strength only affects new hashes; existing hashes keep
+ * verifying and are re-encoded with the current settings on the user's next successful login.
+ */
+@Data
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordEncoderProperties {
+
+    /**
+     * Algorithm used to hash new passwords.
+     */
+    public enum Algorithm {
+        BCRYPT("bcrypt"),
+        PBKDF2("pbkdf2");
+
+        private final String id;
+
+        Algorithm(String id) {
+            this.id = id;
+        }
+
+        /** Prefix identifying the algorithm in stored hashes, e.g. {@code {bcrypt}$2a$10$...}. */
+        public String getId() {
+            return id;
+        }
+    }
+
+    private Algorithm algorithm = Algorithm.BCRYPT;
+    /** Log2 of the BCrypt work factor, between 4 and 31. */
+    private int bcryptStrength = 10;
+    /** Iterations of PBKDF2 with HMAC-SHA256. */
+    private int pbkdf2Iterations = 310_000;
+}
@@ -4,6 +4,7 @@ import get2gether.enums.Role;
 import get2gether.security.JwtRequestFilter;
 import get2gether.service.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -18,7 +19,9 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -26,15 +29,18 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
 @RequiredArgsConstructor
+@EnableConfigurationProperties(PasswordEncoderProperties.class)
 public class SecurityConfig {
 
     private final JwtRequestFilter jwtRequestFilter;
     private final CustomUserDetailsService customUserDetailsService;
+    private final PasswordEncoderProperties passwordEncoderProperties;
 
     /**
      * Configures the security filter chain for the application.
@@ -51,12 +57,14 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/auth/login", "/auth/register", "/error", "/h2-console/**").permitAll()
+                        .requestMatchers("/auth/login", "/auth/register", "/auth/refresh", "/error", "/h2-console/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/user/**").hasAnyAuthority(Role.ADMIN.name(), Role.USER.name())
                         .requestMatchers(HttpMethod.PUT, "/user/**").hasAnyAuthority(Role.ADMIN.name(), Role.USER.name())
+                        .requestMatchers(HttpMethod.PATCH, "/user/**").hasAnyAuthority(Role.ADMIN.name(), Role.USER.name())
                         .requestMatchers(HttpMethod.DELETE, "/user/**").hasAuthority(Role.USER.name())
                         .requestMatchers(HttpMethod.PATCH, "/events/**").hasAuthority(Role.USER.name())
                         .requestMatchers("/ws/**").permitAll()
+                        .requestMatchers("/admin/**").hasAuthority(Role.ADMIN.name())
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session
@@ -73,7 +81,9 @@ public class SecurityConfig {
 
     /**
      * Creates and configures the authentication provider.
-     * Sets up the custom user details service and password encoder.
+     * Sets up the custom user details service and password encoder. Hashes created with an older
+     * algorithm or a lower cost are re-encoded through the user details service after a successful login.
+     * Unknown usernames are reported as such, so the login endpoint keeps answering 404 for them.
      *
      * @return the configured AuthenticationProvider
      */
@@ -82,6 +92,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(customUserDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(customUserDetailsService);
+        authProvider.setHideUserNotFoundExceptions(false);
         return authProvider;
     }
 
@@ -118,12 +130,31 @@ public class SecurityConfig {
 
     /**
      * Creates and configures the password encoder for the application.
-     * Uses BCrypt for secure password hashing.
+     * New hashes use the algorithm and cost set in {@link PasswordEncoderProperties} and are prefixed
+     * with the algorithm's id. Hashes of every supported algorithm can be verified, including the
+     * unprefixed BCrypt hashes stored before the algorithm became configurable.
      *
      * @return the configured PasswordEncoder
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return createPasswordEncoder(passwordEncoderProperties);
+    }
+
+    /**
+     * Builds the password encoder described by the given settings.
+     *
+     * @param properties the algorithm and cost to hash new passwords with
+     * @return a delegating encoder hashing with the configured algorithm
+     */
+    public static PasswordEncoder createPasswordEncoder(PasswordEncoderProperties properties) {
+        var bcrypt = new BCryptPasswordEncoder(properties.getBcryptStrength());
+        var pbkdf2 = new Pbkdf2PasswordEncoder("", 16, properties.getPbkdf2Iterations(),
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+        var encoder = new DelegatingPasswordEncoder(properties.getAlgorithm().getId(), Map.of(
+                PasswordEncoderProperties.Algorithm.BCRYPT.getId(), bcrypt,
+                PasswordEncoderProperties.Algorithm.PBKDF2.getId(), pbkdf2));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
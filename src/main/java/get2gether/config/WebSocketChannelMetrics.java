@@ -0,0 +1,98 @@
+package get2gether.config;
+
+import get2gether.dto.ChannelStatsDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the queue depth of the STOMP channel executors.
+ * Each monitored channel records its current and peak queue depth, and how often a full
+ * queue made the sending thread process a message itself.
+ */
+@Component
+@Slf4j
+public class WebSocketChannelMetrics {
+
+    private final Map<String, ChannelMonitor> monitors = new ConcurrentHashMap<>();
+
+    /**
+     * Starts monitoring a channel. The returned monitor must be registered as an interceptor
+     * of the channel and as the rejected execution handler of its executor.
+     *
+     * @param channelName the name under which the channel is reported
+     * @param executor the executor of the channel
+     * @param queueCapacity the queue capacity of the executor
+     * @return the monitor of the channel
+     */
+    public ChannelMonitor monitor(String channelName, ThreadPoolTaskExecutor executor, int queueCapacity) {
+        var monitor = new ChannelMonitor(channelName, executor, queueCapacity);
+        monitors.put(channelName, monitor);
+        return monitor;
+    }
+
+    /**
+     * Returns the current statistics of all monitored channels.
+     *
+     * @return List of channel statistics ordered by channel name
+     */
+    public List<ChannelStatsDto> getChannelStats() {
+        return monitors.values().stream()
+                .map(ChannelMonitor::toDto)
+                .sorted((a, b) -> a.getChannel().compareTo(b.getChannel()))
+                .toList();
+    }
+
+    public static final class ChannelMonitor implements ChannelInterceptor, RejectedExecutionHandler {
+
+        private final String channelName;
+        private final ThreadPoolTaskExecutor executor;
+        private final int queueCapacity;
+        private final AtomicInteger peakQueueDepth = new AtomicInteger();
+        private final AtomicLong callerRuns = new AtomicLong();
+        private final RejectedExecutionHandler callerRunsPolicy = new ThreadPoolExecutor.CallerRunsPolicy();
+
+        private ChannelMonitor(String channelName, ThreadPoolTaskExecutor executor, int queueCapacity) {
+            this.channelName = channelName;
+            this.executor = executor;
+            this.queueCapacity = queueCapacity;
+        }
+
+        @Override
+        public void postSend(@NonNull Message<?> message, @NonNull MessageChannel channel, boolean sent) {
+            peakQueueDepth.accumulateAndGet(executor.getQueueSize(), Math::max);
+        }
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor threadPoolExecutor) {
+            if (callerRuns.getAndIncrement() == 0) {
+                log.warn("[WebSocketChannelMetrics]: {} queue is full, senders now process messages themselves", channelName);
+            }
+            callerRunsPolicy.rejectedExecution(task, threadPoolExecutor);
+        }
+
+        private ChannelStatsDto toDto() {
+            return ChannelStatsDto.builder()
+                    .channel(channelName)
+                    .queueDepth(executor.getQueueSize())
+                    .peakQueueDepth(peakQueueDepth.get())
+                    .queueCapacity(queueCapacity)
+                    .activeThreads(executor.getActiveCount())
+                    .poolSize(executor.getPoolSize())
+                    .callerRuns(callerRuns.get())
+                    .build();
+        }
+    }
+}
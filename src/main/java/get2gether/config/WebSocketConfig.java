@@ -1,20 +1,50 @@
 package get2gether.config;
 
 import get2gether.security.WebSocketAuthInterceptor;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
-@RequiredArgsConstructor
+@EnableConfigurationProperties(WebSocketProperties.class)
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String[] BROKER_DESTINATION_PREFIXES = {"/queue", "/topic"};
+
     private final WebSocketAuthInterceptor webSocketAuthInterceptor;
+    private final ObjectProvider<EmbeddedBrokerRelay> embeddedBrokerRelay;
+    private final WebSocketChannelMetrics channelMetrics;
+    private final WebSocketProperties properties;
+    private final TaskScheduler messageBrokerTaskScheduler;
+    private final Environment environment;
+
+    public WebSocketConfig(WebSocketAuthInterceptor webSocketAuthInterceptor,
+                           ObjectProvider<EmbeddedBrokerRelay> embeddedBrokerRelay,
+                           WebSocketChannelMetrics channelMetrics,
+                           WebSocketProperties properties,
+                           @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler,
+                           Environment environment) {
+        this.webSocketAuthInterceptor = webSocketAuthInterceptor;
+        this.embeddedBrokerRelay = embeddedBrokerRelay;
+        this.channelMetrics = channelMetrics;
+        this.properties = properties;
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+        this.environment = environment;
+    }
 
     /**
      * Registers STOMP endpoints for WebSocket communication.
@@ -38,11 +68,40 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      * - /app for application-specific destinations
      * - /user for user-specific destinations
      *
+     * The /queue and /topic destinations are served by the broker selected with websocket.broker.mode:
+     * - simple (default): in-memory broker of this instance
+     * - relay: external STOMP broker, so chat and notifications reach clients connected to any instance;
+     *   user destinations are resolved across instances through broadcast destinations on the broker
+     * - embedded: in-memory broker with messages shared between application contexts in one JVM
+     *   through the EmbeddedBrokerRelay, for tests and single-box deployments
+     *
      * @param config the MessageBrokerRegistry to configure
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/queue", "/topic");
+        var broker = properties.getBroker();
+        switch (broker.getMode()) {
+            case RELAY -> {
+                var relaySettings = broker.getRelay();
+                var relay = config.enableStompBrokerRelay(BROKER_DESTINATION_PREFIXES)
+                        .setRelayHost(relaySettings.getHost())
+                        .setRelayPort(relaySettings.getPort())
+                        .setClientLogin(relaySettings.getClientLogin())
+                        .setClientPasscode(relaySettings.getClientPasscode())
+                        .setSystemLogin(relaySettings.getSystemLogin())
+                        .setSystemPasscode(relaySettings.getSystemPasscode())
+                        .setUserDestinationBroadcast("/topic/unresolved-user")
+                        .setUserRegistryBroadcast("/topic/user-registry");
+                if (relaySettings.getVirtualHost() != null) {
+                    relay.setVirtualHost(relaySettings.getVirtualHost());
+                }
+            }
+            case EMBEDDED -> {
+                enableSimpleBroker(config);
+                config.configureBrokerChannel().interceptors(embeddedBrokerRelay.getObject());
+            }
+            case SIMPLE -> enableSimpleBroker(config);
+        }
         config.setApplicationDestinationPrefixes("/app");
         config.setUserDestinationPrefix("/user");
     }
@@ -51,12 +110,80 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      * Configures the client inbound channel with authentication interceptor.
      * Adds security to WebSocket connections by intercepting and validating
      * incoming messages.
+     * Messages from clients are processed on a bounded pool configured with websocket.inbound-channel.*.
+     * When virtual threads are enabled (spring.threads.virtual.enabled on Java 21 or later), each message
+     * is processed on its own virtual thread instead, with at most max-pool-size + queue-capacity
+     * messages in flight; further senders wait for a slot.
      *
      * @param registration the ChannelRegistration to configure
      */
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(webSocketAuthInterceptor);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            var settings = properties.getInboundChannel();
+            var executor = new SimpleAsyncTaskExecutor("clientInboundChannel-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(settings.getMaxPoolSize() + settings.getQueueCapacity());
+            registration.executor(executor);
+            registration.interceptors(webSocketAuthInterceptor);
+            return;
+        }
+        var executor = channelExecutor("clientInboundChannel-", properties.getInboundChannel());
+        var monitor = channelMetrics.monitor("clientInboundChannel", executor,
+                properties.getInboundChannel().getQueueCapacity());
+        executor.setRejectedExecutionHandler(monitor);
+        registration.executor(executor);
+        registration.interceptors(webSocketAuthInterceptor, monitor);
+    }
+
+    /**
+     * Configures the client outbound channel, which delivers broker messages to the WebSocket sessions.
+     * Messages are processed on a bounded pool configured with websocket.outbound-channel.*, so a burst
+     * of chat fan-out slows down the publishers instead of queueing without limit.
+     *
+     * @param registration the ChannelRegistration to configure
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        var executor = channelExecutor("clientOutboundChannel-", properties.getOutboundChannel());
+        var monitor = channelMetrics.monitor("clientOutboundChannel", executor,
+                properties.getOutboundChannel().getQueueCapacity());
+        executor.setRejectedExecutionHandler(monitor);
+        registration.executor(executor);
+        registration.interceptors(monitor);
+    }
+
+    /**
+     * Applies the per-session limits from websocket.transport.*.
+     * Sessions that fall behind by more than the send time or buffer size limit are closed.
+     *
+     * @param registration the WebSocketTransportRegistration to configure
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        var transport = properties.getTransport();
+        registration.setSendTimeLimit((int) transport.getSendTimeLimit().toMillis())
+                .setSendBufferSizeLimit((int) transport.getSendBufferSizeLimit().toBytes())
+                .setMessageSizeLimit((int) transport.getMessageSizeLimit().toBytes());
     }
 
+    private void enableSimpleBroker(MessageBrokerRegistry config) {
+        var simpleBroker = config.enableSimpleBroker(BROKER_DESTINATION_PREFIXES);
+        var heartbeat = properties.getBroker().getHeartbeatInterval().toMillis();
+        if (heartbeat > 0) {
+            simpleBroker.setHeartbeatValue(new long[]{heartbeat, heartbeat})
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+        }
+    }
+
+    private ThreadPoolTaskExecutor channelExecutor(String threadNamePrefix, WebSocketProperties.Channel settings) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(settings.getCorePoolSize());
+        executor.setMaxPoolSize(Math.max(settings.getCorePoolSize(), settings.getMaxPoolSize()));
+        executor.setQueueCapacity(settings.getQueueCapacity());
+        executor.setKeepAliveSeconds((int) settings.getKeepAlive().toSeconds());
+        executor.setAllowCoreThreadTimeOut(true);
+        return executor;
+    }
 }
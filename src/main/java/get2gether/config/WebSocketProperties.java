@@ -0,0 +1,85 @@
+package get2gether.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * WebSocket messaging settings, bound from the websocket.* properties.
+ * Covers the broker behind the /queue and /topic destinations, the thread pools and queues
+ * of the STOMP inbound and outbound channels, and the per-session transport limits.
+ */
+@Data
+@ConfigurationProperties(prefix = "websocket")
+public class WebSocketProperties {
+
+    private final Broker broker = new Broker();
+    private final Channel inboundChannel = new Channel();
+    private final Channel outboundChannel = new Channel();
+    private final Transport transport = new Transport();
+
+    /**
+     * Message broker used for the /queue and /topic destinations.
+     */
+    public enum BrokerMode {
+        /** In-memory broker; subscriptions only reach clients connected to the same instance. */
+        SIMPLE,
+        /** STOMP relay to an external broker shared by all instances. */
+        RELAY,
+        /** In-memory broker on each node, with messages shared between nodes in the same JVM. */
+        EMBEDDED
+    }
+
+    @Data
+    public static class Broker {
+        private BrokerMode mode = BrokerMode.SIMPLE;
+        /** Server and client heartbeat interval of the in-memory broker; zero disables heartbeats. */
+        private Duration heartbeatInterval = Duration.ofSeconds(10);
+        private final Relay relay = new Relay();
+        private final Embedded embedded = new Embedded();
+    }
+
+    @Data
+    public static class Relay {
+        private String host = "localhost";
+        private int port = 61613;
+        private String clientLogin = "guest";
+        private String clientPasscode = "guest";
+        private String systemLogin = "guest";
+        private String systemPasscode = "guest";
+        private String virtualHost;
+    }
+
+    @Data
+    public static class Embedded {
+        /** Contexts using the same name share messages. */
+        private String name = "get2gether";
+    }
+
+    /**
+     * Thread pool of a STOMP channel. Once the queue is full, extra threads are started up to
+     * maxPoolSize; after that the sending thread processes the message itself, which slows
+     * producers down instead of letting the queue grow without bound.
+     */
+    @Data
+    public static class Channel {
+        private int corePoolSize = Runtime.getRuntime().availableProcessors() * 2;
+        private int maxPoolSize = Runtime.getRuntime().availableProcessors() * 4;
+        private int queueCapacity = 1000;
+        private Duration keepAlive = Duration.ofSeconds(60);
+    }
+
+    /**
+     * Limits applied to each WebSocket session. A session that cannot take its outbound messages
+     * within sendTimeLimit, or buffers more than sendBufferSizeLimit, is closed so that slow
+     * clients do not hold up delivery to everyone else.
+     */
+    @Data
+    public static class Transport {
+        private Duration sendTimeLimit = Duration.ofSeconds(10);
+        private DataSize sendBufferSizeLimit = DataSize.ofKilobytes(512);
+        private DataSize messageSizeLimit = DataSize.ofKilobytes(64);
+    }
+}
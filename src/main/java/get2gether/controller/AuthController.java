@@ -2,11 +2,13 @@ package get2gether.controller;
 
 import get2gether.dto.AuthRequestDto;
 import get2gether.dto.AuthResponseDto;
+import get2gether.dto.RefreshRequestDto;
 import get2gether.dto.RegisterRequestDto;
 import get2gether.service.AuthService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
  * Manages the authentication lifecycle including:
  * - User login with JWT token generation
  * - New user registration with account creation
+ * - Token refresh with refresh token rotation, and sign-out on all devices
  * - Secure password handling and validation
  */
 @RestController
@@ -33,9 +36,8 @@ public class AuthController {
      */
     @PostMapping("/login")
     public ResponseEntity<AuthResponseDto> createAuthenticationToken(@RequestBody AuthRequestDto authRequest) {
-        String jwt = authService.authenticateAndGenerateToken(
-                authRequest.getUsername(), authRequest.getPassword());
-        return ResponseEntity.ok(new AuthResponseDto(jwt));
+        return ResponseEntity.ok(authService.authenticateAndGenerateToken(
+                authRequest.getUsername(), authRequest.getPassword()));
     }
 
     /**
@@ -47,8 +49,31 @@ public class AuthController {
      */
     @PostMapping("/register")
     public ResponseEntity<AuthResponseDto> registerUser(@RequestBody RegisterRequestDto request) {
-        String jwt = authService.registerAndGenerateToken(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(new AuthResponseDto(jwt));
+        return ResponseEntity.status(HttpStatus.CREATED).body(authService.registerAndGenerateToken(request));
+    }
+
+    /**
+     * Exchanges a refresh token for a new JWT token and a new refresh token, without checking the password again.
+     * Each refresh token can be used once.
+     *
+     * @param request the refresh request containing the refresh token
+     * @return ResponseEntity containing the new JWT and refresh tokens
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponseDto> refreshToken(@RequestBody RefreshRequestDto request) {
+        return ResponseEntity.ok(authService.refreshTokens(request.getRefreshToken()));
+    }
+
+    /**
+     * Signs the current user out on all devices by revoking all their refresh tokens.
+     *
+     * @param authentication the current user's authentication
+     * @return ResponseEntity with status NO_CONTENT
+     */
+    @PostMapping("/revoke")
+    public ResponseEntity<Void> revokeAllTokens(Authentication authentication) {
+        authService.revokeAllTokens(authentication.getName());
+        return ResponseEntity.noContent().build();
     }
 
 }
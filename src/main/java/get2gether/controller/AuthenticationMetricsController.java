@@ -0,0 +1,31 @@
+package get2gether.controller;
+
+import get2gether.dto.UserDetailsCacheStatsDto;
+import get2gether.security.UserDetailsCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller exposing operational statistics of request authentication.
+ * Restricted to administrators.
+ */
+@RestController
+@RequestMapping("/admin/auth")
+@RequiredArgsConstructor
+public class AuthenticationMetricsController {
+
+    private final UserDetailsCache userDetailsCache;
+
+    /**
+     * Retrieves the size, hit, miss and eviction statistics of the user details cache.
+     *
+     * @return ResponseEntity containing the cache statistics
+     */
+    @GetMapping("/user-details-cache")
+    public ResponseEntity<UserDetailsCacheStatsDto> getUserDetailsCacheStats() {
+        return ResponseEntity.ok(userDetailsCache.getStats());
+    }
+}
@@ -1,15 +1,19 @@
 package get2gether.controller;
 
 import get2gether.dto.EventDto;
+import get2gether.dto.EventPageDto;
 import get2gether.dto.EventStatusDto;
 import get2gether.service.EventService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 /**
  * Controller responsible for managing event-related operations.
  * Provides REST endpoints for event lifecycle management, including:
@@ -27,6 +31,30 @@ public class EventController {
 
     private final EventService eventService;
 
+    /**
+     * Retrieves the events in a date range across all groups of the current user, ordered by date.
+     * Pass the returned nextCursor as the after parameter to load the next page.
+     *
+     * @param authentication The authentication object containing the current user's details
+     * @param from The first day of the range, inclusive
+     * @param to The last day of the range, inclusive
+     * @param after The cursor returned with the previous page; omit for the first page
+     * @param limit The maximum number of events to return
+     * @param members Whether to include the going members of each event or only their count
+     * @return ResponseEntity containing the page of events and the cursor for the next page
+     */
+    @GetMapping
+    public ResponseEntity<EventPageDto> getCalendarEvents(
+            Authentication authentication,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate to,
+            @RequestParam(required = false) final String after,
+            @RequestParam(defaultValue = "" + EventService.DEFAULT_PAGE_SIZE) final int limit,
+            @RequestParam(defaultValue = "true") final boolean members) {
+        var username = authentication.getName();
+        return ResponseEntity.ok(eventService.getCalendarEvents(username, from, to, after, limit, members));
+    }
+
     /**
      * Creates a new event.
      * This endpoint allows authenticated users to create events within their groups.
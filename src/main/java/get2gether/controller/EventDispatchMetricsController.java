@@ -0,0 +1,31 @@
+package get2gether.controller;
+
+import get2gether.dto.EventDispatchStatsDto;
+import get2gether.event.EventDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller exposing operational statistics of the application event dispatch.
+ * Restricted to administrators.
+ */
+@RestController
+@RequestMapping("/admin/events")
+@RequiredArgsConstructor
+public class EventDispatchMetricsController {
+
+    private final EventDispatcher eventDispatcher;
+
+    /**
+     * Retrieves the queue, retry and lag statistics of the event dispatch.
+     *
+     * @return ResponseEntity containing the dispatch statistics
+     */
+    @GetMapping("/dispatch")
+    public ResponseEntity<EventDispatchStatsDto> getDispatchStats() {
+        return ResponseEntity.ok(eventDispatcher.getStats());
+    }
+}
@@ -1,15 +1,22 @@
 package get2gether.controller;
 
+import get2gether.dto.AvailableDayDto;
 import get2gether.dto.EventDto;
+import get2gether.dto.EventPageDto;
 import get2gether.dto.GroupDto;
+import get2gether.dto.MessagePageDto;
 import get2gether.dto.UserDto;
+import get2gether.service.EventService;
 import get2gether.service.GroupService;
+import get2gether.service.MessageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -21,6 +28,7 @@ import java.util.Set;
  * - Group deletion and cleanup
  * - Member management (adding, removing, leaving)
  * - Event coordination within groups
+ * - Paginated chat history
  * Handles authentication and authorization for group operations.
  */
 @RestController
@@ -29,6 +37,8 @@ import java.util.Set;
 public class GroupController {
 
     private final GroupService groupService;
+    private final MessageService messageService;
+    private final EventService eventService;
 
     /**
      * Retrieves a group by its unique identifier.
@@ -45,11 +55,69 @@ public class GroupController {
      * Retrieves all events associated with a specific group.
      *
      * @param groupId the unique identifier of the group
+     * @param members whether to include the going members of each event or only their count
      * @return ResponseEntity containing a list of events in the group
      */
     @GetMapping("/{groupId}/events")
-    public ResponseEntity<List<EventDto>> getAllGroupEvents(@PathVariable final Long groupId) {
-        return ResponseEntity.ok(groupService.getAllGroupEvents(groupId));
+    public ResponseEntity<List<EventDto>> getAllGroupEvents(@PathVariable final Long groupId,
+                                                            @RequestParam(defaultValue = "true") final boolean members) {
+        return ResponseEntity.ok(groupService.getAllGroupEvents(groupId, members));
+    }
+
+    /**
+     * Retrieves one page of a group's archived events, newest first.
+     *
+     * @param groupId the unique identifier of the group
+     * @param before The cursor returned with the previous page; omit it for the first page
+     * @param limit The maximum number of events to return
+     * @return ResponseEntity containing the page of archived events and the cursor for the next page
+     */
+    @GetMapping("/{groupId}/events/archived")
+    public ResponseEntity<EventPageDto> getArchivedEvents(
+            @PathVariable final Long groupId,
+            @RequestParam(required = false) final String before,
+            @RequestParam(defaultValue = "" + EventService.DEFAULT_PAGE_SIZE) final int limit) {
+        return ResponseEntity.ok(eventService.getArchivedEvents(groupId, before, limit));
+    }
+
+    /**
+     * Retrieves one page of a group's chat history, ordered oldest first.
+     * Pass the returned nextCursor as the before parameter to load older messages.
+     *
+     * @param groupId        the unique identifier of the group
+     * @param before         the message id to page backwards from; omit for the latest messages
+     * @param limit          the maximum number of messages to return
+     * @param authentication the authentication object containing the current user's details
+     * @return ResponseEntity containing the page of messages and the cursor for older messages
+     */
+    @GetMapping("/{groupId}/messages")
+    public ResponseEntity<MessagePageDto> getGroupMessages(@PathVariable final Long groupId,
+                                                           @RequestParam(required = false) final Long before,
+                                                           @RequestParam(defaultValue = "" + MessageService.DEFAULT_PAGE_SIZE) final int limit,
+                                                           Authentication authentication) {
+        var username = authentication.getName();
+        return ResponseEntity.ok(messageService.getGroupMessages(groupId, before, limit, username));
+    }
+
+    /**
+     * Retrieves the days in a date range on which the most group members are available.
+     * The range defaults to the next 30 days starting today.
+     *
+     * @param groupId the unique identifier of the group
+     * @param from    the first day of the range, inclusive
+     * @param to      the last day of the range, inclusive
+     * @param k       the maximum number of days to return
+     * @return ResponseEntity containing the best days, ordered by available members descending
+     */
+    @GetMapping("/{groupId}/availability/top")
+    public ResponseEntity<List<AvailableDayDto>> getTopAvailableDays(
+            @PathVariable final Long groupId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate to,
+            @RequestParam(defaultValue = "" + GroupService.DEFAULT_TOP_DAYS) final int k) {
+        var rangeStart = from != null ? from : LocalDate.now();
+        var rangeEnd = to != null ? to : rangeStart.plusDays(29);
+        return ResponseEntity.ok(groupService.getTopAvailableDays(groupId, rangeStart, rangeEnd, k));
     }
 
     /**
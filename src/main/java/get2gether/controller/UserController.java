@@ -1,6 +1,10 @@
 package get2gether.controller;
 
+import get2gether.dto.AvailabilityDeltaDto;
 import get2gether.dto.UserDto;
+import get2gether.dto.UserPageDto;
+import get2gether.enums.UserSection;
+import get2gether.service.UserSearchIndex;
 import get2gether.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -11,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Controller responsible for managing user-related operations.
@@ -27,17 +32,25 @@ import java.util.Set;
 public class UserController {
 
     private final UserService userService;
+    private final UserSearchIndex userSearchIndex;
 
     /**
      * Retrieves the profile information of the currently authenticated user.
+     * Clients can limit the response to the sections they render, e.g. {@code ?include=groups,events};
+     * without the parameter all sections are returned.
      *
      * @param authentication the authentication object containing the current user's details
+     * @param include the sections to include: availability, groups, invites and/or events
      * @return ResponseEntity containing the current user's profile information
      */
     @GetMapping
-    public ResponseEntity<UserDto> getCurrentUser(Authentication authentication) {
+    public ResponseEntity<UserDto> getCurrentUser(Authentication authentication,
+                                                  @RequestParam(required = false) Set<String> include) {
         var username = authentication.getName();
-        var currentUser = userService.getUserByUsername(username);
+        var sections = include == null ? Set.<UserSection>of() : include.stream()
+                .map(UserSection::fromParameter)
+                .collect(Collectors.toSet());
+        var currentUser = userService.getUserProfile(username, sections);
         return ResponseEntity.ok(currentUser);
     }
 
@@ -84,6 +97,22 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.OK).body(updatedDates);
     }
 
+    /**
+     * Adds and removes individual available days of the currently authenticated user,
+     * leaving their other days unchanged. Group members are notified of the change on
+     * {@code /topic/group/{groupId}/availability}.
+     *
+     * @param authentication the authentication object containing the current user's details
+     * @param delta the days to add and the days to remove
+     * @return ResponseEntity containing the days that were actually added and removed
+     */
+    @PatchMapping("/availability")
+    public ResponseEntity<AvailabilityDeltaDto> updateAvailableDays(Authentication authentication,
+                                                                    @RequestBody final AvailabilityDeltaDto delta) {
+        var userName = authentication.getName();
+        return ResponseEntity.ok(userService.updateAvailableDays(userName, delta));
+    }
+
     /**
      * Retrieves the available days for the currently authenticated user.
      *
@@ -98,14 +127,33 @@ public class UserController {
     }
 
     /**
-     * Retrieves a list of all users in the system.
-     * This endpoint is typically restricted to administrators.
+     * Retrieves one page of the user directory, ordered by username.
+     * Pass the returned nextCursor as the after parameter to load the next page.
      *
-     * @return ResponseEntity containing a list of all user profiles
+     * @param q     the prefix of the username, first name or last name to search for; omit to list all users
+     * @param after the username to continue after; omit for the first page
+     * @param limit the maximum number of users to return
+     * @return ResponseEntity containing the page of users and the cursor for the next page
      */
     @GetMapping("/all")
-    public ResponseEntity<List<UserDto>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<UserPageDto> getUserDirectory(@RequestParam(required = false) final String q,
+                                                        @RequestParam(required = false) final String after,
+                                                        @RequestParam(defaultValue = "" + UserService.DEFAULT_PAGE_SIZE) final int limit) {
+        return ResponseEntity.ok(userService.getUserDirectory(q, after, limit));
+    }
+
+    /**
+     * Suggests users whose username, full name or last name starts with the typed text.
+     * Served from an in-memory index, so it can be called on every keystroke of the invite dialog.
+     *
+     * @param q     the text typed so far
+     * @param limit the maximum number of suggestions to return
+     * @return ResponseEntity containing the matching users, empty if q is blank
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<UserDto>> autocompleteUsers(@RequestParam(defaultValue = "") final String q,
+                                                           @RequestParam(defaultValue = "" + UserSearchIndex.DEFAULT_LIMIT) final int limit) {
+        return ResponseEntity.ok(userSearchIndex.search(q, limit));
     }
 
 }
@@ -0,0 +1,33 @@
+package get2gether.controller;
+
+import get2gether.config.WebSocketChannelMetrics;
+import get2gether.dto.ChannelStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller exposing operational statistics of the WebSocket messaging infrastructure.
+ * Restricted to administrators.
+ */
+@RestController
+@RequestMapping("/admin/websocket")
+@RequiredArgsConstructor
+public class WebSocketMetricsController {
+
+    private final WebSocketChannelMetrics channelMetrics;
+
+    /**
+     * Retrieves the queue depth statistics of the STOMP inbound and outbound channels.
+     *
+     * @return ResponseEntity containing the statistics of each channel
+     */
+    @GetMapping("/channels")
+    public ResponseEntity<List<ChannelStatsDto>> getChannelStats() {
+        return ResponseEntity.ok(channelMetrics.getChannelStats());
+    }
+}
@@ -7,7 +7,7 @@ import lombok.NoArgsConstructor;
 
 /**
  * Data transfer object for authentication responses.
- * Contains JWT token for authenticated sessions.
+ * Contains the JWT token for authenticated sessions and the refresh token to obtain a new one when it expires.
  */
 @Data
 @AllArgsConstructor
@@ -16,4 +16,7 @@ public class AuthResponseDto {
 
     @JsonProperty("jwt")
     private String jwt;
+
+    @JsonProperty("refreshToken")
+    private String refreshToken;
 }
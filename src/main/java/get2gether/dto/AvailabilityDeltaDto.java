@@ -0,0 +1,24 @@
+package get2gether.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Data transfer object for a change of a user's availability.
+ * In requests it holds the dates to add and remove; in responses and group notifications
+ * it holds the dates that were actually added and removed, together with the user's username.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AvailabilityDeltaDto {
+    private String username;
+    private Set<LocalDate> added;
+    private Set<LocalDate> removed;
+}
@@ -0,0 +1,21 @@
+package get2gether.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Data transfer object for a date ranked by group availability.
+ * Contains the date and the number of group members available on it.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AvailableDayDto {
+    private LocalDate date;
+    private Long availableMembers;
+}
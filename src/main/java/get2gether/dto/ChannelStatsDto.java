@@ -0,0 +1,25 @@
+package get2gether.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object for the queue statistics of a STOMP channel executor.
+ * Contains the current and peak number of queued tasks, the pool usage and
+ * how many tasks were run by the sending thread because the queue was full.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ChannelStatsDto {
+    private String channel;
+    private int queueDepth;
+    private int peakQueueDepth;
+    private int queueCapacity;
+    private int activeThreads;
+    private int poolSize;
+    private long callerRuns;
+}
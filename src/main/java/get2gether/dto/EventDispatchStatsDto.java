@@ -0,0 +1,29 @@
+package get2gether.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object for the statistics of asynchronous application event dispatch.
+ * Contains the number of pending events and its peak, the number of processed, retried, failed and
+ * overflowed events, and the lag
+ * between a transaction commit and the processing of its events.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EventDispatchStatsDto {
+    private String mode;
+    private int pending;
+    private long maxPending;
+    private long processed;
+    private long retries;
+    private long failed;
+    private long overflowed;
+    private long lastLagMillis;
+    private long maxLagMillis;
+    private double averageLagMillis;
+}
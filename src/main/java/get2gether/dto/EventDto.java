@@ -13,6 +13,7 @@ import java.util.Set;
 /**
  * Data transfer object for event information.
  * Contains event details, host information, and related entities (participants).
+ * List views may omit goingMembers and only fill in attendeeCount.
  */
 @Data
 @AllArgsConstructor
@@ -28,4 +29,5 @@ public class EventDto {
     private String description;
     private String groupName;
     private Set<UserDto> goingMembers;
+    private Integer attendeeCount;
 }
@@ -0,0 +1,22 @@
+package get2gether.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data transfer object for a page of calendar events.
+ * Events are ordered by date and id; nextCursor is the "date:id" of the last event to pass as "after"
+ * to load the next page, or null when there are no more events in the range.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EventPageDto {
+    private List<EventDto> events;
+    private String nextCursor;
+}
@@ -0,0 +1,22 @@
+package get2gether.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data transfer object for a page of group chat history.
+ * Messages are ordered oldest first; nextCursor is the id to pass as "before"
+ * to load older messages, or null when the beginning of the chat is reached.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MessagePageDto {
+    private List<MessageDto> messages;
+    private Long nextCursor;
+}
@@ -0,0 +1,18 @@
+package get2gether.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object for token refresh requests.
+ * Contains the refresh token issued at login, registration or the previous refresh.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RefreshRequestDto {
+    private String refreshToken;
+}
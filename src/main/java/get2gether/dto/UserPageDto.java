@@ -0,0 +1,22 @@
+package get2gether.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data transfer object for a page of the user directory.
+ * Users are ordered by username; nextCursor is the username to pass as "after"
+ * to load the next page, or null when there are no more matching users.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserPageDto {
+    private List<UserDto> users;
+    private String nextCursor;
+}
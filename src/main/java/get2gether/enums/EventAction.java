@@ -2,6 +2,5 @@ package get2gether.enums;
 
 public enum EventAction {
     CREATED,
-    DELETED,
-    ATTENDANCE_CHANGED
+    DELETED
 } 
\ No newline at end of file
@@ -0,0 +1,28 @@
+package get2gether.enums;
+
+import java.util.Locale;
+
+/**
+ * Optional sections of the current user's profile returned by GET /user.
+ */
+public enum UserSection {
+    AVAILABILITY,
+    GROUPS,
+    INVITES,
+    EVENTS;
+
+    /**
+     * Parses a section name as given in the {@code include} request parameter, ignoring case.
+     *
+     * @param name the section name, e.g. "groups"
+     * @return the matching section
+     * @throws IllegalArgumentException if no section has the given name
+     */
+    public static UserSection fromParameter(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown user section: " + name);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package get2gether.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Event that is published when dates are added to or removed from a user's availability.
+ * Carries only the changed dates, so listeners can update group availability incrementally.
+ */
+@Getter
+public class AvailabilityChangedEvent extends ApplicationEvent {
+
+    private final Long userId;
+    private final String username;
+    private final Set<LocalDate> added;
+    private final Set<LocalDate> removed;
+
+    public AvailabilityChangedEvent(Object source, Long userId, String username,
+                                    Set<LocalDate> added, Set<LocalDate> removed) {
+        super(source);
+        this.userId = userId;
+        this.username = username;
+        this.added = added;
+        this.removed = removed;
+    }
+}
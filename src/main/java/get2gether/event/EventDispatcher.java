@@ -0,0 +1,235 @@
+package get2gether.event;
+
+import get2gether.config.EventDispatchProperties;
+import get2gether.dto.EventDispatchStatsDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers application events to their listeners, either synchronously or asynchronously
+ * depending on events.dispatch.mode.
+ * In sync mode (default) events are published immediately in the caller's thread and transaction.
+ * In async mode an event is queued only once the publishing transaction commits, so listeners
+ * never see uncommitted data and rolled back changes are never announced. Queued events are
+ * processed by a bounded set of workers:
+ * - events with the same ordering key (normally the group) are processed one at a time, in commit order
+ * - a failing event is retried with exponential backoff before it is given up on
+ * - publishers never wait: the event is queued behind the events of its key however long the backlog is;
+ *   events queued while more than events.dispatch.backlog-threshold are waiting are counted as overflowed,
+ *   and the backlog and its peak are reported in the statistics
+ * Listeners run in their own transaction on the worker, so they must reload the entities they need.
+ * They never run in the publishing thread: it is still inside the committed transaction's afterCommit
+ * callback, where a transactional listener would join that transaction and its writes would be lost.
+ */
+@Component
+@EnableConfigurationProperties(EventDispatchProperties.class)
+@Slf4j
+public class EventDispatcher implements DisposableBean {
+
+    private final ApplicationEventPublisher publisher;
+    private final EventDispatchProperties properties;
+    private final TaskExecutor executor;
+    private final Map<String, OrderedQueue> queues = new HashMap<>();
+
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong maxPending = new AtomicLong();
+    private final AtomicLong overflowed = new AtomicLong();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+    private final AtomicLong totalLagMillis = new AtomicLong();
+
+    public EventDispatcher(ApplicationEventPublisher publisher, EventDispatchProperties properties, Environment environment) {
+        this.publisher = publisher;
+        this.properties = properties;
+        this.executor = properties.getMode() == EventDispatchProperties.Mode.ASYNC
+                ? createExecutor(Threading.VIRTUAL.isActive(environment))
+                : null;
+    }
+
+    /**
+     * Delivers an event to its listeners according to the dispatch mode.
+     *
+     * @param orderingKey events with the same key are processed in order in async mode
+     * @param event the event to deliver
+     */
+    public void dispatch(String orderingKey, ApplicationEvent event) {
+        if (executor == null) {
+            publisher.publishEvent(event);
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(orderingKey, event);
+                }
+            });
+        } else {
+            enqueue(orderingKey, event);
+        }
+    }
+
+    /**
+     * Returns the current dispatch statistics.
+     *
+     * @return EventDispatchStatsDto with counters and commit-to-processing lag
+     */
+    public EventDispatchStatsDto getStats() {
+        var processedCount = processed.get() + failed.get();
+        return EventDispatchStatsDto.builder()
+                .mode(properties.getMode().name())
+                .pending((int) pending.get())
+                .maxPending(maxPending.get())
+                .processed(processed.get())
+                .retries(retries.get())
+                .failed(failed.get())
+                .overflowed(overflowed.get())
+                .lastLagMillis(lastLagMillis.get())
+                .maxLagMillis(maxLagMillis.get())
+                .averageLagMillis(processedCount == 0 ? 0 : (double) totalLagMillis.get() / processedCount)
+                .build();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (executor instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (executor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void enqueue(String orderingKey, ApplicationEvent event) {
+        var backlog = pending.incrementAndGet();
+        maxPending.accumulateAndGet(backlog, Math::max);
+        if (backlog > properties.getBacklogThreshold()) {
+            overflowed.incrementAndGet();
+            if (backlog == properties.getBacklogThreshold() + 1) {
+                log.warn("[EventDispatcher]: more than {} events are waiting, dispatch is falling behind",
+                        properties.getBacklogThreshold());
+            }
+        }
+        var next = new PendingEvent(event, System.nanoTime());
+        OrderedQueue queue;
+        synchronized (queues) {
+            queue = queues.get(orderingKey);
+            if (queue != null) {
+                queue.events.add(next);
+                return;
+            }
+            queue = new OrderedQueue(orderingKey);
+            queue.events.add(next);
+            queues.put(orderingKey, queue);
+        }
+        executor.execute(queue);
+    }
+
+    private void process(PendingEvent pending) {
+        var lag = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pending.enqueuedAt());
+        lastLagMillis.set(lag);
+        maxLagMillis.accumulateAndGet(lag, Math::max);
+        totalLagMillis.addAndGet(lag);
+
+        var eventName = pending.event().getClass().getSimpleName();
+        var backoff = properties.getRetryBackoff().toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                publisher.publishEvent(pending.event());
+                processed.incrementAndGet();
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    failed.incrementAndGet();
+                    log.error("[EventDispatcher]: giving up on {} after {} attempts", eventName, attempt, e);
+                    return;
+                }
+                retries.incrementAndGet();
+                log.warn("[EventDispatcher]: attempt {} of {} failed, retrying in {} ms: {}",
+                        attempt, eventName, backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    failed.incrementAndGet();
+                    return;
+                }
+                backoff *= 2;
+            }
+        }
+    }
+
+    private TaskExecutor createExecutor(boolean virtualThreads) {
+        if (virtualThreads) {
+            var executor = new SimpleAsyncTaskExecutor("eventDispatch-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(properties.getWorkers());
+            executor.setTaskTerminationTimeout(10_000);
+            return executor;
+        }
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("eventDispatch-");
+        executor.setCorePoolSize(properties.getWorkers());
+        executor.setMaxPoolSize(properties.getWorkers());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    private record PendingEvent(ApplicationEvent event, long enqueuedAt) {
+    }
+
+    /**
+     * Events of one ordering key. At most one worker processes a queue at a time; after each event
+     * the queue goes back to the end of the executor's queue so that busy keys do not starve others.
+     */
+    private final class OrderedQueue implements Runnable {
+        private final String orderingKey;
+        private final Deque<PendingEvent> events = new ArrayDeque<>();
+
+        private OrderedQueue(String orderingKey) {
+            this.orderingKey = orderingKey;
+        }
+
+        @Override
+        public void run() {
+            PendingEvent next;
+            synchronized (queues) {
+                next = events.poll();
+            }
+            try {
+                process(next);
+            } finally {
+                pending.decrementAndGet();
+            }
+            synchronized (queues) {
+                if (events.isEmpty()) {
+                    queues.remove(orderingKey);
+                    return;
+                }
+            }
+            executor.execute(this);
+        }
+    }
+}
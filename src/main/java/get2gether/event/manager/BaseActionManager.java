@@ -18,5 +18,9 @@ public abstract class BaseActionManager {
     protected void notifyGroup(Long groupId, String message) {
         messagingTemplate.convertAndSend("/topic/group/" + groupId, message);
     }
+
+    protected void notifyGroup(Long groupId, String subDestination, Object message) {
+        messagingTemplate.convertAndSend("/topic/group/" + groupId + subDestination, message);
+    }
 }
 
@@ -2,7 +2,8 @@ package get2gether.event.manager;
 
 import get2gether.enums.Type;
 import get2gether.event.EventActionEvent;
-import get2gether.repository.UserRepository;
+import get2gether.repository.EventRepository;
+import get2gether.repository.GroupRepository;
 import get2gether.service.InviteService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -10,16 +11,21 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Slf4j
 @Service
 public class EventActionManager extends BaseActionManager {
-    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final GroupRepository groupRepository;
 
     public EventActionManager(SimpMessagingTemplate messagingTemplate,
                               InviteService inviteService,
-                              UserRepository userRepository) {
+                              EventRepository eventRepository,
+                              GroupRepository groupRepository) {
         super(messagingTemplate, inviteService);
-        this.userRepository = userRepository;
+        this.eventRepository = eventRepository;
+        this.groupRepository = groupRepository;
     }
 
     @EventListener
@@ -31,40 +37,35 @@ public class EventActionManager extends BaseActionManager {
         switch (event.getAction()) {
             case CREATED -> handleEventCreation(event);
             case DELETED -> handleEventDeletion(event);
-            case ATTENDANCE_CHANGED -> handleAttendanceChange(event);
         }
     }
 
+    // The event carries entities of the publishing transaction; they are reloaded by id so that
+    // the handlers also work when the event is dispatched after that transaction has ended.
     private void handleEventCreation(EventActionEvent event) {
-        var members = event.getEvent().getGroup().getMembers();
-        var createdEvent = event.getEvent();
+        var createdEvent = eventRepository.findById(event.getEvent().getId()).orElse(null);
+        if (createdEvent == null) {
+            log.info("[EventActionManager] Event {} no longer exists, no invites sent", event.getEvent().getId());
+            return;
+        }
+        var members = createdEvent.getGroup().getMembers();
 
         log.info("[EventActionManager] Processing {} members for event", members.size());
-        members.stream()
+        var receivers = members.stream()
                 .filter(user -> !user.getUsername().equalsIgnoreCase(createdEvent.getHostUsername()))
-                .forEach(user -> {
-                    var inviteDto = inviteService.createEventInvite(createdEvent, user);
-                    notifyUser(user.getUsername(), "/queue/invites", inviteDto);
-                });
+                .toList();
+        inviteService.createEventInvites(createdEvent, receivers).forEach(inviteDto ->
+                notifyUser(inviteDto.getReceiverUsernames().iterator().next(), "/queue/invites", inviteDto));
     }
 
     private void handleEventDeletion(EventActionEvent event) {
-        var eventInvites = inviteService.getInvitesByTypeAndTypeId(Type.EVENT, event.getEvent().getId());
-        inviteService.deleteInvite(eventInvites);
+        inviteService.deleteInvites(Type.EVENT, List.of(event.getEvent().getId()));
         log.info("[EventActionManager]: invites deleted for event id {}", event.getEvent().getId());
 
-        event.getEvent().getGroup().getMembers().forEach(member ->
-                notifyUser(member.getUsername(), "/queue/event-deleted", String.valueOf(event.getEvent().getGroup().getId()))
-        );
-    }
-
-    private void handleAttendanceChange(EventActionEvent event) {
-        if (event.getIsGoing()) {
-            var user = event.getUser();
-            user.getAvailableDays().remove(event.getEventDate());
-            userRepository.save(user); // still allowed here
-            log.info("[EventActionManager] Available days updated. Date removed: {}", event.getEventDate());
-        }
+        var groupId = event.getEvent().getGroup().getId();
+        groupRepository.findById(groupId).ifPresent(group -> group.getMembers().forEach(member ->
+                notifyUser(member.getUsername(), "/queue/event-deleted", String.valueOf(groupId))
+        ));
     }
 }
 
@@ -1,9 +1,15 @@
 package get2gether.event.manager;
 
+import get2gether.dto.AvailabilityDeltaDto;
 import get2gether.enums.Type;
+import get2gether.event.AvailabilityChangedEvent;
 import get2gether.event.GroupActionEvent;
+import get2gether.model.Event;
 import get2gether.model.Group;
 import get2gether.model.User;
+import get2gether.repository.GroupRepository;
+import get2gether.repository.UserRepository;
+import get2gether.service.GroupAvailabilityIndex;
 import get2gether.service.InviteService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -11,23 +17,33 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class GroupActionManager extends BaseActionManager {
+    private final GroupRepository groupRepository;
+    private final UserRepository userRepository;
+    private final GroupAvailabilityIndex groupAvailabilityIndex;
 
     public GroupActionManager(SimpMessagingTemplate messagingTemplate,
-                              InviteService inviteService) {
+                              InviteService inviteService,
+                              GroupRepository groupRepository,
+                              UserRepository userRepository,
+                              GroupAvailabilityIndex groupAvailabilityIndex) {
         super(messagingTemplate, inviteService);
+        this.groupRepository = groupRepository;
+        this.userRepository = userRepository;
+        this.groupAvailabilityIndex = groupAvailabilityIndex;
     }
 
     @EventListener
     @Transactional
     public void handleGroupAction(GroupActionEvent event) {
         log.info("[GroupActionManager] Handling group action: {} for group: {}",
-                event.getAction(), event.getGroup().getName());
+                event.getAction(), event.getGroup() != null ? event.getGroup().getName() : null);
 
         switch (event.getAction()) {
             case CREATED -> handleGroupCreation(event);
@@ -37,14 +53,36 @@ public class GroupActionManager extends BaseActionManager {
         }
     }
 
+    @EventListener
+    @Transactional
+    public void handleAvailabilityChanged(AvailabilityChangedEvent event) {
+        log.info("[GroupActionManager] Handling availability change of user: {}", event.getUsername());
+        groupAvailabilityIndex.updateAvailability(event.getUserId(), event.getAdded(), event.getRemoved());
+
+        var delta = AvailabilityDeltaDto.builder()
+                .username(event.getUsername())
+                .added(event.getAdded())
+                .removed(event.getRemoved())
+                .build();
+        groupRepository.findGroupIdsByMemberUsername(event.getUsername())
+                .forEach(groupId -> notifyGroup(groupId, "/availability", delta));
+    }
+
+    // The event carries entities of the publishing transaction; they are reloaded by id so that
+    // the handlers also work when the event is dispatched after that transaction has ended.
     private void handleGroupCreation(GroupActionEvent event) {
         if (event.getInvitedUsernames() == null || event.getInvitedUsernames().isEmpty()) {
             log.info("No users were invited on group {} creation", event.getGroup().getName());
             return;
         }
+        var group = groupRepository.findById(event.getGroup().getId()).orElse(null);
+        if (group == null) {
+            log.info("[GroupActionManager]: group {} no longer exists, no invites sent", event.getGroup().getId());
+            return;
+        }
 
         var invitesToSend = inviteService.createInvitesOnGroupCreation(
-                event.getGroup(),
+                group,
                 event.getInvitedUsernames()
         );
 
@@ -57,47 +95,50 @@ public class GroupActionManager extends BaseActionManager {
     private void handleGroupDeletion(GroupActionEvent event) {
         var group = event.getGroup();
 
-        var groupInvites = inviteService.getInvitesByTypeAndTypeId(Type.GROUP, group.getId());
-        inviteService.deleteInvite(groupInvites);
+        var pendingInvitesReceivers = new HashSet<>(inviteService.deleteInvites(Type.GROUP, List.of(group.getId())));
         log.info("[GroupActionManager]: group invites deleted for group id {}", group.getId());
 
-        group.getEvents().forEach(event1 -> {
-            var eventInvites = inviteService.getInvitesByTypeAndTypeId(Type.EVENT, event1.getId());
-            inviteService.deleteInvite(eventInvites);
-        });
+        inviteService.deleteInvites(Type.EVENT, group.getEvents().stream().map(Event::getId).toList());
         log.info("[GroupActionManager]: event invites deleted for group id {}", group.getId());
 
-        var pendingInvitesReceivers = groupInvites.stream()
-                .map(invite -> invite.getReceiver().getUsername())
-                .collect(Collectors.toSet());
-
         pendingInvitesReceivers.addAll(group.getMembers().stream()
                 .map(User::getUsername)
                 .collect(Collectors.toSet()));
 
+        // the group is gone, so its members and events are the ones loaded before the deletion
+        var adminUsername = userRepository.findById(group.getAdmin().getId())
+                .map(User::getUsername)
+                .orElse(null);
         pendingInvitesReceivers.stream()
-                .filter(username -> !username.equals(group.getAdmin().getUsername()))
+                .filter(username -> !username.equals(adminUsername))
                 .forEach(username -> notifyUser(username, "/queue/group-deleted", String.valueOf(group.getId())));
     }
 
     private void handleGroupLeave(GroupActionEvent event) {
-        var group = event.getGroup();
+        var group = groupRepository.findById(event.getGroup().getId()).orElse(null);
+        if (group == null) {
+            return;
+        }
         var user = event.getUser();
         log.info("[GroupActionManager]: handling leave for group {}", group.getName());
 
-        group.getEvents().forEach(event1 -> {
-            var inviteToDelete = inviteService.findByReceiverAndTypeAndTypeId(user, Type.EVENT, event1.getId());
-            inviteToDelete.ifPresent(invite -> inviteService.deleteInvite(List.of(invite)));
-        });
+        inviteService.deleteInvites(user, Type.EVENT, group.getEvents().stream().map(Event::getId).toList());
 
         notifyGroup(group.getId(), "User left the group.");
     }
 
     private void handleAvailableDaysUpdate(GroupActionEvent event) {
-        var user = event.getUser();
-        var userGroupIds = user.getGroups().stream()
-            .map(Group::getId)
-            .toList();
+        var user = userRepository.findById(event.getUser().getId()).orElse(null);
+        if (user == null) {
+            return;
+        }
+        groupAvailabilityIndex.updateUser(user);
+
+        var userGroupIds = event.getGroup() != null
+                ? List.of(event.getGroup().getId())
+                : user.getGroups().stream()
+                    .map(Group::getId)
+                    .toList();
 
         userGroupIds.forEach(groupId -> {
             notifyGroup(groupId, String.format("Available days updated by user %s", user.getUsername()));
@@ -3,6 +3,7 @@ package get2gether.event.manager;
 import get2gether.event.InviteStatusChangedEvent;
 import get2gether.model.Invite;
 import get2gether.model.User;
+import get2gether.repository.UserRepository;
 import get2gether.service.EventService;
 import get2gether.service.GroupService;
 import get2gether.service.InviteService;
@@ -18,21 +19,29 @@ public class InviteActionManager extends BaseActionManager {
 
     private final GroupService groupService;
     private final EventService eventService;
+    private final UserRepository userRepository;
 
     public InviteActionManager(SimpMessagingTemplate messagingTemplate,
                                InviteService inviteService,
                                GroupService groupService,
-                               EventService eventService) {
+                               EventService eventService,
+                               UserRepository userRepository) {
         super(messagingTemplate, inviteService);
         this.groupService = groupService;
         this.eventService = eventService;
+        this.userRepository = userRepository;
     }
 
     @EventListener
     @Transactional
     public void handleInviteResponse(InviteStatusChangedEvent event) {
         var invite = event.getUpdatedInvite();
-        var receiver = invite.getReceiver();
+        // reloaded so that the receiver's lazy associations are usable after an async dispatch
+        var receiver = userRepository.findById(invite.getReceiver().getId()).orElse(null);
+        if (receiver == null) {
+            log.info("[InviteActionManager]: receiver of invite {} no longer exists", invite.getId());
+            return;
+        }
         var accepted = event.getAccepted();
 
         log.info("[InviteActionManager]: handling {} invite response..", invite.getType());
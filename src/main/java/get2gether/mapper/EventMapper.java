@@ -3,12 +3,18 @@ package get2gether.mapper;
 import get2gether.dto.EventDto;
 import get2gether.dto.UserDto;
 import get2gether.exception.ResourceNotFoundException;
+import get2gether.model.ArchivedEvent;
 import get2gether.model.Event;
 import get2gether.enums.ResourceType;
+import get2gether.model.User;
 import get2gether.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -24,12 +30,40 @@ public class EventMapper {
     private final UserRepository userRepository;
 
     public EventDto modelToDtoOnGet(Event event) {
+        return modelToDtoOnGet(event, findHost(event.getHostUsername()));
+    }
+
+    /**
+     * Maps a list of events, resolving all hosts with at most one query.
+     * Hosts found among the already loaded users are not queried again.
+     *
+     * @param events the events to map
+     * @param loadedUsers users already loaded in the current context, e.g. the group members
+     * @return list of EventDto objects in the order of the given events
+     */
+    public List<EventDto> modelToDtoOnGet(List<Event> events, Collection<User> loadedUsers) {
+        var hostsByUsername = new HashMap<String, User>();
+        loadedUsers.forEach(user -> hostsByUsername.put(user.getUsername(), user));
+        var missingHosts = events.stream()
+                .map(Event::getHostUsername)
+                .filter(username -> !hostsByUsername.containsKey(username))
+                .collect(Collectors.toSet());
+        if (!missingHosts.isEmpty()) {
+            userRepository.findByUsernameIn(missingHosts)
+                    .forEach(user -> hostsByUsername.put(user.getUsername(), user));
+        }
+        return events.stream()
+                .map(event -> modelToDtoOnGet(event, getHost(hostsByUsername, event.getHostUsername())))
+                .toList();
+    }
+
+    private EventDto modelToDtoOnGet(Event event, User host) {
         return EventDto.builder()
                 .id(event.getId())
                 .name(event.getName())
                 .description(event.getDescription())
                 .hostUsername(event.getHostUsername())
-                .hostFullName(formatHost(event.getHostUsername()))
+                .hostFullName(String.format("%s %s", host.getFirstName(), host.getLastName()))
                 .groupName(event.getGroup().getName())
                 .date(event.getDate())
                 .goingMembers(event.getGoingMembers().stream()
@@ -40,6 +74,26 @@ public class EventMapper {
                                 .lastName(user.getLastName())
                                 .build())
                         .collect(Collectors.toSet()))
+                .attendeeCount(event.getAttendeeCount())
+                .build();
+    }
+
+    /**
+     * Maps an archived event. Going members are kept in the archive but not returned, only their count.
+     *
+     * @param event the archived event
+     * @param groupName the name of the event's group
+     * @return EventDto of the archived event
+     */
+    public EventDto archivedToDto(ArchivedEvent event, String groupName) {
+        return EventDto.builder()
+                .id(event.getId())
+                .name(event.getName())
+                .description(event.getDescription())
+                .hostUsername(event.getHostUsername())
+                .groupName(groupName)
+                .date(event.getDate())
+                .attendeeCount(event.getAttendeeCount())
                 .build();
     }
 
@@ -56,10 +110,17 @@ public class EventMapper {
         event.setDescription(dto.getDescription());
     }
 
-    private String formatHost(String hostUsername) {
-        var user = userRepository.findByUsername(hostUsername).orElseThrow(
+    private User findHost(String hostUsername) {
+        return userRepository.findByUsername(hostUsername).orElseThrow(
                 () -> new ResourceNotFoundException(ResourceType.USER, "username:" + hostUsername));
-        return String.format("%s %s", user.getFirstName(), user.getLastName());
+    }
+
+    private User getHost(Map<String, User> hostsByUsername, String hostUsername) {
+        var host = hostsByUsername.get(hostUsername);
+        if (host == null) {
+            throw new ResourceNotFoundException(ResourceType.USER, "username:" + hostUsername);
+        }
+        return host;
     }
 
 }
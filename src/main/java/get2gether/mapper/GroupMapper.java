@@ -1,11 +1,14 @@
 package get2gether.mapper;
 
 import get2gether.dto.GroupDto;
+import get2gether.model.Event;
 import get2gether.model.Group;
+import get2gether.model.Message;
 import get2gether.model.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -36,7 +39,7 @@ public class GroupMapper {
                 .build();
     }
 
-    public GroupDto modelToDtoOnGet(Group group) {
+    public GroupDto modelToDtoOnGet(Group group, List<Event> events, List<Message> latestMessages) {
         return GroupDto.builder()
                 .id(group.getId())
                 .admin(userMapper.modelToDtoOnGroupCreate(group.getAdmin()))
@@ -44,13 +47,9 @@ public class GroupMapper {
                 .members(group.getMembers().stream()
                         .map(userMapper::modelToDtoOnGroupCreate)
                         .collect(Collectors.toSet()))
-                .events(group.getEvents().stream()
-                        .map(eventMapper::modelToDtoOnGet)
-                        .toList())
+                .events(eventMapper.modelToDtoOnGet(events, group.getMembers()))
                 .groupColor(group.getGroupColor())
-                .messages(group.getMessages().stream()
-                        .map(messageMapper::modelToDto)
-                        .toList())
+                .messages(messageMapper.modelToDto(latestMessages, group.getMembers()))
                 .build();
 
     }
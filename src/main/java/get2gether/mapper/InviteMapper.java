@@ -10,8 +10,10 @@ import get2gether.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Mapper class responsible for converting between Invite domain models and InviteDto data transfer objects.
@@ -38,14 +40,50 @@ public class InviteMapper {
     }
 
     public InviteDto modelToDto(Invite invite) {
+        var event = invite.getType() == Type.EVENT ? getEvent(invite.getTypeId()) : null;
+        return modelToDto(invite, formatSender(invite.getSenderUsername()), event);
+    }
+
+    /**
+     * Maps invites in bulk, resolving all senders with one query and each event once,
+     * instead of once per invite.
+     *
+     * @param invites the invites to map
+     * @return list of InviteDto objects in the order of the given invites
+     */
+    public List<InviteDto> modelToDto(List<Invite> invites) {
+        var senderUsernames = invites.stream()
+                .map(Invite::getSenderUsername)
+                .collect(Collectors.toSet());
+        var senderNames = new HashMap<String, String>();
+        if (!senderUsernames.isEmpty()) {
+            userRepository.findByUsernameIn(senderUsernames).forEach(user ->
+                    senderNames.put(user.getUsername(), String.format("%s %s", user.getFirstName(), user.getLastName())));
+        }
+        var events = new HashMap<Long, Event>();
+        return invites.stream()
+                .map(invite -> {
+                    var senderName = senderNames.get(invite.getSenderUsername());
+                    if (senderName == null) {
+                        throw new ResourceNotFoundException(ResourceType.USER, "username:" + invite.getSenderUsername());
+                    }
+                    var event = invite.getType() == Type.EVENT
+                            ? events.computeIfAbsent(invite.getTypeId(), this::getEvent)
+                            : null;
+                    return modelToDto(invite, senderName, event);
+                })
+                .toList();
+    }
+
+    private InviteDto modelToDto(Invite invite, String senderName, Event event) {
         return InviteDto.builder()
                 .id(invite.getId())
                 .type(invite.getType())
                 .typeId(invite.getTypeId())
                 .typeName(invite.getTypeName())
-                .senderUsername(formatSender(invite.getSenderUsername()))
-                .groupName(invite.getType() == Type.EVENT ? getGroupName(invite.getTypeId()) : null)
-                .eventDate(invite.getType() == Type.EVENT ? getEventDate(invite.getTypeId()) : null)
+                .senderUsername(senderName)
+                .groupName(event != null ? event.getGroup().getName() : null)
+                .eventDate(event != null ? event.getDate() : null)
                 .receiverUsernames(Set.of(invite.getReceiver().getUsername()))
                 .build();
     }
@@ -56,16 +94,6 @@ public class InviteMapper {
         return String.format("%s %s", user.getFirstName(), user.getLastName());
     }
 
-    private String getGroupName(Long eventId) {
-        var event = getEvent(eventId);
-        return event.getGroup().getName();
-    }
-
-    private LocalDate getEventDate(Long eventId) {
-        var event = getEvent(eventId);
-        return event.getDate();
-    }
-
     private Event getEvent(Long eventId) {
         return eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException(ResourceType.EVENT, "id: " + eventId));
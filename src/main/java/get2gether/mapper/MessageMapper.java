@@ -5,11 +5,17 @@ import get2gether.exception.ResourceNotFoundException;
 import get2gether.model.Group;
 import get2gether.model.Message;
 import get2gether.enums.ResourceType;
+import get2gether.model.User;
 import get2gether.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Mapper class responsible for converting between Message domain models and MessageDto data transfer objects.
@@ -33,18 +39,53 @@ public class MessageMapper {
     }
 
     public MessageDto modelToDto(Message savedMessage) {
+        return modelToDto(savedMessage, findSender(savedMessage.getSenderUsername()));
+    }
+
+    /**
+     * Maps a list of messages, resolving all senders with at most one query.
+     * Senders found among the already loaded users are not queried again.
+     *
+     * @param messages the messages to map
+     * @param loadedUsers users already loaded in the current context, e.g. the group members
+     * @return list of MessageDto objects in the order of the given messages
+     */
+    public List<MessageDto> modelToDto(List<Message> messages, Collection<User> loadedUsers) {
+        var sendersByUsername = new HashMap<String, User>();
+        loadedUsers.forEach(user -> sendersByUsername.put(user.getUsername(), user));
+        var missingSenders = messages.stream()
+                .map(Message::getSenderUsername)
+                .filter(username -> !sendersByUsername.containsKey(username))
+                .collect(Collectors.toSet());
+        if (!missingSenders.isEmpty()) {
+            userRepository.findByUsernameIn(missingSenders)
+                    .forEach(user -> sendersByUsername.put(user.getUsername(), user));
+        }
+        return messages.stream()
+                .map(message -> modelToDto(message, getSender(sendersByUsername, message.getSenderUsername())))
+                .toList();
+    }
+
+    private MessageDto modelToDto(Message message, User sender) {
         return MessageDto.builder()
-                .id(savedMessage.getId())
-                .groupId(savedMessage.getGroup().getId())
-                .senderUsername(formatSender(savedMessage.getSenderUsername()))
-                .message(savedMessage.getMessage())
-                .createdAt(savedMessage.getCreatedAt())
+                .id(message.getId())
+                .groupId(message.getGroup().getId())
+                .senderUsername(String.format("%s %s", sender.getFirstName(), sender.getLastName()))
+                .message(message.getMessage())
+                .createdAt(message.getCreatedAt())
                 .build();
     }
 
-    private String formatSender(String senderName) {
-        var user = userRepository.findByUsername(senderName).orElseThrow(
+    private User findSender(String senderName) {
+        return userRepository.findByUsername(senderName).orElseThrow(
                 () -> new ResourceNotFoundException(ResourceType.USER, "username:" + senderName));
-        return String.format("%s %s", user.getFirstName(), user.getLastName());
+    }
+
+    private User getSender(Map<String, User> sendersByUsername, String senderName) {
+        var sender = sendersByUsername.get(senderName);
+        if (sender == null) {
+            throw new ResourceNotFoundException(ResourceType.USER, "username:" + senderName);
+        }
+        return sender;
     }
 }
@@ -1,11 +1,19 @@
 package get2gether.mapper;
 
+import get2gether.dto.EventDto;
 import get2gether.dto.GroupDto;
+import get2gether.dto.InviteDto;
 import get2gether.dto.UserDto;
 import get2gether.model.User;
+import get2gether.repository.EventRepository;
+import get2gether.repository.GroupRepository;
+import get2gether.repository.InviteRepository;
+import get2gether.repository.UserRepository;
+import get2gether.service.AvailabilityStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -20,6 +28,7 @@ public class UserMapper {
 
     private final InviteMapper inviteMapper;
     private final EventMapper eventMapper;
+    private final AvailabilityStore availabilityStore;
 
     public UserDto modelToDtoOnGroupCreate(User user) {
         return UserDto.builder()
@@ -36,7 +45,7 @@ public class UserMapper {
                 .username(user.getUsername())
                 .firstName(user.getFirstName())
                 .lastName(user.getLastName())
-                .availableDays(user.getAvailableDays())
+                .availableDays(availabilityStore.getAvailableDays(user))
                 .groups(user.getGroups().stream()
                         .map(group -> GroupDto.builder()
                                 .id(group.getId())
@@ -53,6 +62,65 @@ public class UserMapper {
                 .build();
     }
 
+    public UserDto viewToDto(UserRepository.ProfileView profile) {
+        return UserDto.builder()
+                .id(profile.getId())
+                .username(profile.getUsername())
+                .firstName(profile.getFirstName())
+                .lastName(profile.getLastName())
+                .build();
+    }
+
+    public GroupDto viewToDto(GroupRepository.SummaryView group) {
+        return GroupDto.builder()
+                .id(group.getId())
+                .name(group.getName())
+                .groupColor(group.getGroupColor())
+                .build();
+    }
+
+    public InviteDto viewToDto(InviteRepository.ReceivedView invite, String receiverUsername) {
+        return InviteDto.builder()
+                .id(invite.getId())
+                .type(invite.getType())
+                .typeId(invite.getTypeId())
+                .typeName(invite.getTypeName())
+                .senderUsername(formatName(invite.getSenderUsername(),
+                        invite.getSenderFirstName(), invite.getSenderLastName()))
+                .groupName(invite.getGroupName())
+                .eventDate(invite.getEventDate())
+                .receiverUsernames(Set.of(receiverUsername))
+                .build();
+    }
+
+    public EventDto viewToDto(EventRepository.GoingView event, Set<UserDto> goingMembers) {
+        return EventDto.builder()
+                .id(event.getId())
+                .name(event.getName())
+                .description(event.getDescription())
+                .hostUsername(event.getHostUsername())
+                .hostFullName(formatName(event.getHostUsername(), event.getHostFirstName(), event.getHostLastName()))
+                .groupName(event.getGroupName())
+                .date(event.getDate())
+                .goingMembers(goingMembers)
+                .attendeeCount(event.getAttendeeCount())
+                .build();
+    }
+
+    public UserDto viewToDto(EventRepository.GoingMemberView member) {
+        return UserDto.builder()
+                .id(member.getId())
+                .username(member.getUsername())
+                .firstName(member.getFirstName())
+                .lastName(member.getLastName())
+                .build();
+    }
+
+    // falls back to the username when the user no longer exists
+    private static String formatName(String username, String firstName, String lastName) {
+        return firstName == null ? username : String.format("%s %s", firstName, lastName);
+    }
+
     public void updateCurrentUser(UserDto dto, User user) {
         user.setFirstName(dto.getFirstName());
         user.setLastName(dto.getLastName());
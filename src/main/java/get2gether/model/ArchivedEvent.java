@@ -0,0 +1,47 @@
+package get2gether.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Represents a past event moved to the event_archive table by the event archiver.
+ * Keeps the id and the columns of the original event; the group is only referenced by id,
+ * since archived events outlive the groups they belonged to. Rows are written by the archiver only.
+ */
+@Entity
+@Immutable
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "event_archive", indexes = {
+        @Index(name = "idx_event_archive_group_id_date", columnList = "group_id, date")
+})
+public class ArchivedEvent {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    private String hostUsername;
+
+    private LocalDate date;
+
+    private String description;
+
+    private Long groupId;
+
+    @Column(nullable = false)
+    private int attendeeCount;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,202 @@
+package get2gether.model;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable set of days encoded as one 31-bit mask per month: bit {@code d - 1} of a month's mask
+ * is set when the user is available on day {@code d}. Months without available days are not stored,
+ * so a whole year of availability takes twelve masks instead of 365 rows.
+ * Membership tests and per-day counts work on the masks directly. Group availability is still built
+ * per day by the GroupAvailabilityIndex from {@link #toDates()}, not by intersecting masks.
+ */
+public final class AvailabilityBitmap {
+
+    public static final AvailabilityBitmap EMPTY = new AvailabilityBitmap(new int[0], new int[0]);
+
+    private static final int BYTES_PER_MONTH = 2 * Integer.BYTES;
+
+    /** Months as {@code year * 12 + month - 1}, ascending. */
+    private final int[] months;
+    private final int[] masks;
+
+    private AvailabilityBitmap(int[] months, int[] masks) {
+        this.months = months;
+        this.masks = masks;
+    }
+
+    /**
+     * Creates a bitmap of the given days.
+     *
+     * @param days the available days
+     * @return the bitmap, EMPTY if there are no days
+     */
+    public static AvailabilityBitmap of(Collection<LocalDate> days) {
+        return EMPTY.with(days, Set.of());
+    }
+
+    /**
+     * Returns a bitmap with the added days set and the removed days cleared.
+     *
+     * @param added the days to add
+     * @param removed the days to remove
+     * @return the resulting bitmap; this bitmap if nothing changed
+     */
+    public AvailabilityBitmap with(Collection<LocalDate> added, Collection<LocalDate> removed) {
+        var byMonth = toMap();
+        added.forEach(day -> byMonth.merge(monthOf(day), bitOf(day), (mask, bit) -> mask | bit));
+        removed.forEach(day -> byMonth.computeIfPresent(monthOf(day), (month, mask) -> {
+            var cleared = mask & ~bitOf(day);
+            return cleared == 0 ? null : cleared;
+        }));
+        var result = fromMap(byMonth);
+        return result.equals(this) ? this : result;
+    }
+
+    public boolean contains(LocalDate day) {
+        var index = Arrays.binarySearch(months, monthOf(day));
+        return index >= 0 && (masks[index] & bitOf(day)) != 0;
+    }
+
+    public boolean isEmpty() {
+        return months.length == 0;
+    }
+
+    /**
+     * Returns the available days as a new, modifiable set.
+     *
+     * @return the available days
+     */
+    public Set<LocalDate> toDates() {
+        var dates = new HashSet<LocalDate>();
+        for (int i = 0; i < months.length; i++) {
+            var month = YearMonth.of(Math.floorDiv(months[i], 12), Math.floorMod(months[i], 12) + 1);
+            for (int mask = masks[i]; mask != 0; mask &= mask - 1) {
+                dates.add(month.atDay(Integer.numberOfTrailingZeros(mask) + 1));
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * Counts for every day of a range how many of the bitmaps are available on it.
+     * Only the months overlapping the range are read from each bitmap.
+     *
+     * @param bitmaps the bitmaps to count, e.g. one per group member
+     * @param from the first day of the range, inclusive
+     * @param to the last day of the range, inclusive
+     * @return the counts indexed by the day's offset from the start of the range
+     */
+    public static int[] countByDay(Collection<AvailabilityBitmap> bitmaps, LocalDate from, LocalDate to) {
+        var counts = new int[(int) ChronoUnit.DAYS.between(from, to) + 1];
+        var firstMonth = monthOf(from);
+        var lastMonth = monthOf(to);
+        for (var bitmap : bitmaps) {
+            var start = Arrays.binarySearch(bitmap.months, firstMonth);
+            for (int i = start >= 0 ? start : -start - 1; i < bitmap.months.length && bitmap.months[i] <= lastMonth; i++) {
+                var monthStart = YearMonth.of(Math.floorDiv(bitmap.months[i], 12), Math.floorMod(bitmap.months[i], 12) + 1)
+                        .atDay(1);
+                var offset = (int) ChronoUnit.DAYS.between(from, monthStart);
+                for (int mask = bitmap.masks[i]; mask != 0; mask &= mask - 1) {
+                    var index = offset + Integer.numberOfTrailingZeros(mask);
+                    if (index >= 0 && index < counts.length) {
+                        counts[index]++;
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Encodes the bitmap as a sequence of (month, mask) pairs, each stored as two four-byte integers.
+     *
+     * @return the encoded bitmap
+     */
+    public byte[] toBytes() {
+        var buffer = ByteBuffer.allocate(months.length * BYTES_PER_MONTH);
+        for (int i = 0; i < months.length; i++) {
+            buffer.putInt(months[i]).putInt(masks[i]);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a bitmap encoded by {@link #toBytes()}.
+     *
+     * @param bytes the encoded bitmap
+     * @return the bitmap
+     * @throws IllegalArgumentException if the bytes are not a valid encoding
+     */
+    public static AvailabilityBitmap fromBytes(byte[] bytes) {
+        if (bytes.length % BYTES_PER_MONTH != 0) {
+            throw new IllegalArgumentException("Invalid availability bitmap of " + bytes.length + " bytes");
+        }
+        var buffer = ByteBuffer.wrap(bytes);
+        var count = bytes.length / BYTES_PER_MONTH;
+        var months = new int[count];
+        var masks = new int[count];
+        for (int i = 0; i < count; i++) {
+            months[i] = buffer.getInt();
+            masks[i] = buffer.getInt();
+            if ((i > 0 && months[i] <= months[i - 1]) || masks[i] == 0) {
+                throw new IllegalArgumentException("Invalid availability bitmap");
+            }
+        }
+        return count == 0 ? EMPTY : new AvailabilityBitmap(months, masks);
+    }
+
+    private TreeMap<Integer, Integer> toMap() {
+        var byMonth = new TreeMap<Integer, Integer>();
+        for (int i = 0; i < months.length; i++) {
+            byMonth.put(months[i], masks[i]);
+        }
+        return byMonth;
+    }
+
+    private static AvailabilityBitmap fromMap(Map<Integer, Integer> byMonth) {
+        if (byMonth.isEmpty()) {
+            return EMPTY;
+        }
+        var months = new int[byMonth.size()];
+        var masks = new int[byMonth.size()];
+        int i = 0;
+        for (var entry : byMonth.entrySet()) {
+            months[i] = entry.getKey();
+            masks[i++] = entry.getValue();
+        }
+        return new AvailabilityBitmap(months, masks);
+    }
+
+    private static int monthOf(LocalDate day) {
+        return day.getYear() * 12 + day.getMonthValue() - 1;
+    }
+
+    private static int bitOf(LocalDate day) {
+        return 1 << (day.getDayOfMonth() - 1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof AvailabilityBitmap other
+                && Arrays.equals(months, other.months) && Arrays.equals(masks, other.masks);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(months) + Arrays.hashCode(masks);
+    }
+
+    @Override
+    public String toString() {
+        return "AvailabilityBitmap[" + months.length + " months]";
+    }
+}
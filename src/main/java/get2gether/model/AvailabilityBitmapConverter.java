@@ -0,0 +1,24 @@
+package get2gether.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Stores an {@link AvailabilityBitmap} in a binary column using its compact encoding.
+ * The bitmap is immutable, so Hibernate detects changes by comparing bitmaps instead of copying them.
+ */
+@Converter
+@Immutable
+public class AvailabilityBitmapConverter implements AttributeConverter<AvailabilityBitmap, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(AvailabilityBitmap bitmap) {
+        return bitmap == null ? null : bitmap.toBytes();
+    }
+
+    @Override
+    public AvailabilityBitmap convertToEntityAttribute(byte[] bytes) {
+        return bytes == null ? null : AvailabilityBitmap.fromBytes(bytes);
+    }
+}
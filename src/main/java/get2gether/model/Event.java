@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.Accessors;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
@@ -20,6 +21,10 @@ import java.util.Set;
 @Builder
 @DynamicUpdate
 @Accessors(chain = true)
+@Table(name = "event", indexes = {
+        @Index(name = "idx_event_group_id_date", columnList = "group_id, date"),
+        @Index(name = "idx_event_date", columnList = "date")
+})
 public class Event {
 
     @Id
@@ -43,10 +48,29 @@ public class Event {
     @JoinTable(
             name = "user_event",
             joinColumns = @JoinColumn(name = "event_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
+            inverseJoinColumns = @JoinColumn(name = "user_id"),
+            indexes = @Index(name = "idx_user_event_user_id_event_id", columnList = "user_id, event_id")
     )
     @JsonManagedReference
     @EqualsAndHashCode.Exclude
     private Set<User> goingMembers;
 
+    /**
+     * Number of going members, changed in the same statement sequence as the user_event rows so attendance
+     * is counted without loading goingMembers. Only written on insert; updates go through EventRepository.
+     */
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int attendeeCount = 0;
+
+    /**
+     * Incremented on every update of the event's own columns, so concurrent edits fail instead of overwriting
+     * each other. Attendance changes do not increment it, but are conditional on it.
+     */
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
 }
@@ -39,7 +39,8 @@ public class Group {
     @JoinTable(
             name = "user_group",
             joinColumns = @JoinColumn(name = "group_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
+            inverseJoinColumns = @JoinColumn(name = "user_id"),
+            indexes = @Index(name = "idx_user_group_user_id_group_id", columnList = "user_id, group_id")
     )
     @JsonManagedReference
     @EqualsAndHashCode.Exclude
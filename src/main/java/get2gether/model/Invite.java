@@ -27,8 +27,11 @@ import lombok.experimental.Accessors;
 
 public class Invite {
 
+    // sequence ids with pooled allocation, so that bulk inserts can be batched;
+    // the V8 migration moves the sequence past the identity ids of earlier invites
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "invite_seq")
+    @SequenceGenerator(name = "invite_seq", sequenceName = "invite_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -20,6 +20,9 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@Table(name = "message", indexes = {
+        @Index(name = "idx_message_group_id_id", columnList = "group_id, id")
+})
 public class Message {
 
     @Id
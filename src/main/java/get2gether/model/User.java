@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import get2gether.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
@@ -21,7 +23,10 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_first_name", columnList = "firstName"),
+        @Index(name = "idx_users_last_name", columnList = "lastName")
+})
 @DynamicUpdate
 public class User {
 
@@ -41,7 +46,22 @@ public class User {
     @Column(nullable = false)
     private String lastName;
 
+    /**
+     * Generation of the tokens issued to this user; incrementing it revokes every token issued before.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    private int tokenVersion = 0;
+
+    // loaded for many users in one query when users are read together, e.g. the members of a group
     @ElementCollection(fetch = FetchType.EAGER)
+    @BatchSize(size = 100)
+    @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"), indexes = {
+            @Index(name = "idx_user_roles_roles_user_id", columnList = "roles, user_id"),
+            @Index(name = "idx_user_roles_user_id", columnList = "user_id")
+    })
     @Enumerated(EnumType.STRING)
     private List<Role> roles;
 
@@ -51,13 +71,25 @@ public class User {
     private Set<Group> groups;
 
     @OneToMany(mappedBy = "receiver", cascade = CascadeType.ALL, orphanRemoval = true)
+    @EqualsAndHashCode.Exclude
     private List<Invite> invitesReceived;
 
     @ElementCollection
-    @CollectionTable(name = "availability_days", joinColumns = @JoinColumn(name = "user_id"))
+    @CollectionTable(name = "availability_days", joinColumns = @JoinColumn(name = "user_id"), indexes = {
+            @Index(name = "uk_availability_days_user_id_day", columnList = "user_id, available_day", unique = true)
+    })
     @Column(name = "available_day")
+    @EqualsAndHashCode.Exclude
     private Set<LocalDate> availableDays;
 
+    /**
+     * Available days when availability.storage is "bitmap"; null otherwise.
+     */
+    @Convert(converter = AvailabilityBitmapConverter.class)
+    @Column(name = "availability_bitmap", length = 16384)
+    @EqualsAndHashCode.Exclude
+    private AvailabilityBitmap availabilityBitmap;
+
     @ManyToMany(mappedBy = "goingMembers")
     @JsonBackReference
     @EqualsAndHashCode.Exclude
@@ -0,0 +1,52 @@
+package get2gether.repository;
+
+import get2gether.model.ArchivedEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedEventRepository extends JpaRepository<ArchivedEvent, Long> {
+
+    @Query("SELECT a FROM ArchivedEvent a WHERE a.groupId = :groupId ORDER BY a.date DESC, a.id DESC")
+    List<ArchivedEvent> findPageByGroupId(@Param("groupId") Long groupId, Limit limit);
+
+    @Query("SELECT a FROM ArchivedEvent a WHERE a.groupId = :groupId " +
+            "AND (a.date < :beforeDate OR (a.date = :beforeDate AND a.id < :beforeId)) " +
+            "ORDER BY a.date DESC, a.id DESC")
+    List<ArchivedEvent> findPageByGroupIdBefore(@Param("groupId") Long groupId,
+                                                @Param("beforeDate") LocalDate beforeDate,
+                                                @Param("beforeId") Long beforeId,
+                                                Limit limit);
+
+    /**
+     * Copies events into the archive; the live rows are deleted separately once their dependents are copied.
+     *
+     * @return the number of archived events
+     */
+    @Modifying
+    @Query(value = "INSERT INTO event_archive " +
+            "(id, name, host_username, date, description, group_id, attendee_count, archived_at) " +
+            "SELECT id, name, host_username, date, description, group_id, attendee_count, :archivedAt " +
+            "FROM event WHERE id IN :eventIds", nativeQuery = true)
+    int copyEvents(@Param("eventIds") Collection<Long> eventIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO user_event_archive (event_id, user_id) " +
+            "SELECT event_id, user_id FROM user_event WHERE event_id IN :eventIds", nativeQuery = true)
+    int copyGoingMembers(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO invite_archive (id, type, type_id, type_name, sender_username, receiver_id) " +
+            "SELECT id, type, type_id, type_name, sender_username, receiver_id FROM invite " +
+            "WHERE type = 'EVENT' AND type_id IN :eventIds", nativeQuery = true)
+    int copyEventInvites(@Param("eventIds") Collection<Long> eventIds);
+}
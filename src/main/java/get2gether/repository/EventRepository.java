@@ -1,9 +1,168 @@
 package get2gether.repository;
 
 import get2gether.model.Event;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
+
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.goingMembers " +
+            "WHERE e.group.id = :groupId AND e.date >= :from ORDER BY e.date, e.id")
+    List<Event> findUpcomingByGroupIdWithGoingMembers(@Param("groupId") Long groupId, @Param("from") LocalDate from);
+
+    @Query("SELECT e.id FROM Event e WHERE e.date < :before ORDER BY e.date, e.id")
+    List<Long> findIdsByDateBefore(@Param("before") LocalDate before, Limit limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_event WHERE event_id IN :eventIds", nativeQuery = true)
+    int deleteGoingMembersOfEvents(@Param("eventIds") Collection<Long> eventIds);
+
+    /**
+     * Deletes events without loading them; their user_event rows must have been deleted first.
+     *
+     * @return the number of deleted events
+     */
+    @Modifying
+    @Query("DELETE FROM Event e WHERE e.id IN :eventIds")
+    int deleteByIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    /**
+     * Columns of an event shown in event lists such as the events a user is going to or the calendar,
+     * with the host's name and the group.
+     */
+    interface GoingView {
+        Long getId();
+
+        String getName();
+
+        String getDescription();
+
+        LocalDate getDate();
+
+        String getHostUsername();
+
+        String getHostFirstName();
+
+        String getHostLastName();
+
+        String getGroupName();
+
+        int getAttendeeCount();
+    }
+
+    /**
+     * Columns of a member going to an event.
+     */
+    interface GoingMemberView {
+        Long getEventId();
+
+        Long getId();
+
+        String getUsername();
+
+        String getFirstName();
+
+        String getLastName();
+    }
+
+    @Query("SELECT e.id AS id, e.name AS name, e.description AS description, e.date AS date, " +
+            "e.hostUsername AS hostUsername, h.firstName AS hostFirstName, h.lastName AS hostLastName, " +
+            "g.name AS groupName, e.attendeeCount AS attendeeCount " +
+            "FROM User m JOIN m.goingEvents e " +
+            "LEFT JOIN e.group g " +
+            "LEFT JOIN User h ON h.username = e.hostUsername " +
+            "WHERE m.id = :userId ORDER BY e.date, e.id")
+    List<GoingView> findGoingViewsByMemberId(@Param("userId") Long userId);
+
+    @Query("SELECT e.id AS id, e.name AS name, e.description AS description, e.date AS date, " +
+            "e.hostUsername AS hostUsername, h.firstName AS hostFirstName, h.lastName AS hostLastName, " +
+            "g.name AS groupName, e.attendeeCount AS attendeeCount " +
+            "FROM Event e JOIN Group g ON g.id = e.group.id " +
+            "LEFT JOIN User h ON h.username = e.hostUsername " +
+            "WHERE e.group.id IN :groupIds AND e.date BETWEEN :from AND :to ORDER BY e.date, e.id")
+    List<GoingView> findCalendarPage(@Param("groupIds") Collection<Long> groupIds,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to,
+                                     Limit limit);
+
+    @Query("SELECT e.id AS id, e.name AS name, e.description AS description, e.date AS date, " +
+            "e.hostUsername AS hostUsername, h.firstName AS hostFirstName, h.lastName AS hostLastName, " +
+            "g.name AS groupName, e.attendeeCount AS attendeeCount " +
+            "FROM Event e JOIN Group g ON g.id = e.group.id " +
+            "LEFT JOIN User h ON h.username = e.hostUsername " +
+            "WHERE e.group.id IN :groupIds AND e.date BETWEEN :from AND :to " +
+            "AND (e.date > :afterDate OR (e.date = :afterDate AND e.id > :afterId)) ORDER BY e.date, e.id")
+    List<GoingView> findCalendarPageAfter(@Param("groupIds") Collection<Long> groupIds,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to,
+                                          @Param("afterDate") LocalDate afterDate,
+                                          @Param("afterId") Long afterId,
+                                          Limit limit);
+
+    @Query("SELECT e.id AS id, e.name AS name, e.description AS description, e.date AS date, " +
+            "e.hostUsername AS hostUsername, h.firstName AS hostFirstName, h.lastName AS hostLastName, " +
+            "g.name AS groupName, e.attendeeCount AS attendeeCount " +
+            "FROM Event e JOIN Group g ON g.id = e.group.id " +
+            "LEFT JOIN User h ON h.username = e.hostUsername " +
+            "WHERE e.group.id = :groupId ORDER BY e.id")
+    List<GoingView> findViewsByGroupId(@Param("groupId") Long groupId);
+
+    /**
+     * Adds a user to the going members of an event unless they already are one.
+     *
+     * @return 1 if the user was added, 0 if they were already going
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_event (event_id, user_id) SELECT :eventId, :userId WHERE NOT EXISTS " +
+            "(SELECT 1 FROM user_event WHERE event_id = :eventId AND user_id = :userId)", nativeQuery = true)
+    int insertGoingMember(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    /**
+     * Removes a user from the going members of an event.
+     *
+     * @return 1 if the user was removed, 0 if they were not going
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_event WHERE event_id = :eventId AND user_id = :userId", nativeQuery = true)
+    int deleteGoingMember(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    /**
+     * Changes the attendee count of an event unless the event was updated since it was read.
+     * The version is checked but not incremented, so attendance changes do not conflict with each other.
+     *
+     * @return 1 if the count was changed, 0 if the event was updated or deleted in the meantime
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.attendeeCount = e.attendeeCount + :delta " +
+            "WHERE e.id = :eventId AND e.version = :version")
+    int addToAttendeeCount(@Param("eventId") Long eventId, @Param("version") long version, @Param("delta") int delta);
+
+    /**
+     * Decrements the attendee count of the events of a group the user is going to.
+     * Must run before {@link #deleteGoingMemberFromGroupEvents} removes the rows it counts.
+     */
+    @Modifying
+    @Query(value = "UPDATE event SET attendee_count = attendee_count - 1 WHERE id IN " +
+            "(SELECT ue.event_id FROM user_event ue JOIN event ge ON ge.id = ue.event_id " +
+            "WHERE ue.user_id = :userId AND ge.group_id = :groupId)", nativeQuery = true)
+    int decrementAttendeeCountOfGroupEvents(@Param("groupId") Long groupId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_event WHERE user_id = :userId AND event_id IN " +
+            "(SELECT id FROM event WHERE group_id = :groupId)", nativeQuery = true)
+    int deleteGoingMemberFromGroupEvents(@Param("groupId") Long groupId, @Param("userId") Long userId);
+
+    @Query("SELECT e.id AS eventId, m.id AS id, m.username AS username, m.firstName AS firstName, " +
+            "m.lastName AS lastName " +
+            "FROM Event e JOIN e.goingMembers m WHERE e.id IN :eventIds")
+    List<GoingMemberView> findGoingMemberViewsByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
 }
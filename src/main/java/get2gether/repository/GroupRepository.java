@@ -1,11 +1,14 @@
 package get2gether.repository;
 
+import get2gether.dto.AvailableDayDto;
+import get2gether.model.AvailabilityBitmap;
 import get2gether.model.Group;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +21,35 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
     @Query("SELECT g FROM Group g LEFT JOIN FETCH g.members WHERE g.id = :id")
     Optional<Group> findByIdWithMembers(@Param("id") Long id);
 
+    @Query("SELECT g FROM Group g LEFT JOIN FETCH g.admin LEFT JOIN FETCH g.members m " +
+            "LEFT JOIN FETCH m.availableDays WHERE g.id = :id")
+    Optional<Group> findByIdWithMembersAndAvailableDays(@Param("id") Long id);
+
     @Query("SELECT g.id FROM Group g JOIN g.members m WHERE m.username = :username")
     List<Long> findGroupIdsByMemberUsername(@Param("username") String username);
+
+    @Query("SELECT new get2gether.dto.AvailableDayDto(d, COUNT(m)) FROM Group g JOIN g.members m " +
+            "JOIN m.availableDays d WHERE g.id = :groupId AND d BETWEEN :from AND :to GROUP BY d")
+    List<AvailableDayDto> countAvailableMembersByDate(@Param("groupId") Long groupId,
+                                                      @Param("from") LocalDate from,
+                                                      @Param("to") LocalDate to);
+
+    @Query("SELECT m.availabilityBitmap FROM Group g JOIN g.members m " +
+            "WHERE g.id = :groupId AND m.availabilityBitmap IS NOT NULL")
+    List<AvailabilityBitmap> findMemberAvailabilityBitmaps(@Param("groupId") Long groupId);
+
+    /**
+     * Columns of a group shown in the group list of a member's profile.
+     */
+    interface SummaryView {
+        Long getId();
+
+        String getName();
+
+        String getGroupColor();
+    }
+
+    @Query("SELECT g.id AS id, g.name AS name, g.groupColor AS groupColor FROM Group g JOIN g.members m " +
+            "WHERE m.id = :userId")
+    List<SummaryView> findSummariesByMemberId(@Param("userId") Long userId);
 }
@@ -0,0 +1,19 @@
+package get2gether.repository;
+
+import get2gether.model.Invite;
+
+import java.util.List;
+
+/**
+ * Bulk write operations on invites, implemented outside of Spring Data's derived queries.
+ */
+public interface InviteBatchRepository {
+
+    /**
+     * Inserts new invites using JDBC batching and flushes them, so that the returned invites have their ids.
+     *
+     * @param invites the new invites to insert
+     * @return the inserted invites
+     */
+    List<Invite> insertAll(List<Invite> invites);
+}
@@ -0,0 +1,33 @@
+package get2gether.repository;
+
+import get2gether.model.Invite;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+class InviteBatchRepositoryImpl implements InviteBatchRepository {
+
+    /** Matches the allocation size of the invite id sequence. */
+    static final int BATCH_SIZE = 50;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public List<Invite> insertAll(List<Invite> invites) {
+        var session = entityManager.unwrap(Session.class);
+        var previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(BATCH_SIZE);
+        try {
+            invites.forEach(entityManager::persist);
+            entityManager.flush();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+        return invites;
+    }
+}
@@ -4,17 +4,76 @@ import get2gether.model.Invite;
 import get2gether.enums.Type;
 import get2gether.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface InviteRepository extends JpaRepository<Invite, Long> {
+public interface InviteRepository extends JpaRepository<Invite, Long>, InviteBatchRepository {
     boolean existsByReceiverAndTypeAndTypeId(User receiver, Type type, Long typeId);
 
     List<Invite> findByTypeAndTypeId(Type type, Long typeId);
 
     Optional<Invite> findByReceiverAndTypeAndTypeId(User receiver, Type type, Long typeId);
 
+    @Query("SELECT i.receiver.id FROM Invite i " +
+            "WHERE i.receiver.id IN :receiverIds AND i.type = :type AND i.typeId = :typeId")
+    Set<Long> findInvitedReceiverIds(@Param("receiverIds") Collection<Long> receiverIds,
+                                     @Param("type") Type type,
+                                     @Param("typeId") Long typeId);
+
+    @Query("SELECT DISTINCT i.receiver.username FROM Invite i WHERE i.type = :type AND i.typeId IN :typeIds")
+    Set<String> findReceiverUsernamesByTypeAndTypeIdIn(@Param("type") Type type,
+                                                       @Param("typeIds") Collection<Long> typeIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Invite i WHERE i.type = :type AND i.typeId IN :typeIds")
+    int deleteByTypeAndTypeIdIn(@Param("type") Type type, @Param("typeIds") Collection<Long> typeIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Invite i WHERE i.receiver.id = :receiverId AND i.type = :type AND i.typeId IN :typeIds")
+    int deleteByReceiverIdAndTypeAndTypeIdIn(@Param("receiverId") Long receiverId,
+                                             @Param("type") Type type,
+                                             @Param("typeIds") Collection<Long> typeIds);
+
+    /**
+     * Columns of an invite shown to its receiver, with the sender's name and, for event invites,
+     * the event's date and group.
+     */
+    interface ReceivedView {
+        Long getId();
+
+        Type getType();
+
+        Long getTypeId();
+
+        String getTypeName();
+
+        String getSenderUsername();
+
+        String getSenderFirstName();
+
+        String getSenderLastName();
+
+        String getGroupName();
+
+        LocalDate getEventDate();
+    }
+
+    @Query("SELECT i.id AS id, i.type AS type, i.typeId AS typeId, i.typeName AS typeName, " +
+            "i.senderUsername AS senderUsername, s.firstName AS senderFirstName, s.lastName AS senderLastName, " +
+            "g.name AS groupName, e.date AS eventDate " +
+            "FROM Invite i " +
+            "LEFT JOIN User s ON s.username = i.senderUsername " +
+            "LEFT JOIN Event e ON i.type = get2gether.enums.Type.EVENT AND e.id = i.typeId " +
+            "LEFT JOIN e.group g " +
+            "WHERE i.receiver.id = :receiverId ORDER BY i.id")
+    List<ReceivedView> findReceivedViewsByReceiverId(@Param("receiverId") Long receiverId);
 }
@@ -1,12 +1,25 @@
 package get2gether.repository;
 
 import get2gether.model.Message;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
-    List<Message> findByGroupId(Long groupId);
+
+    @Query("SELECT m FROM Message m WHERE m.group.id = :groupId ORDER BY m.id")
+    List<Message> findByGroupId(@Param("groupId") Long groupId);
+
+    @Query("SELECT m FROM Message m WHERE m.group.id = :groupId ORDER BY m.id DESC")
+    List<Message> findByGroupIdOrderByIdDesc(@Param("groupId") Long groupId, Limit limit);
+
+    @Query("SELECT m FROM Message m WHERE m.group.id = :groupId AND m.id < :before ORDER BY m.id DESC")
+    List<Message> findByGroupIdAndIdLessThanOrderByIdDesc(@Param("groupId") Long groupId,
+                                                          @Param("before") Long before,
+                                                          Limit limit);
 }
@@ -1,14 +1,111 @@
 package get2gether.repository;
 
+import get2gether.enums.Role;
+import get2gether.model.AvailabilityBitmap;
 import get2gether.model.User;
+import get2gether.security.TokenVersion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
 
     boolean existsByUsername(String username);
+
+    @EntityGraph(attributePaths = "roles")
+    List<User> findByUsernameIn(Collection<String> usernames);
+
+    @Query("SELECT new get2gether.security.TokenVersion(u.id, u.tokenVersion) FROM User u WHERE u.username = :username")
+    Optional<TokenVersion> findTokenVersionByUsername(@Param("username") String username);
+
+    /**
+     * Columns of a user shown on their own profile.
+     */
+    interface ProfileView {
+        Long getId();
+
+        String getUsername();
+
+        String getFirstName();
+
+        String getLastName();
+    }
+
+    @Query("SELECT u.id AS id, u.username AS username, u.firstName AS firstName, u.lastName AS lastName " +
+            "FROM User u WHERE u.username = :username")
+    Optional<ProfileView> findProfileByUsername(@Param("username") String username);
+
+    @Query("SELECT u.id AS id, u.username AS username, u.firstName AS firstName, u.lastName AS lastName " +
+            "FROM User u JOIN u.roles r WHERE r = get2gether.enums.Role.USER " +
+            "AND (LOWER(u.username) LIKE :prefix ESCAPE '\\' OR LOWER(u.firstName) LIKE :prefix ESCAPE '\\' " +
+            "OR LOWER(u.lastName) LIKE :prefix ESCAPE '\\') " +
+            "ORDER BY u.username")
+    List<ProfileView> findDirectoryPage(@Param("prefix") String prefix, Limit limit);
+
+    @Query("SELECT u.id AS id, u.username AS username, u.firstName AS firstName, u.lastName AS lastName " +
+            "FROM User u JOIN u.roles r WHERE r = get2gether.enums.Role.USER AND u.username > :after " +
+            "AND (LOWER(u.username) LIKE :prefix ESCAPE '\\' OR LOWER(u.firstName) LIKE :prefix ESCAPE '\\' " +
+            "OR LOWER(u.lastName) LIKE :prefix ESCAPE '\\') " +
+            "ORDER BY u.username")
+    List<ProfileView> findDirectoryPageAfter(@Param("prefix") String prefix,
+                                             @Param("after") String after,
+                                             Limit limit);
+
+    @Query("SELECT u.id AS id, u.username AS username, u.firstName AS firstName, u.lastName AS lastName " +
+            "FROM User u JOIN u.roles r WHERE r = :role")
+    List<ProfileView> findProfilesByRole(@Param("role") Role role);
+
+    @Query("SELECT d FROM User u JOIN u.availableDays d WHERE u.id = :userId")
+    Set<LocalDate> findAvailableDaysByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    @Query("SELECT d FROM User u JOIN u.availableDays d WHERE u.id = :userId AND d IN :days")
+    Set<LocalDate> findAvailableDaysByUserIdAndDayIn(@Param("userId") Long userId,
+                                                     @Param("days") Collection<LocalDate> days);
+
+    @Modifying
+    @Query(value = "INSERT INTO availability_days (user_id, available_day) VALUES (:userId, :day)", nativeQuery = true)
+    void insertAvailableDay(@Param("userId") Long userId, @Param("day") LocalDate day);
+
+    @Modifying
+    @Query(value = "DELETE FROM availability_days WHERE user_id = :userId AND available_day IN (:days)", nativeQuery = true)
+    int deleteAvailableDays(@Param("userId") Long userId, @Param("days") Collection<LocalDate> days);
+
+    @Modifying
+    @Query(value = "DELETE FROM availability_days WHERE user_id = :userId", nativeQuery = true)
+    int deleteAllAvailableDays(@Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT u.id FROM User u JOIN u.availableDays d ORDER BY u.id")
+    List<Long> findIdsWithAvailableDayRows(Limit limit);
+
+    @Query("SELECT u.availabilityBitmap FROM User u WHERE u.id = :userId")
+    Optional<AvailabilityBitmap> findAvailabilityBitmapByUserId(@Param("userId") Long userId);
+
+    @Query(value = "SELECT availability_bitmap FROM users WHERE id = :userId FOR UPDATE", nativeQuery = true)
+    Optional<byte[]> lockAvailabilityBitmapByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE User u SET u.availabilityBitmap = :bitmap WHERE u.id = :userId")
+    int updateAvailabilityBitmap(@Param("userId") Long userId, @Param("bitmap") AvailabilityBitmap bitmap);
+
+    @Query("SELECT u.id FROM User u WHERE u.availabilityBitmap IS NOT NULL ORDER BY u.id")
+    List<Long> findIdsWithAvailabilityBitmap(Limit limit);
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
 }
@@ -0,0 +1,35 @@
+package get2gether.security;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * User details loaded from the database, carrying the account's token version along with the
+ * credentials and roles, so a token can be issued right after authentication without loading the user again.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class AuthenticatedUser extends User {
+
+    private final TokenVersion tokenVersion;
+
+    public AuthenticatedUser(String username, String password, Collection<? extends GrantedAuthority> authorities,
+                             TokenVersion tokenVersion) {
+        super(username, password, authorities);
+        this.tokenVersion = tokenVersion;
+    }
+
+    /**
+     * Returns a copy of these details with a re-encoded password.
+     *
+     * @param encodedPassword the new password hash
+     * @return the same user with the new password hash
+     */
+    public AuthenticatedUser withPassword(String encodedPassword) {
+        return new AuthenticatedUser(getUsername(), encodedPassword, getAuthorities(), tokenVersion);
+    }
+}
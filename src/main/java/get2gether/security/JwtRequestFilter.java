@@ -1,33 +1,36 @@
 package get2gether.security;
 
-import get2gether.service.CustomUserDetailsService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtRequestFilter extends OncePerRequestFilter {
 
-    private final CustomUserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
     private final JwtUtil jwtUtil;
+    private final TokenVersionCache tokenVersionCache;
+
+    @Value("${jwt.stateless-authentication:false}")
+    private boolean statelessAuthentication;
 
     /**
      * Determines if the filter should be skipped for the given request.
-     * Skips authentication for login and registration endpoints.
+     * Skips authentication for login, registration and token refresh endpoints.
      *
      * @param request the HTTP request
      * @return true if the request should not be filtered, false otherwise
@@ -35,18 +38,20 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getServletPath();
-        return path.startsWith("/auth/login") || path.startsWith("/auth/register");
+        return path.startsWith("/auth/login") || path.startsWith("/auth/register") || path.startsWith("/auth/refresh");
     }
 
     /**
      * Processes each request to validate the JWT token and set up authentication.
      * The method:
      * 1. Extracts the JWT token from the Authorization header
-     * 2. Validates the token and extracts the username
-     * 3. Loads the user details and validates the token against them
-     * 4. Sets up the security context with the authenticated user's details and authorities
+     * 2. Validates the token and extracts the username and roles in one pass (cached per token)
+     * 3. Loads the user details (cached, see {@link UserDetailsCache}) and checks they belong to the token's subject, or, with
+     *    {@code jwt.stateless-authentication} enabled, builds them from the token's claims after checking
+     *    the token's version against the cached version of the account
+     * 4. Sets up the security context with the authenticated user's details and the token's authorities
      * 
-     * If the token is expired or invalid, responds with a 401 Unauthorized status.
+     * If the token is expired, invalid or revoked, responds with a 401 Unauthorized status.
      *
      * @param request the HTTP request
      * @param response the HTTP response
@@ -62,13 +67,12 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        TokenClaims tokenClaims = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
+            String jwt = authorizationHeader.substring(7);
             try {
-                username = jwtUtil.extractUsername(jwt);
+                tokenClaims = jwtUtil.validateAndExtract(jwt);
             } catch (io.jsonwebtoken.ExpiredJwtException ex) {
                 // Token is expired — respond with 401 Unauthorized
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token expired");
@@ -80,13 +84,25 @@ public class JwtRequestFilter extends OncePerRequestFilter {
             }
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (tokenClaims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails;
+            if (statelessAuthentication) {
+                if (!tokenVersionCache.isCurrent(tokenClaims)) {
+                    // account deleted, re-created or its tokens revoked since the token was issued
+                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token revoked");
+                    return;
+                }
+                userDetails = User.withUsername(tokenClaims.username())
+                        .password("")
+                        .authorities(tokenClaims.authorities())
+                        .build();
+            } else {
+                userDetails = userDetailsCache.loadUserByUsername(tokenClaims.username());
+            }
 
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                List<GrantedAuthority> authorities = jwtUtil.extractRoles(jwt);
+            if (userDetails.getUsername().equals(tokenClaims.username())) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, authorities);
+                        userDetails, null, tokenClaims.authorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
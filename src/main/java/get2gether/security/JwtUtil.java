@@ -1,6 +1,8 @@
 package get2gether.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -10,19 +12,45 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+/**
+ * Creates and verifies the JWT tokens the application authenticates with.
+ * The signing key and the parser are built once. Verified tokens are cached by their SHA-256 digest
+ * until they expire, so a client sending the same token on every request pays for signature
+ * verification and claim parsing only once.
+ */
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
-
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    private static final long ALLOWED_CLOCK_SKEW_SECONDS = 60;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private final Long expiration;
+    private final int cacheMaxSize;
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+    private final Map<ByteBuffer, TokenClaims> verifiedTokens = new ConcurrentHashMap<>();
+
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.expiration}") Long expiration,
+                   @Value("${jwt.cache.max-size:10000}") int cacheMaxSize) {
+        this.expiration = expiration;
+        this.cacheMaxSize = cacheMaxSize;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .setAllowedClockSkewSeconds(ALLOWED_CLOCK_SKEW_SECONDS)
+                .build();
+    }
 
     /**
      * Gets the signing key for JWT operations.
@@ -30,40 +58,83 @@ public class JwtUtil {
      * @return the signing key derived from the secret
      */
     protected final Key getSigningKey() {
-        byte[] keyBytes = secret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
     }
 
     /**
-     * Extracts the username from a JWT token.
+     * Verifies a token and extracts its username and roles in one pass.
+     * The result is cached until the token expires; later calls with the same token
+     * only compute its digest.
      *
      * @param token the JWT token
-     * @return the username from the token's subject claim
+     * @return the verified username, roles, expiration and token version of the token
+     * @throws io.jsonwebtoken.ExpiredJwtException if the token has expired
+     * @throws io.jsonwebtoken.JwtException if the token is malformed or its signature is invalid
      */
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    public TokenClaims validateAndExtract(String token) {
+        var digest = digest(token);
+        var cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (!isExpired(cached, System.currentTimeMillis())) {
+                return cached;
+            }
+            verifiedTokens.remove(digest);
+        }
+
+        var claims = extractAllClaims(token);
+        List<?> roleNames = claims.get("roles", List.class);
+        var verified = new TokenClaims(
+                claims.getSubject(),
+                roleNames == null ? List.of() : roleNames.stream()
+                        .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.toString()))
+                        .toList(),
+                claims.getExpiration().getTime(),
+                extractTokenVersion(claims));
+        cache(digest, verified);
+        return verified;
     }
 
-    /**
-     * Extracts the expiration date from a JWT token.
-     *
-     * @param token the JWT token
-     * @return the expiration date from the token
-     */
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private static TokenVersion extractTokenVersion(Claims claims) {
+        var userId = claims.get(USER_ID_CLAIM, Number.class);
+        var version = claims.get(TOKEN_VERSION_CLAIM, Number.class);
+        if (userId == null || version == null) {
+            return null;
+        }
+        return new TokenVersion(userId.longValue(), version.intValue());
+    }
+
+    private void cache(ByteBuffer digest, TokenClaims verified) {
+        if (verifiedTokens.size() >= cacheMaxSize) {
+            var now = System.currentTimeMillis();
+            verifiedTokens.values().removeIf(claims -> isExpired(claims, now));
+            if (verifiedTokens.size() >= cacheMaxSize) {
+                // still full of live tokens: start over rather than track recency on every hit
+                verifiedTokens.clear();
+            }
+        }
+        verifiedTokens.put(digest, verified);
+    }
+
+    private static boolean isExpired(TokenClaims claims, long now) {
+        return claims.expiresAtMillis() + ALLOWED_CLOCK_SKEW_SECONDS * 1000 <= now;
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 
     /**
-     * Extracts a specific claim from a JWT token.
+     * Extracts the username from a JWT token.
      *
      * @param token the JWT token
-     * @param claimsResolver function to extract the desired claim
-     * @return the extracted claim value
+     * @return the username from the token's subject claim
      */
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public String extractUsername(String token) {
+        return validateAndExtract(token).username();
     }
 
     /**
@@ -73,36 +144,39 @@ public class JwtUtil {
      * @return all claims from the token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .setAllowedClockSkewSeconds(60)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     /**
-     * Checks if a JWT token has expired.
+     * Generates a JWT token for a user.
+     * Includes the user's roles in the token claims.
      *
-     * @param token the JWT token to check
-     * @return true if the token has expired, false otherwise
+     * @param userDetails the user details to generate the token for
+     * @return the generated JWT token
      */
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public String generateToken(UserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("roles", userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList()));
+        return createToken(claims, userDetails.getUsername());
     }
 
     /**
-     * Generates a JWT token for a user.
-     * Includes the user's roles in the token claims.
+     * Generates a JWT token for a user that also carries the account's id and token version,
+     * which stateless authentication checks to reject tokens of deleted or revoked accounts.
      *
      * @param userDetails the user details to generate the token for
+     * @param tokenVersion the account's id and current token version
      * @return the generated JWT token
      */
-    public String generateToken(UserDetails userDetails) {
+    public String generateToken(UserDetails userDetails, TokenVersion tokenVersion) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("roles", userDetails.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.toList()));
+        claims.put(USER_ID_CLAIM, tokenVersion.userId());
+        claims.put(TOKEN_VERSION_CLAIM, tokenVersion.version());
         return createToken(claims, userDetails.getUsername());
     }
 
@@ -129,10 +203,10 @@ public class JwtUtil {
      * @param token the JWT token to validate
      * @param userDetails the user details to validate against
      * @return true if the token is valid for the user, false otherwise
+     * @throws io.jsonwebtoken.ExpiredJwtException if the token has expired
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateAndExtract(token).username().equals(userDetails.getUsername());
     }
 
     /**
@@ -142,28 +216,20 @@ public class JwtUtil {
      * @return list of granted authorities representing the user's roles
      */
     public List<GrantedAuthority> extractRoles(String token) {
-        Claims claims = extractAllClaims(token);
-        List<String> roleNames = claims.get("roles", List.class);
-        return roleNames.stream()
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+        return validateAndExtract(token).authorities();
     }
 
     /**
-     * Checks if a JWT token is valid by verifying its expiration.
+     * Checks if a JWT token is valid by verifying its signature, structure and expiration.
      *
      * @param token the JWT token to check
      * @return true if the token is valid, false otherwise
      */
     public boolean isTokenValid(String token) {
         try {
-            // This will validate signature, expiration, and structure
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            validateAndExtract(token);
             return true;
-        } catch (Exception e) {
+        } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
@@ -0,0 +1,17 @@
+package get2gether.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+/**
+ * The verified content of a JWT token that the application authenticates with.
+ *
+ * @param username the token's subject
+ * @param authorities the roles carried in the token's roles claim
+ * @param expiresAtMillis the token's expiration time in epoch milliseconds
+ * @param tokenVersion the account and token version the token was issued for, or null for tokens issued without one
+ */
+public record TokenClaims(String username, List<GrantedAuthority> authorities, long expiresAtMillis,
+                          TokenVersion tokenVersion) {
+}
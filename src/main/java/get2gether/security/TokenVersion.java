@@ -0,0 +1,13 @@
+package get2gether.security;
+
+/**
+ * Identifies the generation of tokens issued to a user account.
+ * Tokens carry the version of the account they were issued for; incrementing the user's
+ * token version, deleting the account or registering a new account under the same username
+ * makes every token issued before stale.
+ *
+ * @param userId the id of the account the token was issued for
+ * @param version the account's token version when the token was issued
+ */
+public record TokenVersion(Long userId, int version) {
+}
@@ -0,0 +1,115 @@
+package get2gether.security;
+
+import get2gether.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the current token version of recently active users in memory, so stateless authentication
+ * can reject tokens of deleted or revoked accounts without loading the user on every request.
+ * A version is read with a single-column query on first use and kept for {@code jwt.token-version-cache.ttl};
+ * unknown usernames are cached as well, so tokens of a deleted account do not query the database either.
+ * The cache holds at most {@code jwt.token-version-cache.max-size} users.
+ * Inside a transaction an invalidation is repeated after commit, and a version read while any invalidation
+ * happened is returned but not cached, so a revoked version cannot be kept until the entry expires.
+ */
+@Component
+public class TokenVersionCache {
+
+    private final UserRepository userRepository;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<String, CachedVersion> versions = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TokenVersionCache(UserRepository userRepository,
+                             @Value("${jwt.token-version-cache.max-size:10000}") int maxSize,
+                             @Value("${jwt.token-version-cache.ttl:60s}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    /**
+     * Checks whether a token was issued for the current account and token version of its subject.
+     * Tokens without a token version are treated as stale.
+     *
+     * @param claims the verified claims of the token
+     * @return true if the account still exists and its token version matches the token
+     */
+    public boolean isCurrent(TokenClaims claims) {
+        return claims.tokenVersion() != null
+                && claims.tokenVersion().equals(getVersion(claims.username()));
+    }
+
+    /**
+     * Returns the current account id and token version of a user.
+     *
+     * @param username the username to look up
+     * @return the user's current token version, or null if the user does not exist
+     */
+    public TokenVersion getVersion(String username) {
+        var now = System.currentTimeMillis();
+        var cached = versions.get(username);
+        if (cached != null && !isExpired(cached, now)) {
+            return cached.version();
+        }
+        var invalidationsBeforeRead = invalidations.get();
+        var current = userRepository.findTokenVersionByUsername(username).orElse(null);
+        if (invalidations.get() == invalidationsBeforeRead) {
+            cache(username, new CachedVersion(current, now));
+        }
+        return current;
+    }
+
+    /**
+     * Drops the cached version of a user, so the next request reads it from the database.
+     * Called when the user is deleted or their tokens are revoked. Inside a transaction the entry is
+     * dropped again after commit, as a request may have cached the old version before the change committed.
+     *
+     * @param username the user whose version changed
+     */
+    public void invalidate(String username) {
+        remove(Objects.requireNonNull(username));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(username);
+                }
+            });
+        }
+    }
+
+    private void remove(String username) {
+        invalidations.incrementAndGet();
+        versions.remove(username);
+    }
+
+    private void cache(String username, CachedVersion version) {
+        if (versions.size() >= maxSize) {
+            var now = version.loadedAtMillis();
+            versions.values().removeIf(cached -> isExpired(cached, now));
+            if (versions.size() >= maxSize) {
+                // still full of recently active users: start over rather than track recency on every hit
+                versions.clear();
+            }
+        }
+        versions.put(username, version);
+    }
+
+    private boolean isExpired(CachedVersion cached, long now) {
+        return cached.loadedAtMillis() + ttlMillis <= now;
+    }
+
+    private record CachedVersion(TokenVersion version, long loadedAtMillis) {
+    }
+}
@@ -0,0 +1,181 @@
+package get2gether.security;
+
+import get2gether.dto.UserDetailsCacheStatsDto;
+import get2gether.service.CustomUserDetailsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size- and time-bounded cache in front of {@link CustomUserDetailsService}, used to authenticate
+ * REST requests and STOMP CONNECT frames.
+ * Entries are kept in load order, so the oldest entry is both the first to expire and the one evicted
+ * when the cache is full. Concurrent lookups of a user that is not cached share a single database load,
+ * so a burst of reconnects of the same user costs one query. The login path does not use the cache
+ * and always checks credentials against the database.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<String, CachedUserDetails> entries = new LinkedHashMap<>();
+    private final Map<String, CompletableFuture<UserDetails>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserDetailsCache(CustomUserDetailsService userDetailsService,
+                            @Value("${security.user-details-cache.max-size:10000}") int maxSize,
+                            @Value("${security.user-details-cache.ttl:5m}") Duration ttl) {
+        this.userDetailsService = userDetailsService;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    /**
+     * Returns the user details of a user, loading them from the database if they are not cached or expired.
+     *
+     * @param username the username to look up
+     * @return the user's details
+     * @throws org.springframework.security.core.userdetails.UsernameNotFoundException if no user has the username
+     */
+    public UserDetails loadUserByUsername(String username) {
+        var cached = getCached(username, System.currentTimeMillis());
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        var load = new CompletableFuture<UserDetails>();
+        var inFlight = loading.putIfAbsent(username, load);
+        if (inFlight != null) {
+            hits.incrementAndGet();
+            return join(inFlight);
+        }
+        misses.incrementAndGet();
+        try {
+            var userDetails = userDetailsService.loadUserByUsername(username);
+            synchronized (entries) {
+                // an invalidation during the load removed our marker: the result may already be stale
+                if (loading.remove(username, load)) {
+                    put(username, new CachedUserDetails(userDetails, System.currentTimeMillis()));
+                }
+            }
+            load.complete(userDetails);
+            return userDetails;
+        } catch (RuntimeException e) {
+            loading.remove(username, load);
+            load.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes a user's details from the cache. Inside a transaction the entry is removed again after commit,
+     * so a concurrent request cannot keep the details read before the change was committed.
+     *
+     * @param username the user whose account changed
+     */
+    public void invalidate(String username) {
+        remove(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(username);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the hit, miss and eviction counts of the cache and its current size.
+     *
+     * @return the cache statistics
+     */
+    public UserDetailsCacheStatsDto getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return UserDetailsCacheStatsDto.builder()
+                .size(size)
+                .maxSize(maxSize)
+                .hits(hits.get())
+                .misses(misses.get())
+                .evictions(evictions.get())
+                .invalidations(invalidations.get())
+                .build();
+    }
+
+    private UserDetails getCached(String username, long now) {
+        synchronized (entries) {
+            var cached = entries.get(username);
+            if (cached == null) {
+                return null;
+            }
+            if (isExpired(cached, now)) {
+                entries.remove(username);
+                evictions.incrementAndGet();
+                return null;
+            }
+            return cached.userDetails();
+        }
+    }
+
+    private void remove(String username) {
+        synchronized (entries) {
+            loading.remove(username);
+            if (entries.remove(username) != null) {
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    /** Must be called holding the lock on {@code entries}. */
+    private void put(String username, CachedUserDetails userDetails) {
+        entries.remove(username);
+        var now = userDetails.loadedAtMillis();
+        var eldest = entries.entrySet().iterator();
+        while (eldest.hasNext()) {
+            var entry = eldest.next();
+            if (entries.size() < maxSize && !isExpired(entry.getValue(), now)) {
+                break;
+            }
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+        entries.put(username, userDetails);
+    }
+
+    private boolean isExpired(CachedUserDetails cached, long now) {
+        return cached.loadedAtMillis() + ttlMillis <= now;
+    }
+
+    private static UserDetails join(CompletableFuture<UserDetails> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record CachedUserDetails(UserDetails userDetails, long loadedAtMillis) {
+    }
+}
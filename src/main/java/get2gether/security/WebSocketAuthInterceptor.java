@@ -1,6 +1,5 @@
 package get2gether.security;
 
-import get2gether.service.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
@@ -25,14 +24,15 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
 
     private final JwtUtil jwtUtil;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final UserDetailsCache userDetailsCache;
 
     /**
      * Intercepts WebSocket messages before they are sent to validate authentication for STOMP connect frames.
      * For CONNECT commands, it:
      * 1. Extracts the JWT token from the Authorization header
      * 2. Validates the token and extracts the username
-     * 3. Loads the user details
+     * 3. Loads the user details from the cache shared with the REST filter, so mass reconnects
+     *    do not query the database once per connection
      * 4. Sets the authenticated user as the principal in the WebSocket context
      * 
      * Other STOMP frames (SEND, SUBSCRIBE) use the principal set during connection.
@@ -56,9 +56,9 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
 
                 String jwt = authHeader.substring(7);
-                String username = jwtUtil.extractUsername(jwt);
+                String username = jwtUtil.validateAndExtract(jwt).username();
                 log.info("username: {}", username);
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = userDetailsCache.loadUserByUsername(username);
                 UsernamePasswordAuthenticationToken authenticatedUser = new UsernamePasswordAuthenticationToken(userDetails,
                         null,
                         userDetails.getAuthorities());
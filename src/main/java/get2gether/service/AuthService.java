@@ -1,13 +1,17 @@
 package get2gether.service;
 
+import get2gether.dto.AuthResponseDto;
 import get2gether.dto.RegisterRequestDto;
+import get2gether.enums.ResourceType;
+import get2gether.exception.InvalidRefreshTokenException;
 import get2gether.exception.RegistrationException;
 import get2gether.exception.ResourceNotFoundException;
-import get2gether.enums.ResourceType;
 import get2gether.enums.Role;
 import get2gether.model.User;
 import get2gether.repository.UserRepository;
+import get2gether.security.AuthenticatedUser;
 import get2gether.security.JwtUtil;
+import get2gether.security.TokenVersion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -21,7 +25,7 @@ import java.util.List;
 
 /**
  * Service responsible for handling user authentication and registration.
- * Provides functionality for user login, registration, and JWT token generation.
+ * Provides functionality for user login, registration, JWT token generation and refresh.
  * Manages user authentication state and ensures secure password handling.
  */
 @Service
@@ -29,32 +33,64 @@ import java.util.List;
 public class AuthService {
 
     private final AuthenticationManager authenticationManager;
-    private final CustomUserDetailsService userDetailsService;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final UserSearchIndex userSearchIndex;
 
     /**
      * Authenticates a user and generates a JWT token upon successful authentication.
      * The method:
-     * 1. Verifies the user exists in the database
-     * 2. Authenticates the user's credentials
-     * 3. Generates a JWT token for the authenticated user
+     * 1. Authenticates the user's credentials, loading the user once
+     * 2. Generates a JWT token for the authenticated user, carrying the user's current token version
+     * 3. Issues a refresh token for the user
+     *
+     * An outdated password hash is re-encoded by the authentication provider on success.
      *
      * @param username the username to authenticate
      * @param password the password to verify
-     * @return JWT token for the authenticated user
-     * @throws ResourceNotFoundException if the user is not found
+     * @return the JWT and refresh tokens of the authenticated user
+     * @throws org.springframework.security.core.userdetails.UsernameNotFoundException if the user is not found
      */
-    public String authenticateAndGenerateToken(String username, String password) {
-        if (!userRepository.existsByUsername(username)) {
-            throw new ResourceNotFoundException(ResourceType.USER, "username: " + username);
-        }
-        authenticationManager.authenticate(
+    @Transactional
+    public AuthResponseDto authenticateAndGenerateToken(String username, String password) {
+        var authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(username, password)
         );
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-        return jwtUtil.generateToken(userDetails);
+        var user = (AuthenticatedUser) authentication.getPrincipal();
+        var refreshToken = refreshTokenService.issue(userRepository.getReferenceById(user.getTokenVersion().userId()));
+        return new AuthResponseDto(jwtUtil.generateToken(user, user.getTokenVersion()), refreshToken);
+    }
+
+    /**
+     * Exchanges a refresh token for a new JWT token and a new refresh token.
+     * The presented refresh token can not be used again.
+     *
+     * @param refreshToken the refresh token issued at login, registration or the previous refresh
+     * @return the new JWT and refresh tokens
+     * @throws get2gether.exception.InvalidRefreshTokenException if the refresh token is unknown, expired or already used
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public AuthResponseDto refreshTokens(String refreshToken) {
+        var issued = refreshTokenService.rotate(refreshToken);
+        var user = issued.user();
+        return new AuthResponseDto(jwtUtil.generateToken(buildUserDetails(user),
+                new TokenVersion(user.getId(), user.getTokenVersion())), issued.token());
+    }
+
+    /**
+     * Signs a user out everywhere: revokes all their refresh tokens and increments their token version,
+     * so JWT tokens issued before are rejected when stateless authentication is enabled.
+     *
+     * @param username the user to sign out
+     * @throws ResourceNotFoundException if the user is not found
+     */
+    @Transactional
+    public void revokeAllTokens(String username) {
+        var user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException(ResourceType.USER, "username: " + username));
+        refreshTokenService.revokeAll(user);
     }
 
     /**
@@ -63,20 +99,23 @@ public class AuthService {
      * 1. Checks if the username is already taken
      * 2. Creates a new user with encoded password
      * 3. Saves the user to the database
-     * 4. Generates a JWT token for the new user
+     * 4. Generates a JWT token and a refresh token for the new user
      *
      * @param request the registration request containing user details
-     * @return JWT token for the newly registered user
+     * @return the JWT and refresh tokens of the newly registered user
      * @throws RegistrationException if the username already exists
      */
     @Transactional
-    public String registerAndGenerateToken(RegisterRequestDto request) {
+    public AuthResponseDto registerAndGenerateToken(RegisterRequestDto request) {
         if (userRepository.existsByUsername(request.getUsername())) {
             throw new RegistrationException("Username already exists");
         }
         var user = createUser(request);
-        userRepository.save(user);
-        return jwtUtil.generateToken(buildUserDetails(user));
+        var savedUser = userRepository.save(user);
+        userSearchIndex.put(savedUser);
+        var jwt = jwtUtil.generateToken(buildUserDetails(savedUser),
+                new TokenVersion(savedUser.getId(), savedUser.getTokenVersion()));
+        return new AuthResponseDto(jwt, refreshTokenService.issue(savedUser));
     }
 
     /**
@@ -0,0 +1,91 @@
+package get2gether.service;
+
+import get2gether.config.AvailabilityProperties;
+import get2gether.model.AvailabilityBitmap;
+import get2gether.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+
+/**
+ * Moves user availability into the storage selected by availability.storage when the application starts.
+ * In bitmap mode the rows of every user in the availability_days table are merged into the user's bitmap
+ * and deleted; in rows mode every bitmap is written back as rows and cleared. Users are migrated in
+ * batches of availability.migration-batch-size, each in its own transaction, so an interrupted migration
+ * continues on the next start. Once the data is in the configured storage this costs a single query.
+ * The migration runs once all beans are created, before the web server and the message broker start, so
+ * requests never read a user whose availability is still in the other storage. Each user's row is locked
+ * while the user is migrated, so instances starting at the same time migrate every user only once.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilityStorageMigration implements SmartInitializingSingleton {
+
+    private final UserRepository userRepository;
+    private final AvailabilityProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    /**
+     * Moves the availability of every user that is still stored in the other format.
+     *
+     * @return the number of migrated users
+     */
+    public int migrate() {
+        var toBitmap = properties.getStorage() == AvailabilityProperties.Storage.BITMAP;
+        var batch = Limit.of(properties.getMigrationBatchSize());
+        var migrated = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                var userIds = toBitmap
+                        ? userRepository.findIdsWithAvailableDayRows(batch)
+                        : userRepository.findIdsWithAvailabilityBitmap(batch);
+                userIds.forEach(toBitmap ? this::moveRowsToBitmap : this::moveBitmapToRows);
+                return userIds.size();
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+            migrated += count;
+        }
+        if (migrated > 0) {
+            log.info("[AvailabilityStorageMigration]: moved availability of {} users to {} storage",
+                    migrated, properties.getStorage());
+        }
+        return migrated;
+    }
+
+    private void moveRowsToBitmap(Long userId) {
+        var bitmap = lockBitmap(userId);
+        var days = userRepository.findAvailableDaysByUserId(userId);
+        if (days.isEmpty()) {
+            return;
+        }
+        userRepository.updateAvailabilityBitmap(userId, bitmap.with(days, Set.of()));
+        userRepository.deleteAllAvailableDays(userId);
+    }
+
+    private void moveBitmapToRows(Long userId) {
+        var days = lockBitmap(userId).toDates();
+        days.removeAll(userRepository.findAvailableDaysByUserId(userId));
+        days.forEach(day -> userRepository.insertAvailableDay(userId, day));
+        userRepository.updateAvailabilityBitmap(userId, null);
+    }
+
+    // Locks the user's row, which availability changes lock as well, and returns the bitmap read with the lock
+    private AvailabilityBitmap lockBitmap(Long userId) {
+        return userRepository.lockAvailabilityBitmapByUserId(userId)
+                .map(AvailabilityBitmap::fromBytes)
+                .orElse(AvailabilityBitmap.EMPTY);
+    }
+}
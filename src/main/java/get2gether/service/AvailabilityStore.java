@@ -0,0 +1,152 @@
+package get2gether.service;
+
+import get2gether.config.AvailabilityProperties;
+import get2gether.model.AvailabilityBitmap;
+import get2gether.model.User;
+import get2gether.repository.GroupRepository;
+import get2gether.repository.UserRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads and writes the available days of users in the storage selected by availability.storage:
+ * one row per day in the availability_days table, or one {@link AvailabilityBitmap} per user.
+ * Services and listeners go through this class instead of the user's availableDays collection,
+ * so they work the same in both modes.
+ */
+@Service
+@EnableConfigurationProperties(AvailabilityProperties.class)
+public class AvailabilityStore {
+
+    private final UserRepository userRepository;
+    private final GroupRepository groupRepository;
+    private final boolean bitmap;
+
+    public AvailabilityStore(UserRepository userRepository, GroupRepository groupRepository,
+                             AvailabilityProperties properties) {
+        this.userRepository = userRepository;
+        this.groupRepository = groupRepository;
+        this.bitmap = properties.getStorage() == AvailabilityProperties.Storage.BITMAP;
+    }
+
+    /**
+     * Days actually added to and removed from a user's availability.
+     *
+     * @param added the days the user became available on
+     * @param removed the days the user is no longer available on
+     */
+    public record Change(Set<LocalDate> added, Set<LocalDate> removed) {
+
+        public boolean isEmpty() {
+            return added.isEmpty() && removed.isEmpty();
+        }
+    }
+
+    /**
+     * Returns the available days of a loaded user.
+     *
+     * @param user the user
+     * @return the user's available days; in rows mode the user's own collection
+     */
+    public Set<LocalDate> getAvailableDays(User user) {
+        if (!bitmap) {
+            return user.getAvailableDays();
+        }
+        return user.getAvailabilityBitmap() == null ? new HashSet<>() : user.getAvailabilityBitmap().toDates();
+    }
+
+    /**
+     * Returns the available days of a user without loading the user.
+     *
+     * @param userId the ID of the user
+     * @return the user's available days
+     */
+    public Set<LocalDate> getAvailableDays(Long userId) {
+        if (!bitmap) {
+            return userRepository.findAvailableDaysByUserId(userId);
+        }
+        return userRepository.findAvailabilityBitmapByUserId(userId)
+                .map(AvailabilityBitmap::toDates)
+                .orElseGet(HashSet::new);
+    }
+
+    /**
+     * Replaces the available days of a loaded user; written when the user is saved.
+     *
+     * @param user the user
+     * @param availableDays the user's new available days
+     */
+    public void setAvailableDays(User user, Set<LocalDate> availableDays) {
+        if (bitmap) {
+            user.setAvailabilityBitmap(AvailabilityBitmap.of(availableDays));
+        } else {
+            user.setAvailableDays(availableDays);
+        }
+    }
+
+    /**
+     * Adds and removes days of a user without loading the user. Must be called inside a transaction.
+     * The user's row is locked first, so concurrent changes of the same user are applied one after another.
+     * In rows mode only the changed rows are inserted or deleted; in bitmap mode the user's bitmap
+     * is read with that lock and written back once.
+     *
+     * @param userId the ID of the user
+     * @param added the days to add
+     * @param removed the days to remove; must not overlap the added days
+     * @return the days that were actually added and removed
+     */
+    public Change applyChange(Long userId, Collection<LocalDate> added, Collection<LocalDate> removed) {
+        var lockedBitmap = userRepository.lockAvailabilityBitmapByUserId(userId);
+        if (bitmap) {
+            var current = lockedBitmap
+                    .map(AvailabilityBitmap::fromBytes)
+                    .orElse(AvailabilityBitmap.EMPTY);
+            var change = new Change(
+                    added.stream().filter(day -> !current.contains(day)).collect(Collectors.toSet()),
+                    removed.stream().filter(current::contains).collect(Collectors.toSet()));
+            if (!change.isEmpty()) {
+                userRepository.updateAvailabilityBitmap(userId, current.with(change.added(), change.removed()));
+            }
+            return change;
+        }
+
+        var changedDays = new HashSet<>(added);
+        changedDays.addAll(removed);
+        var currentDays = changedDays.isEmpty()
+                ? Set.<LocalDate>of()
+                : userRepository.findAvailableDaysByUserIdAndDayIn(userId, changedDays);
+        var change = new Change(
+                added.stream().filter(day -> !currentDays.contains(day)).collect(Collectors.toSet()),
+                removed.stream().filter(currentDays::contains).collect(Collectors.toSet()));
+        if (!change.removed().isEmpty()) {
+            userRepository.deleteAvailableDays(userId, change.removed());
+        }
+        change.added().forEach(day -> userRepository.insertAvailableDay(userId, day));
+        return change;
+    }
+
+    /**
+     * Counts the group members available on each day of a range.
+     *
+     * @param groupId the ID of the group
+     * @param from the first day of the range, inclusive
+     * @param to the last day of the range, inclusive
+     * @return the counts indexed by the day's offset from the start of the range
+     */
+    public int[] countAvailableMembersByDay(Long groupId, LocalDate from, LocalDate to) {
+        if (bitmap) {
+            return AvailabilityBitmap.countByDay(groupRepository.findMemberAvailabilityBitmaps(groupId), from, to);
+        }
+        var counts = new int[(int) ChronoUnit.DAYS.between(from, to) + 1];
+        groupRepository.countAvailableMembersByDate(groupId, from, to).forEach(day ->
+                counts[(int) ChronoUnit.DAYS.between(from, day.getDate())] = day.getAvailableMembers().intValue());
+        return counts;
+    }
+}
@@ -1,23 +1,29 @@
 package get2gether.service;
 
 import get2gether.repository.UserRepository;
+import get2gether.security.AuthenticatedUser;
+import get2gether.security.TokenVersion;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Custom implementation of Spring Security's UserDetailsService.
  * This service is responsible for loading user details from the database
  * and converting them into Spring Security's UserDetails format.
  * It maps the application's user roles to Spring Security's GrantedAuthority.
+ * It also stores password hashes that were re-encoded with the current settings after a successful login.
  */
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+@Slf4j
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -26,8 +32,7 @@ public class CustomUserDetailsService implements UserDetailsService {
      * The method:
      * 1. Searches for the user in the database by username
      * 2. Maps the user's roles to Spring Security's GrantedAuthority
-     * 3. Creates a UserDetails object with the user's credentials and authorities
-     * 4. Sets account status flags (expired, locked, etc.) to false
+     * 3. Creates a UserDetails object with the user's credentials, authorities and token version
      *
      * @param username the username to search for
      * @return UserDetails object containing the user's security information
@@ -36,17 +41,31 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository.findByUsername(username)
-                .map(user -> User
-                        .withUsername(user.getUsername())
-                        .password(user.getPassword())
-                        .authorities(user.getRoles().stream()
+                .map(user -> new AuthenticatedUser(
+                        user.getUsername(),
+                        user.getPassword(),
+                        user.getRoles().stream()
                                 .map(role -> new SimpleGrantedAuthority(role.name()))
-                                .toList())
-                        .accountExpired(false)
-                        .accountLocked(false)
-                        .credentialsExpired(false)
-                        .disabled(false)
-                        .build())
+                                .toList(),
+                        new TokenVersion(user.getId(), user.getTokenVersion())))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
     }
+
+    /**
+     * Stores a password hash re-encoded with the current algorithm and cost.
+     * Called by the authentication provider after a successful login with an outdated hash.
+     *
+     * @param user the authenticated user
+     * @param newPassword the new password hash
+     * @return the user details with the new password hash
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        log.info("[CustomUserDetailsService]: re-encoded password hash of {}", user.getUsername());
+        return user instanceof AuthenticatedUser authenticatedUser
+                ? authenticatedUser.withPassword(newPassword)
+                : org.springframework.security.core.userdetails.User.withUserDetails(user).password(newPassword).build();
+    }
 }
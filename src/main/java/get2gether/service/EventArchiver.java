@@ -0,0 +1,80 @@
+package get2gether.service;
+
+import get2gether.config.EventArchiveProperties;
+import get2gether.enums.Type;
+import get2gether.repository.ArchivedEventRepository;
+import get2gether.repository.EventRepository;
+import get2gether.repository.InviteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves events dated more than events.archive.horizon before today out of the live tables.
+ * Each event is copied to event_archive together with its user_event rows and EVENT invites,
+ * which go to user_event_archive and invite_archive, and then deleted. Events are archived in batches
+ * of events.archive.batch-size, each in its own transaction, so a large backlog does not hold locks
+ * for long and an interrupted run continues on the next one. Runs on the events.archive.cron schedule.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(EventArchiveProperties.class)
+public class EventArchiver {
+
+    private final EventRepository eventRepository;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final InviteRepository inviteRepository;
+    private final EventArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${events.archive.cron:0 30 3 * * *}")
+    public void onSchedule() {
+        archivePastEvents();
+    }
+
+    /**
+     * Archives every event dated before the archive horizon.
+     *
+     * @return the number of archived events
+     */
+    public int archivePastEvents() {
+        var before = LocalDate.now().minus(properties.getHorizon());
+        var batch = Limit.of(properties.getBatchSize());
+        var archived = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                var eventIds = eventRepository.findIdsByDateBefore(before, batch);
+                if (!eventIds.isEmpty()) {
+                    archive(eventIds);
+                }
+                return eventIds.size();
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+            archived += count;
+        }
+        if (archived > 0) {
+            log.info("[EventArchiver]: Archived {} events dated before {}", archived, before);
+        }
+        return archived;
+    }
+
+    private void archive(List<Long> eventIds) {
+        archivedEventRepository.copyEvents(eventIds, LocalDateTime.now());
+        archivedEventRepository.copyGoingMembers(eventIds);
+        archivedEventRepository.copyEventInvites(eventIds);
+        inviteRepository.deleteByTypeAndTypeIdIn(Type.EVENT, eventIds);
+        eventRepository.deleteGoingMembersOfEvents(eventIds);
+        eventRepository.deleteByIdIn(eventIds);
+    }
+}
@@ -1,7 +1,9 @@
 package get2gether.service;
 
 import get2gether.dto.EventDto;
+import get2gether.dto.EventPageDto;
 import get2gether.dto.EventStatusDto;
+import get2gether.dto.UserDto;
 import get2gether.enums.EventAction;
 import get2gether.enums.ResourceType;
 import get2gether.enums.Type;
@@ -9,14 +11,29 @@ import get2gether.event.EventPublisher;
 import get2gether.exception.ForbiddenActionException;
 import get2gether.exception.ResourceNotFoundException;
 import get2gether.mapper.EventMapper;
+import get2gether.mapper.UserMapper;
 import get2gether.model.*;
+import get2gether.repository.ArchivedEventRepository;
 import get2gether.repository.EventRepository;
+import get2gether.repository.GroupRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -36,12 +53,23 @@ import java.util.Set;
 @Slf4j
 public class EventService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    /** Attempts of an attendance change, including the first one, when it conflicts with a concurrent change. */
+    public static final int MAX_ATTENDANCE_ATTEMPTS = 3;
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
     private final EventRepository eventRepository;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final GroupRepository groupRepository;
+    private final UserMapper userMapper;
     private final GroupService groupService;
     private final EventMapper eventMapper;
     private final EventPublisher eventPublisher;
     private final UserService userService;
     private final InviteService inviteService;
+    private final AvailabilityStore availabilityStore;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Creates a new event in the system.
@@ -50,7 +78,8 @@ public class EventService {
      * 2. Associates the event with the specified group
      * 3. Sets the host and initializes the going members list
      * 4. Saves the event to the database
-     * 5. Publishes event creation and attendance notifications
+     * 5. Removes the event date from the host's available days
+     * 6. Publishes event creation and availability notifications
      *
      * @param eventDto The event data transfer object containing all necessary event details
      * @param username The username of the user who will be the event host
@@ -63,14 +92,131 @@ public class EventService {
         var group = groupService.findByName(eventDto.getGroupName());
         var event = eventMapper.dtoToModel(eventDto);
         var host = userService.getUserFromDb(username);
-        event.setGroup(group).setHostUsername(username).setGoingMembers(Set.of(host));
+        event.setGroup(group).setHostUsername(username).setGoingMembers(Set.of(host)).setAttendeeCount(1);
         var savedEvent = eventRepository.save(event);
         log.info("[EventService]: Created new event '{}' by host {}", savedEvent.getName(), username);
         eventPublisher.publishEventAction(EventAction.CREATED, savedEvent);
-        eventPublisher.publishEventAttendanceChanged(savedEvent, savedEvent.getDate(), host, true);
+        removeFromAvailableDays(host, savedEvent.getDate());
         return eventMapper.modelToDtoOnGet(savedEvent);
     }
 
+    /**
+     * Retrieves one page of the events in a date range across all groups the user is a member of.
+     * The events are read with a single query over the (group_id, date) index, ordered by date and id,
+     * and, if requested, their going members with one more query; otherwise only the attendee counts
+     * are returned. Pass the returned nextCursor as "after" to load the next page of a long range.
+     *
+     * @param username the username of the current user
+     * @param from the first day of the range, inclusive
+     * @param to the last day of the range, inclusive
+     * @param after the cursor returned with the previous page; null for the first page
+     * @param limit the maximum number of events to return, capped at MAX_PAGE_SIZE
+     * @param includeMembers whether to return the going members of each event or only their count
+     * @return EventPageDto containing the events and the cursor for the next page
+     * @throws IllegalArgumentException if the range or the cursor is invalid or the limit is not positive
+     */
+    @Transactional(readOnly = true)
+    public EventPageDto getCalendarEvents(String username, LocalDate from, LocalDate to, String after, int limit,
+                                          boolean includeMembers) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be a positive number");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Range end must not be before its start");
+        }
+        var cursor = after == null ? null : Cursor.parse(after);
+        var groupIds = groupRepository.findGroupIdsByMemberUsername(username);
+        if (groupIds.isEmpty()) {
+            return EventPageDto.builder().events(List.of()).build();
+        }
+
+        var pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        var fetchLimit = Limit.of(pageSize + 1);
+        var events = cursor == null
+                ? eventRepository.findCalendarPage(groupIds, from, to, fetchLimit)
+                : eventRepository.findCalendarPageAfter(groupIds, from, to, cursor.date(), cursor.id(), fetchLimit);
+
+        var hasMore = events.size() > pageSize;
+        var page = hasMore ? events.subList(0, pageSize) : events;
+        var last = page.isEmpty() ? null : page.get(page.size() - 1);
+        var nextCursor = hasMore ? new Cursor(last.getDate(), last.getId()).toString() : null;
+
+        if (!includeMembers) {
+            return EventPageDto.builder()
+                    .events(page.stream().map(event -> userMapper.viewToDto(event, null)).toList())
+                    .nextCursor(nextCursor)
+                    .build();
+        }
+        var membersByEvent = new HashMap<Long, Set<UserDto>>();
+        if (!page.isEmpty()) {
+            eventRepository.findGoingMemberViewsByEventIdIn(page.stream().map(EventRepository.GoingView::getId).toList())
+                    .forEach(member -> membersByEvent.computeIfAbsent(member.getEventId(), eventId -> new HashSet<>())
+                            .add(userMapper.viewToDto(member)));
+        }
+        return EventPageDto.builder()
+                .events(page.stream()
+                        .map(event -> userMapper.viewToDto(event, membersByEvent.getOrDefault(event.getId(), Set.of())))
+                        .toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Position of the last event of a calendar page, written as "date:id".
+     */
+    private record Cursor(LocalDate date, Long id) {
+
+        static Cursor parse(String value) {
+            var separator = value.indexOf(':');
+            try {
+                return new Cursor(LocalDate.parse(value.substring(0, Math.max(separator, 0))),
+                        Long.valueOf(value.substring(separator + 1)));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + value);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return date + ":" + id;
+        }
+    }
+
+    /**
+     * Retrieves one page of a group's archived events, newest first.
+     * Pass the returned nextCursor as "before" to load the next, older page.
+     *
+     * @param groupId the ID of the group
+     * @param before the cursor returned with the previous page; null for the first page
+     * @param limit the maximum number of events to return, capped at MAX_PAGE_SIZE
+     * @return EventPageDto containing the archived events and the cursor for the next page
+     * @throws ResourceNotFoundException if the group is not found
+     * @throws IllegalArgumentException if the cursor is invalid or the limit is not positive
+     */
+    @Transactional(readOnly = true)
+    public EventPageDto getArchivedEvents(Long groupId, String before, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be a positive number");
+        }
+        var cursor = before == null ? null : Cursor.parse(before);
+        var group = groupRepository.findById(groupId)
+                .orElseThrow(() -> new ResourceNotFoundException(ResourceType.GROUP, "id: " + groupId));
+
+        var pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        var fetchLimit = Limit.of(pageSize + 1);
+        var events = cursor == null
+                ? archivedEventRepository.findPageByGroupId(groupId, fetchLimit)
+                : archivedEventRepository.findPageByGroupIdBefore(groupId, cursor.date(), cursor.id(), fetchLimit);
+
+        var hasMore = events.size() > pageSize;
+        var page = hasMore ? events.subList(0, pageSize) : events;
+        var last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return EventPageDto.builder()
+                .events(page.stream().map(event -> eventMapper.archivedToDto(event, group.getName())).toList())
+                .nextCursor(hasMore ? new Cursor(last.getDate(), last.getId()).toString() : null)
+                .build();
+    }
+
     /**
      * Validates that an event date is not in the past.
      * This is a critical validation to ensure events can only be created for future dates.
@@ -164,56 +310,88 @@ public class EventService {
     /**
      * Adds a user to an event's attendance list.
      * This method performs the following operations:
-     * 1. Adds the event to the user's going events list
-     * 2. Adds the user to the event's going members list
-     * 3. Saves the updated event
-     * 4. Publishes an attendance changed notification
+     * 1. Inserts the user's row into the user_event join table, unless the user is already going
+     * 2. Increments the event's attendee count
+     * 3. Removes the event date from the user's available days and publishes the availability change
+     * Neither the event's going members nor the user's going events are loaded,
+     * so the cost does not depend on the number of attendees.
      *
      * @param typeId The unique identifier of the event
      * @param user   The user to add to the event
+     * @throws ResourceNotFoundException if the event is not found
      */
+    @Transactional
     public void addUserToEvent(Long typeId, User user) {
         var event = getEventByIdFromDb(typeId);
-        user.getGoingEvents().add(event);
-        event.getGoingMembers().add(user);
-        eventRepository.save(event);
+        if (insertGoingMember(typeId, user) == 0) {
+            log.info("[EventService]: User {} is already going to event '{}'", user.getUsername(), event.getName());
+            return;
+        }
+        addToAttendeeCount(event, 1);
         log.info("[EventService]: User {} added to event '{}'", user.getUsername(), event.getName());
-        eventPublisher.publishEventAttendanceChanged(event, event.getDate(), user, true);
+        removeFromAvailableDays(user, event.getDate());
     }
 
     /**
      * Removes a user from an event's attendance list.
      * This method performs the following operations:
-     * 1. Removes the event from the user's going events list
-     * 2. Removes the user from the event's going members list
-     * 3. Saves the updated event
+     * 1. Deletes the user's row from the user_event join table
+     * 2. Decrements the event's attendee count if the user was going
      *
      * @param typeId   The unique identifier of the event
      * @param receiver The user to remove from the event
+     * @throws ResourceNotFoundException if the event is not found
      */
+    @Transactional
     public void removeUserFromEvent(Long typeId, User receiver) {
         var event = getEventByIdFromDb(typeId);
-        event.getGoingMembers().remove(receiver);
-        receiver.getGoingEvents().remove(event);
-        eventRepository.save(event);
+        if (eventRepository.deleteGoingMember(typeId, receiver.getId()) == 0) {
+            return;
+        }
+        addToAttendeeCount(event, -1);
         log.info("[EventService]: User {} removed from event '{}'", receiver.getUsername(), event.getName());
     }
 
     /**
      * Toggles a user's attendance status for an event.
-     * This method performs the following operations:
-     * 1. Checks for and removes any pending invites
+     * This method performs the following operations in a single transaction:
+     * 1. Deletes any pending invite of the user to the event
      * 2. Either adds or removes the user from the event based on the status
-     * 3. Updates the event's member list accordingly
+     * 3. Updates the user_event row, the attendee count and the user's available days accordingly
+     * Every write is conditional, so repeating a toggle does not change the result. When the transaction
+     * conflicts with a concurrent change (a duplicate user_event row, a lock timeout or a stale event version)
+     * it is rolled back and run again, up to MAX_ATTENDANCE_ATTEMPTS times. A caller that is already in a
+     * transaction is not retried, since the conflict has marked its transaction for rollback. A duplicate row
+     * that is still there after the last attempt is rethrown as a ConcurrencyFailureException.
      *
      * @param username The username of the user whose attendance is being toggled
      * @param eventId  The unique identifier of the event
      * @param dto      The attendance status DTO indicating whether the user is going or not
+     * @throws ResourceNotFoundException if the user or the event is not found
+     * @throws ConcurrencyFailureException if the change still conflicts after the last attempt
      */
     public void toggleEventAttendance(String username, Long eventId, EventStatusDto dto) {
+        var joinsTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> changeAttendance(username, eventId, dto.getIsGoing()));
+                return;
+            } catch (ConcurrencyFailureException | DuplicateKeyException e) {
+                if (joinsTransaction || attempt >= MAX_ATTENDANCE_ATTEMPTS) {
+                    throw e instanceof DuplicateKeyException
+                            ? new ConcurrencyFailureException("Attendance change kept conflicting", e)
+                            : e;
+                }
+                log.info("[EventService]: Attendance change of user {} to event {} conflicted, retrying (attempt {})",
+                        username, eventId, attempt + 1);
+            }
+        }
+    }
+
+    private void changeAttendance(String username, Long eventId, boolean isGoing) {
         var user = userService.getUserFromDb(username);
-        checkForPendingInvites(eventId, user);
-        if (dto.getIsGoing()) {
+        inviteService.deleteInvites(user, Type.EVENT, List.of(eventId));
+        if (isGoing) {
             addUserToEvent(eventId, user);
         } else {
             removeUserFromEvent(eventId, user);
@@ -221,17 +399,36 @@ public class EventService {
     }
 
     /**
-     * Checks for and removes any pending invites for a user and event.
-     * This is a helper method to ensure clean state when toggling attendance.
-     *
-     * @param eventId The unique identifier of the event
-     * @param user    The user to check invites for
+     * Inserts the user_event row. The native insert is not translated to a DuplicateKeyException when a
+     * concurrent insert of the same row wins, so unique violations are reported as one here.
+     */
+    private int insertGoingMember(Long eventId, User user) {
+        try {
+            return eventRepository.insertGoingMember(eventId, user.getId());
+        } catch (DataIntegrityViolationException e) {
+            if (NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sqlException
+                    && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                throw new DuplicateKeyException("User " + user.getUsername() + " was added to event " + eventId
+                        + " concurrently", e);
+            }
+            throw e;
+        }
+    }
+
+    private void addToAttendeeCount(Event event, int delta) {
+        if (eventRepository.addToAttendeeCount(event.getId(), event.getVersion(), delta) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Event.class, event.getId());
+        }
+    }
+
+    /**
+     * Removes an event date from a user's available days with a conditional write, without loading
+     * or saving the user, and publishes the change if the user was available on that day.
      */
-    private void checkForPendingInvites(Long eventId, User user) {
-        var pendingEventInvite = inviteService.findByReceiverAndTypeAndTypeId(user, Type.EVENT, eventId);
-        pendingEventInvite.ifPresent(invite -> {
-            inviteService.deleteInvite(List.of(invite));
-            log.info("[EventService]: Deleted pending invite for user {} to event {}", user.getUsername(), eventId);
-        });
+    private void removeFromAvailableDays(User user, LocalDate date) {
+        var change = availabilityStore.applyChange(user.getId(), Set.of(), Set.of(date));
+        if (!change.isEmpty()) {
+            eventPublisher.publishAvailabilityChanged(user.getId(), user.getUsername(), change.added(), change.removed());
+        }
     }
 }
@@ -0,0 +1,387 @@
+package get2gether.service;
+
+import get2gether.config.AvailabilityProperties;
+import get2gether.dto.UserDto;
+import get2gether.mapper.UserMapper;
+import get2gether.model.Group;
+import get2gether.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of group availability, replacing the per-request aggregation of
+ * every member's available days.
+ * For each indexed group, every member gets a slot number and every date keeps a bitset
+ * of the slots of members available on that day. Member DTOs are created once per member
+ * and shared by all reads.
+ * A group is indexed on its read and then kept up to date incrementally on
+ * availability, profile and membership changes. Reads return an unmodifiable snapshot
+ * that is rebuilt only after the group's availability has changed.
+ * Changes made inside a transaction are applied after it commits, so rolled back changes never
+ * reach the index. Every applied change increments the index version and records it for the group
+ * or the user it touches; a group loaded before a change to that group or to one of its members was
+ * applied is served but not kept, as it may have missed that change. Changes to other groups do not
+ * affect it.
+ * Groups are indexed again from the database after availability.index-ttl, and at most
+ * availability.index-max-groups groups are kept, dropping the least recently read ones first.
+ * The index only sees the changes made on this instance; changes made on other instances
+ * reach it once the group is indexed again.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GroupAvailabilityIndex {
+
+    private final UserMapper userMapper;
+    private final AvailabilityStore availabilityStore;
+    private final AvailabilityProperties properties;
+
+    private final Map<Long, GroupAvailability> groups = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> groupIdsByUserId = new HashMap<>();
+    private final Map<Long, Long> changedAtByGroupId = new HashMap<>();
+    private final Map<Long, Long> changedAtByUserId = new HashMap<>();
+    private volatile long version;
+    private long forgottenVersion;
+
+    /**
+     * Returns the number of changes applied to the index so far. Read it before loading the group
+     * that is passed to getGroupAvailability, so that changes to that group or its members applied
+     * during the load can be detected.
+     *
+     * @return the current version of the index
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Returns the availability of a group's members, indexing the group if it is not indexed yet
+     * or its entry has expired.
+     * The returned map and its sets are unmodifiable and shared between callers.
+     *
+     * @param group the group with its members and their available days loaded
+     * @param loadedAtVersion the version of the index read before the group was loaded
+     * @return Map of dates to sets of available members
+     */
+    public Map<LocalDate, Set<UserDto>> getGroupAvailability(Group group, long loadedAtVersion) {
+        var availability = groups.get(group.getId());
+        if (availability == null || isExpired(availability)) {
+            availability = indexGroup(group, loadedAtVersion);
+        }
+        availability.lastReadAt = System.nanoTime();
+        var snapshot = availability.snapshot;
+        return snapshot != null ? snapshot : buildSnapshot(availability);
+    }
+
+    /**
+     * Adds a member to an indexed group.
+     *
+     * @param groupId the ID of the group
+     * @param member the user who joined the group
+     */
+    public void addMember(Long groupId, User member) {
+        var userDto = userMapper.modelToDtoOnGroupCreate(member);
+        var availableDays = availabilityStore.getAvailableDays(member);
+        afterCommit(() -> {
+            changedAtByGroupId.put(groupId, version);
+            var availability = groups.get(groupId);
+            if (availability == null) {
+                return;
+            }
+            availability.put(member.getId(), userDto, availableDays);
+            groupIdsByUserId.computeIfAbsent(member.getId(), id -> new HashSet<>()).add(groupId);
+        });
+    }
+
+    /**
+     * Removes a member from an indexed group.
+     *
+     * @param groupId the ID of the group
+     * @param userId the ID of the user who left or was removed from the group
+     */
+    public void removeMember(Long groupId, Long userId) {
+        afterCommit(() -> {
+            changedAtByGroupId.put(groupId, version);
+            var availability = groups.get(groupId);
+            if (availability == null) {
+                return;
+            }
+            availability.remove(userId);
+            var groupIds = groupIdsByUserId.get(userId);
+            if (groupIds != null) {
+                groupIds.remove(groupId);
+                if (groupIds.isEmpty()) {
+                    groupIdsByUserId.remove(userId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Refreshes a user's details and available days in every indexed group the user belongs to.
+     *
+     * @param user the user whose profile or availability changed
+     */
+    public void updateUser(User user) {
+        var userDto = userMapper.modelToDtoOnGroupCreate(user);
+        var availableDays = availabilityStore.getAvailableDays(user);
+        afterCommit(() -> {
+            changedAtByUserId.put(user.getId(), version);
+            var groupIds = groupIdsByUserId.get(user.getId());
+            if (groupIds == null) {
+                return;
+            }
+            groupIds.forEach(groupId -> groups.get(groupId).put(user.getId(), userDto, availableDays));
+            log.debug("[GroupAvailabilityIndex]: availability of user {} updated in {} groups", user.getId(), groupIds.size());
+        });
+    }
+
+    /**
+     * Adds and removes available days of a user in every indexed group the user belongs to,
+     * without touching the user's other days.
+     *
+     * @param userId the ID of the user whose availability changed
+     * @param added the days the user became available on
+     * @param removed the days the user is no longer available on
+     */
+    public void updateAvailability(Long userId, Set<LocalDate> added, Set<LocalDate> removed) {
+        afterCommit(() -> {
+            changedAtByUserId.put(userId, version);
+            var groupIds = groupIdsByUserId.get(userId);
+            if (groupIds == null) {
+                return;
+            }
+            groupIds.forEach(groupId -> groups.get(groupId).update(userId, added, removed));
+            log.debug("[GroupAvailabilityIndex]: {} days added and {} removed for user {} in {} groups",
+                    added.size(), removed.size(), userId, groupIds.size());
+        });
+    }
+
+    /**
+     * Removes a deleted user from every indexed group.
+     *
+     * @param userId the ID of the deleted user
+     */
+    public void removeUser(Long userId) {
+        afterCommit(() -> {
+            changedAtByUserId.put(userId, version);
+            var groupIds = groupIdsByUserId.remove(userId);
+            if (groupIds != null) {
+                groupIds.forEach(groupId -> groups.get(groupId).remove(userId));
+            }
+        });
+    }
+
+    /**
+     * Drops a deleted group from the index.
+     *
+     * @param groupId the ID of the deleted group
+     */
+    public void evictGroup(Long groupId) {
+        afterCommit(() -> {
+            changedAtByGroupId.put(groupId, version);
+            drop(groupId);
+        });
+    }
+
+    private boolean isExpired(GroupAvailability availability) {
+        return System.nanoTime() - availability.indexedAt >= properties.getIndexTtl().toNanos();
+    }
+
+    private synchronized GroupAvailability indexGroup(Group group, long loadedAtVersion) {
+        var existing = groups.get(group.getId());
+        if (existing != null && !isExpired(existing)) {
+            return existing;
+        }
+        var availability = new GroupAvailability();
+        group.getMembers().forEach(member -> availability.put(member.getId(),
+                userMapper.modelToDtoOnGroupCreate(member), availabilityStore.getAvailableDays(member)));
+        if (changedSince(group, loadedAtVersion)) {
+            log.debug("[GroupAvailabilityIndex]: group {} changed while it was loaded, not indexed", group.getId());
+            return availability;
+        }
+        drop(group.getId());
+        if (groups.size() >= properties.getIndexMaxGroups()) {
+            dropLeastRecentlyRead();
+        }
+        group.getMembers().forEach(member ->
+                groupIdsByUserId.computeIfAbsent(member.getId(), id -> new HashSet<>()).add(group.getId()));
+        groups.put(group.getId(), availability);
+        log.debug("[GroupAvailabilityIndex]: indexed group {} with {} members", group.getId(), group.getMembers().size());
+        return availability;
+    }
+
+    private boolean changedSince(Group group, long loadedAtVersion) {
+        if (loadedAtVersion < forgottenVersion
+                || changedAtByGroupId.getOrDefault(group.getId(), 0L) > loadedAtVersion) {
+            return true;
+        }
+        return group.getMembers().stream()
+                .anyMatch(member -> changedAtByUserId.getOrDefault(member.getId(), 0L) > loadedAtVersion);
+    }
+
+    // Drops a tenth of the groups at a time, so that the scan is not repeated on every new group
+    private void dropLeastRecentlyRead() {
+        var count = Math.max(1, groups.size() / 10);
+        groups.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastReadAt))
+                .limit(count)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(this::drop);
+        log.debug("[GroupAvailabilityIndex]: dropped {} least recently read groups", count);
+    }
+
+    private synchronized void drop(Long groupId) {
+        var availability = groups.remove(groupId);
+        if (availability == null) {
+            return;
+        }
+        availability.slotsByUserId.keySet().forEach(userId -> {
+            var groupIds = groupIdsByUserId.get(userId);
+            if (groupIds != null) {
+                groupIds.remove(groupId);
+                if (groupIds.isEmpty()) {
+                    groupIdsByUserId.remove(userId);
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable change) {
+        Runnable apply = () -> {
+            synchronized (this) {
+                version++;
+                change.run();
+                forgetChangesIfFull();
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    // Groups loaded before the forgotten changes are not kept, as they can no longer be checked against them
+    private void forgetChangesIfFull() {
+        if (changedAtByGroupId.size() + changedAtByUserId.size() > properties.getIndexMaxGroups()) {
+            changedAtByGroupId.clear();
+            changedAtByUserId.clear();
+            forgottenVersion = version;
+        }
+    }
+
+    private synchronized Map<LocalDate, Set<UserDto>> buildSnapshot(GroupAvailability availability) {
+        if (availability.snapshot != null) {
+            return availability.snapshot;
+        }
+        var snapshot = new LinkedHashMap<LocalDate, Set<UserDto>>();
+        availability.slotsByDate.forEach((date, slots) -> {
+            var members = new UserDto[slots.cardinality()];
+            var i = 0;
+            for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+                members[i++] = availability.membersBySlot.get(slot);
+            }
+            snapshot.put(date, Set.of(members));
+        });
+        availability.snapshot = Collections.unmodifiableMap(snapshot);
+        return availability.snapshot;
+    }
+
+    /**
+     * Availability of one group. All fields are guarded by the enclosing index,
+     * except the snapshot which is published for lock-free reads and the read time.
+     */
+    private static final class GroupAvailability {
+        private final List<UserDto> membersBySlot = new ArrayList<>();
+        private final Map<Long, Integer> slotsByUserId = new HashMap<>();
+        private final Map<Long, Set<LocalDate>> datesByUserId = new HashMap<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private final NavigableMap<LocalDate, BitSet> slotsByDate = new TreeMap<>();
+        private final long indexedAt = System.nanoTime();
+        private volatile long lastReadAt = indexedAt;
+        private volatile Map<LocalDate, Set<UserDto>> snapshot;
+
+        private void put(Long userId, UserDto userDto, Set<LocalDate> availableDays) {
+            var slot = slotsByUserId.get(userId);
+            if (slot == null) {
+                if (freeSlots.isEmpty()) {
+                    slot = membersBySlot.size();
+                    membersBySlot.add(null);
+                } else {
+                    slot = freeSlots.pop();
+                }
+                slotsByUserId.put(userId, slot);
+            }
+            membersBySlot.set(slot, userDto);
+
+            var newDates = availableDays == null ? Set.<LocalDate>of() : Set.copyOf(availableDays);
+            var oldDates = datesByUserId.getOrDefault(userId, Set.of());
+            for (var date : oldDates) {
+                if (!newDates.contains(date)) {
+                    clearSlot(date, slot);
+                }
+            }
+            for (var date : newDates) {
+                if (!oldDates.contains(date)) {
+                    slotsByDate.computeIfAbsent(date, d -> new BitSet()).set(slot);
+                }
+            }
+            datesByUserId.put(userId, new HashSet<>(newDates));
+            snapshot = null;
+        }
+
+        private void update(Long userId, Set<LocalDate> added, Set<LocalDate> removed) {
+            var slot = slotsByUserId.get(userId);
+            if (slot == null) {
+                return;
+            }
+            var dates = datesByUserId.computeIfAbsent(userId, id -> new HashSet<>());
+            for (var date : removed) {
+                if (dates.remove(date)) {
+                    clearSlot(date, slot);
+                }
+            }
+            for (var date : added) {
+                if (dates.add(date)) {
+                    slotsByDate.computeIfAbsent(date, d -> new BitSet()).set(slot);
+                }
+            }
+            snapshot = null;
+        }
+
+        private void remove(Long userId) {
+            var slot = slotsByUserId.remove(userId);
+            if (slot == null) {
+                return;
+            }
+            datesByUserId.remove(userId).forEach(date -> clearSlot(date, slot));
+            membersBySlot.set(slot, null);
+            freeSlots.push(slot);
+            snapshot = null;
+        }
+
+        private void clearSlot(LocalDate date, int slot) {
+            var slots = slotsByDate.get(date);
+            if (slots != null) {
+                slots.clear(slot);
+                if (slots.isEmpty()) {
+                    slotsByDate.remove(date);
+                }
+            }
+        }
+    }
+}
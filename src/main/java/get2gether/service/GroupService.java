@@ -1,5 +1,6 @@
 package get2gether.service;
 
+import get2gether.dto.AvailableDayDto;
 import get2gether.dto.EventDto;
 import get2gether.dto.GroupDto;
 import get2gether.dto.UserDto;
@@ -11,21 +12,27 @@ import get2gether.exception.ResourceNotFoundException;
 import get2gether.mapper.EventMapper;
 import get2gether.mapper.GroupMapper;
 import get2gether.mapper.UserMapper;
-import get2gether.model.Event;
 import get2gether.model.Group;
 import get2gether.enums.ResourceType;
+import get2gether.model.Message;
 import get2gether.model.User;
 import get2gether.repository.EventRepository;
 import get2gether.repository.GroupRepository;
+import get2gether.repository.MessageRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -39,6 +46,10 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GroupService {
 
+    public static final int DEFAULT_TOP_DAYS = 5;
+    public static final int MAX_TOP_DAYS = 31;
+    public static final int MAX_AVAILABILITY_RANGE_DAYS = 366;
+
     private final GroupRepository groupRepository;
     private final UserService userService;
     private final GroupMapper groupMapper;
@@ -46,18 +57,105 @@ public class GroupService {
     private final EventMapper eventMapper;
     private final EventPublisher eventPublisher;
     private final EventRepository eventRepository;
+    private final MessageRepository messageRepository;
+    private final GroupAvailabilityIndex groupAvailabilityIndex;
+    private final AvailabilityStore availabilityStore;
 
     /**
      * Retrieves a group by its ID and includes member availability information.
+     * Only the latest page of chat messages is included; older messages are
+     * loaded through the paginated chat history endpoint. Likewise only upcoming events are included;
+     * past events are listed by getAllGroupEvents and, once archived, by EventService.getArchivedEvents.
+     * The whole detail view is loaded with a fixed number of queries:
+     * group with admin, members and their availability; upcoming events with going members;
+     * latest messages; and, only if needed, hosts and senders who are no longer members.
+     * Member availability is served from the GroupAvailabilityIndex.
      *
      * @param id the ID of the group to retrieve
      * @return GroupDto containing the group information and member availability
      * @throws EntityNotFoundException if the group is not found
      */
+    @Transactional(readOnly = true)
     public GroupDto getGroupById(Long id) {
-        var foundGroup = getGroupByIdFromDb(id);
-        var availableDays = groupAvailableDays(foundGroup.getMembers());
-        return groupMapper.modelToDtoOnGet(foundGroup).setGroupAvailability(availableDays);
+        var indexVersion = groupAvailabilityIndex.version();
+        var foundGroup = groupRepository.findByIdWithMembersAndAvailableDays(id)
+                .orElseThrow(() -> new ResourceNotFoundException(ResourceType.GROUP, "id: " + id));
+        var events = eventRepository.findUpcomingByGroupIdWithGoingMembers(id, LocalDate.now());
+        var availableDays = groupAvailabilityIndex.getGroupAvailability(foundGroup, indexVersion);
+        return groupMapper.modelToDtoOnGet(foundGroup, events, getLatestMessages(id))
+                .setGroupAvailability(availableDays);
+    }
+
+    /**
+     * Retrieves the latest page of a group's chat messages, ordered oldest first.
+     *
+     * @param groupId the ID of the group
+     * @return List of the most recent messages of the group
+     */
+    private List<Message> getLatestMessages(Long groupId) {
+        var latestMessages = new ArrayList<>(messageRepository.findByGroupIdOrderByIdDesc(
+                groupId, Limit.of(MessageService.DEFAULT_PAGE_SIZE)));
+        Collections.reverse(latestMessages);
+        return latestMessages;
+    }
+
+    /**
+     * Ranks the days in a date range by the number of group members available on them.
+     * The method:
+     * 1. Counts available members per date in an array indexed by the day's offset from the start of the range,
+     *    using the configured availability storage
+     * 2. Keeps the k best days in a bounded min-heap while scanning the array once
+     * Days with more available members rank higher; ties go to the earlier day.
+     * Days on which nobody is available are never returned.
+     *
+     * @param groupId the ID of the group
+     * @param from the first day of the range, inclusive
+     * @param to the last day of the range, inclusive
+     * @param k the maximum number of days to return
+     * @return List of at most k days, best first
+     * @throws ResourceNotFoundException if the group is not found
+     * @throws IllegalArgumentException if the range or k is out of bounds
+     */
+    @Transactional(readOnly = true)
+    public List<AvailableDayDto> getTopAvailableDays(Long groupId, LocalDate from, LocalDate to, int k) {
+        if (k < 1 || k > MAX_TOP_DAYS) {
+            throw new IllegalArgumentException("k must be between 1 and " + MAX_TOP_DAYS);
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Range end must not be before its start");
+        }
+        var days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_AVAILABILITY_RANGE_DAYS) {
+            throw new IllegalArgumentException("Range must not exceed " + MAX_AVAILABILITY_RANGE_DAYS + " days");
+        }
+        if (!groupRepository.existsById(groupId)) {
+            throw new ResourceNotFoundException(ResourceType.GROUP, "id: " + groupId);
+        }
+
+        var counts = availabilityStore.countAvailableMembersByDay(groupId, from, to);
+
+        Comparator<Integer> worstFirst = Comparator.<Integer>comparingInt(offset -> counts[offset])
+                .thenComparing(Comparator.reverseOrder());
+        var best = new PriorityQueue<>(k, worstFirst);
+        for (int offset = 0; offset < days; offset++) {
+            if (counts[offset] == 0) {
+                continue;
+            }
+            if (best.size() < k) {
+                best.add(offset);
+            } else if (worstFirst.compare(offset, best.peek()) > 0) {
+                best.poll();
+                best.add(offset);
+            }
+        }
+
+        var topDays = new ArrayList<AvailableDayDto>(best.size());
+        while (!best.isEmpty()) {
+            var offset = best.poll();
+            topDays.add(new AvailableDayDto(from.plusDays(offset), (long) counts[offset]));
+        }
+        Collections.reverse(topDays);
+        return topDays;
     }
 
     /**
@@ -119,6 +217,7 @@ public class GroupService {
         var group = getGroupByIdWithMembers(id);
         checkIfActionAllowed(username, group);
         groupRepository.deleteById(id);
+        groupAvailabilityIndex.evictGroup(id);
         eventPublisher.publishGroupAction(GroupAction.DELETED, group);
     }
 
@@ -139,6 +238,7 @@ public class GroupService {
         receiver.getGroups().add(group);
         group.getMembers().add(receiver);
         groupRepository.save(group);
+        groupAvailabilityIndex.addMember(groupId, receiver);
         log.info("[GroupService]: adding {} to the group", receiver.getUsername());
     }
 
@@ -164,6 +264,7 @@ public class GroupService {
         checkIfUserExistsInGroup(group, userToDelete);
         group.getMembers().remove(userToDelete);
         var updatedMemberList = groupRepository.save(group).getMembers();
+        groupAvailabilityIndex.removeMember(groupId, userToDelete.getId());
         return updatedMemberList.stream()
                 .map(userMapper::modelToDtoOnGroupCreate)
                 .collect(Collectors.toSet());
@@ -199,27 +300,33 @@ public class GroupService {
         groupToLeave.getMembers().remove(currentUser);
         currentUser.getGroups().remove(groupToLeave);
 
-        List<Event> eventsToRemove = currentUser.getGoingEvents().stream()
-                .filter(event -> event.getGroup().getId().equals(groupId))
-                .toList();
-
-        for (Event event : eventsToRemove) {
-            event.getGoingMembers().remove(currentUser);
-            currentUser.getGoingEvents().remove(event);
-        }
+        eventRepository.decrementAttendeeCountOfGroupEvents(groupId, currentUser.getId());
+        eventRepository.deleteGoingMemberFromGroupEvents(groupId, currentUser.getId());
 
-        eventRepository.saveAll(eventsToRemove);
         groupRepository.save(groupToLeave);
+        groupAvailabilityIndex.removeMember(groupId, currentUser.getId());
     }
 
     /**
      * Retrieves all events associated with a group.
+     * Without members, the events are read with one projection query that returns only the attendee count
+     * of each event, so large events do not load their going members.
      *
      * @param groupId the ID of the group
+     * @param includeMembers whether to return the going members of each event or only their count
      * @return List of EventDto objects containing the group's events
-     * @throws EntityNotFoundException if the group is not found
+     * @throws ResourceNotFoundException if the group is not found
      */
-    public List<EventDto> getAllGroupEvents(Long groupId) {
+    @Transactional(readOnly = true)
+    public List<EventDto> getAllGroupEvents(Long groupId, boolean includeMembers) {
+        if (!includeMembers) {
+            if (!groupRepository.existsById(groupId)) {
+                throw new ResourceNotFoundException(ResourceType.GROUP, "id: " + groupId);
+            }
+            return eventRepository.findViewsByGroupId(groupId).stream()
+                    .map(event -> userMapper.viewToDto(event, null))
+                    .toList();
+        }
         var group = getGroupByIdFromDb(groupId);
         return group.getEvents().stream()
                 .map(eventMapper::modelToDtoOnGet).toList();
@@ -276,28 +383,6 @@ public class GroupService {
         }
     }
 
-    /**
-     * Calculates the availability of all group members.
-     *
-     * @param members the set of group members
-     * @return Map of dates to sets of available users
-     */
-    private Map<LocalDate, Set<UserDto>> groupAvailableDays(Set<User> members) {
-        return members.stream()
-                .flatMap(member -> member.getAvailableDays().stream()
-                        .map(date -> Map.entry(
-                                date,
-                                userMapper.modelToDtoOnGroupCreate(member)
-                        )))
-                .collect(Collectors.groupingBy(
-                        Map.Entry::getKey,
-                        Collectors.mapping(
-                                Map.Entry::getValue,
-                                Collectors.toSet()
-                        )
-                ));
-    }
-
     /**
      * Finds a group by its name.
      *
@@ -42,9 +42,9 @@ public class InviteService {
      * Creates new group invites for an existing group.
      * The method:
      * 1. Validates that the sender is a group member
-     * 2. Processes each receiver username
-     * 3. Creates and sends invites to valid receivers
-     * 4. Collects error messages for invalid receivers
+     * 2. Resolves the receivers and their existing invites with one query each
+     * 3. Collects error messages for unknown, member and already invited receivers
+     * 4. Inserts the remaining invites in batches and sends them to the receivers
      *
      * @param inviteDto the invite information
      * @param senderName the username of the sender
@@ -65,17 +65,26 @@ public class InviteService {
         }
 
         Map<String, String> errorMessages = new HashMap<>();
-        Set<User> receivers = new HashSet<>();
+        var receivers = findReceivers(inviteDto.getReceiverUsernames(), errorMessages);
 
-        inviteDto.getReceiverUsernames().forEach(username ->
-                userRepository.findByUsername(username)
-                        .ifPresentOrElse(
-                                receivers::add,
-                                () -> errorMessages.put(username, "User does not exist")
-                        )
-        );
+        var alreadyInvited = findInvitedReceiverIds(receivers, Type.GROUP, group.getId());
+        var invites = new ArrayList<Invite>();
+        receivers.forEach(receiver -> {
+            if (group.getMembers().contains(receiver)) {
+                errorMessages.put(receiver.getUsername(), String.format("User already exists in group %s", group.getName()));
+            } else if (alreadyInvited.contains(receiver.getId())) {
+                errorMessages.put(receiver.getUsername(), "User is already invited to the group");
+            } else {
+                invites.add(inviteMapper.dtoToModel(group.getId(), receiver, sender.getUsername(), group.getName()));
+            }
+        });
 
-        receivers.forEach(receiver -> processGroupInviteCreation(group, receiver, sender.getUsername(), errorMessages));
+        if (!invites.isEmpty()) {
+            inviteMapper.modelToDto(inviteRepository.insertAll(invites)).forEach(createdInvite ->
+                    simpMessagingTemplate.convertAndSendToUser(
+                            createdInvite.getReceiverUsernames().iterator().next(), "/queue/invites", createdInvite));
+            log.info("[InviteService]: {} group invites created for selected members.", invites.size());
+        }
 
         return errorMessages.isEmpty()
                 ? "Invite(s) were sent successfully"
@@ -85,79 +94,96 @@ public class InviteService {
     }
 
     /**
-     * Processes the creation of a group invite for a single receiver.
+     * Creates invites when a new group is created.
      * The method:
-     * 1. Validates if the invite should be sent
-     * 2. Creates and saves the invite
-     * 3. Sends a WebSocket notification to the receiver
+     * 1. Filters out invalid usernames and the group admin
+     * 2. Filters out receivers already invited to the group
+     * 3. Inserts the invites in batches and collects the DTOs
      *
-     * @param group the group to invite to
-     * @param receiver the user to invite
-     * @param senderName the username of the sender
-     * @param errorMessages map to collect error messages
+     * @param group the newly created group
+     * @param invitedUsernames set of usernames to invite
+     * @return list of created invite DTOs
      */
-    private void processGroupInviteCreation(Group group, User receiver, String senderName, Map<String, String> errorMessages) {
-        if (!shouldSendInvite(group, receiver, errorMessages)) {
-            return;
+    @Transactional
+    public List<InviteDto> createInvitesOnGroupCreation(Group group, Set<String> invitedUsernames) {
+        var sender = group.getAdmin();
+        var receivers = findReceivers(invitedUsernames, new HashMap<>()).stream()
+                .filter(user -> !Objects.equals(user.getUsername(), sender.getUsername()))
+                .toList();
+
+        var alreadyInvited = findInvitedReceiverIds(receivers, Type.GROUP, group.getId());
+        var invites = receivers.stream()
+                .filter(receiver -> !alreadyInvited.contains(receiver.getId()))
+                .map(receiver -> inviteMapper.dtoToModel(group.getId(), receiver, sender.getUsername(), group.getName()))
+                .toList();
+        if (invites.isEmpty()) {
+            return List.of();
         }
-        var createdInvite = inviteMapper.dtoToModel(group.getId(), receiver, senderName, group.getName());
-        var inviteDto = inviteMapper.modelToDto(inviteRepository.save(createdInvite));
-        simpMessagingTemplate.convertAndSendToUser(receiver.getUsername(), "/queue/invites", inviteDto);
-        log.info("[GroupService]: invites created for selected members.");
+        log.info("[InviteService]: creating {} invites for new group {}", invites.size(), group.getId());
+        return inviteMapper.modelToDto(inviteRepository.insertAll(invites));
     }
 
     /**
-     * Validates if an invite should be sent to a user.
-     * Checks if the user is already a member or has a pending invite.
+     * Creates invites to an event for the given receivers.
+     * Receivers already invited to the event are skipped.
      *
-     * @param group the group to check
-     * @param receiver the user to validate
-     * @param errorMessages map to collect error messages
+     * @param event the event to invite to
+     * @param receivers the users to invite
+     * @return list of created invite DTOs
      */
-    private boolean shouldSendInvite(Group group, User receiver, Map<String, String> errorMessages) {
-        if (group.getMembers().contains(receiver)) {
-            errorMessages.put(receiver.getUsername(), String.format("User already exists in group %s", group.getName()));
-            return false;
-        }
-        if (inviteRepository.existsByReceiverAndTypeAndTypeId(receiver, Type.GROUP, group.getId())) {
-            errorMessages.put(receiver.getUsername(), "User is already invited to the group");
-            return false;
+    @Transactional
+    public List<InviteDto> createEventInvites(Event event, Collection<User> receivers) {
+        var alreadyInvited = findInvitedReceiverIds(receivers, Type.EVENT, event.getId());
+        var invites = receivers.stream()
+                .filter(receiver -> !alreadyInvited.contains(receiver.getId()))
+                .map(receiver -> Invite.builder()
+                        .type(Type.EVENT)
+                        .typeId(event.getId())
+                        .typeName(event.getName())
+                        .senderUsername(event.getHostUsername())
+                        .receiver(receiver)
+                        .build())
+                .toList();
+        if (invites.isEmpty()) {
+            return List.of();
         }
-        return true;
+        log.info("[InviteService]: creating {} invites for event {}", invites.size(), event.getId());
+        return inviteMapper.modelToDto(inviteRepository.insertAll(invites));
     }
 
     /**
-     * Creates invites when a new group is created.
-     * The method:
-     * 1. Filters out invalid usernames and the group admin
-     * 2. Creates invites for each valid receiver
-     * 3. Saves the invites and collects the DTOs
+     * Resolves usernames to users with a single query.
      *
-     * @param group the newly created group
-     * @param invitedUsernames set of usernames to invite
-     * @return list of created invite DTOs
+     * @param usernames the usernames to resolve
+     * @param errorMessages map collecting an error message for each unknown username
+     * @return the found users
      */
-    @Transactional
-    public List<InviteDto> createInvitesOnGroupCreation(Group group, Set<String> invitedUsernames) {
-        var sender = group.getAdmin();
-
-        var receivers = invitedUsernames.stream()
-                .map(userRepository::findByUsername)
-                .filter(Optional::isPresent)
-                .filter(user -> !Objects.equals(user.get().getUsername(), sender.getUsername()))
-                .map(Optional::get)
-                .collect(Collectors.toSet());
-
-        var inviteDtos = new ArrayList<InviteDto>();
-
-        receivers.forEach(receiver -> {
-            var createdInvite = inviteMapper.dtoToModel(group.getId(), receiver, sender.getUsername(), group.getName());
-            var savedInvite = inviteRepository.save(createdInvite);
-            inviteDtos.add(inviteMapper.modelToDto(savedInvite));
-            log.info("[GroupService]: invite created for member {}", receiver.getUsername());
-        });
+    private List<User> findReceivers(Set<String> usernames, Map<String, String> errorMessages) {
+        if (usernames == null || usernames.isEmpty()) {
+            return List.of();
+        }
+        var receivers = userRepository.findByUsernameIn(usernames);
+        var found = receivers.stream().map(User::getUsername).collect(Collectors.toSet());
+        usernames.stream()
+                .filter(username -> !found.contains(username))
+                .forEach(username -> errorMessages.put(username, "User does not exist"));
+        return receivers;
+    }
 
-        return inviteDtos;
+    /**
+     * Finds which of the given users already have an invite to a group or event, with a single query.
+     *
+     * @param receivers the users to check
+     * @param type the type of invite
+     * @param typeId the ID of the group or event
+     * @return IDs of the users already invited
+     */
+    private Set<Long> findInvitedReceiverIds(Collection<User> receivers, Type type, Long typeId) {
+        if (receivers.isEmpty()) {
+            return Set.of();
+        }
+        var receiverIds = receivers.stream().map(User::getId).toList();
+        return inviteRepository.findInvitedReceiverIds(receiverIds, type, typeId);
     }
 
     /**
@@ -197,23 +223,36 @@ public class InviteService {
     }
 
     /**
-     * Retrieves all invites of a specific type for a given entity.
+     * Deletes all invites to the given groups or events with a single statement.
      *
      * @param type the type of invite (GROUP or EVENT)
-     * @param id the ID of the entity
-     * @return list of matching invites
+     * @param typeIds the IDs of the groups or events
+     * @return usernames of the users whose invites were deleted
      */
-    public List<Invite> getInvitesByTypeAndTypeId(Type type, Long id) {
-        return inviteRepository.findByTypeAndTypeId(type, id);
+    @Transactional
+    public Set<String> deleteInvites(Type type, Collection<Long> typeIds) {
+        if (typeIds.isEmpty()) {
+            return Set.of();
+        }
+        var receiverUsernames = inviteRepository.findReceiverUsernamesByTypeAndTypeIdIn(type, typeIds);
+        var deleted = inviteRepository.deleteByTypeAndTypeIdIn(type, typeIds);
+        log.info("[InviteService]: {} {} invites deleted", deleted, type);
+        return receiverUsernames;
     }
 
     /**
-     * Deletes a list of invites.
+     * Deletes a user's invites to the given groups or events with a single statement.
      *
-     * @param invites the invites to delete
+     * @param receiver the user who received the invites
+     * @param type the type of invite (GROUP or EVENT)
+     * @param typeIds the IDs of the groups or events
      */
-    public void deleteInvite(List<Invite> invites) {
-        invites.forEach(inviteRepository::delete);
+    @Transactional
+    public void deleteInvites(User receiver, Type type, Collection<Long> typeIds) {
+        if (typeIds.isEmpty()) {
+            return;
+        }
+        inviteRepository.deleteByReceiverIdAndTypeAndTypeIdIn(receiver.getId(), type, typeIds);
     }
 
     /**
@@ -227,22 +266,4 @@ public class InviteService {
     public Optional<Invite> findByReceiverAndTypeAndTypeId(User receiver, Type type, Long typeId) {
         return inviteRepository.findByReceiverAndTypeAndTypeId(receiver, type, typeId);
     }
-
-
-    public InviteDto createEventInvite(Event event, User user) {
-        var invite = Invite.builder()
-                .type(Type.EVENT)
-                .typeId(event.getId())
-                .typeName(event.getName())
-                .senderUsername(event.getHostUsername())
-                .receiver(user)
-                .build();
-
-        user.getInvitesReceived().add(invite);
-        var savedInvite = inviteRepository.save(invite);
-        log.info("[InviteService]: Event invite created for user {}", user.getUsername());
-
-        return inviteMapper.modelToDto(savedInvite);
-    }
-
 }
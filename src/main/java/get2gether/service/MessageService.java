@@ -1,14 +1,22 @@
 package get2gether.service;
 
 import get2gether.dto.MessageDto;
+import get2gether.dto.MessagePageDto;
 import get2gether.exception.ForbiddenActionException;
 import get2gether.mapper.MessageMapper;
+import get2gether.model.Group;
+import get2gether.model.Message;
 import get2gether.repository.MessageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Service responsible for managing group chat messages.
  * Handles message persistence, validation, and real-time delivery through WebSocket.
@@ -20,6 +28,9 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class MessageService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final MessageRepository messageRepository;
     private final MessageMapper messageMapper;
     private final GroupService groupService;
@@ -40,16 +51,77 @@ public class MessageService {
     public void save(Long groupId, MessageDto messageDto, String username) {
         log.info("sender is: {}", username);
         var group = groupService.getGroupByIdWithMembers(groupId);
-
-        boolean isMember = group.getMembers().stream()
-                .anyMatch(user -> user.getUsername().equalsIgnoreCase(username));
-        if (!isMember) {
-            throw new ForbiddenActionException("Only group members are allowed to send messages.");
-        }
+        checkIfMember(group, username, "Only group members are allowed to send messages.");
         var savedMessage = messageRepository.save(messageMapper.dtoToModel(messageDto, username, group));
 
         var destination = "/topic/group/" + group.getId() + "/chat";
         messagingTemplate.convertAndSend(destination, messageMapper.modelToDto(savedMessage));
     }
 
+    /**
+     * Retrieves one page of a group's chat history using keyset pagination on the message id.
+     * This method performs the following operations:
+     * 1. Verifies that the requesting user is a member of the specified group
+     * 2. Loads up to limit messages older than the given cursor (or the latest ones when no cursor is given)
+     * 3. Returns the page ordered oldest first together with the cursor for the next, older page
+     *
+     * @param groupId  The unique identifier of the group
+     * @param before   The message id to page backwards from, or null for the latest page
+     * @param limit    The maximum number of messages to return, capped at MAX_PAGE_SIZE
+     * @param username The username of the requesting user
+     * @return MessagePageDto containing the messages and the cursor for older messages
+     * @throws ForbiddenActionException if the user is not a member of the specified group
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public MessagePageDto getGroupMessages(Long groupId, Long before, int limit, String username) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be a positive number");
+        }
+        var group = groupService.getGroupByIdWithMembers(groupId);
+        checkIfMember(group, username, "Only group members are allowed to read messages.");
+
+        var pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        var fetchLimit = Limit.of(pageSize + 1);
+        var messages = before == null
+                ? messageRepository.findByGroupIdOrderByIdDesc(groupId, fetchLimit)
+                : messageRepository.findByGroupIdAndIdLessThanOrderByIdDesc(groupId, before, fetchLimit);
+
+        var hasMore = messages.size() > pageSize;
+        var page = hasMore ? messages.subList(0, pageSize) : messages;
+        var nextCursor = hasMore ? page.get(page.size() - 1).getId() : null;
+
+        return MessagePageDto.builder()
+                .messages(toChronologicalDtos(page, group))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Converts a page of messages fetched newest first into DTOs ordered oldest first.
+     *
+     * @param newestFirst The messages ordered by descending id
+     * @param group       The group of the messages, whose members are used to resolve senders
+     * @return List of MessageDto objects ordered by ascending id
+     */
+    private List<MessageDto> toChronologicalDtos(List<Message> newestFirst, Group group) {
+        var oldestFirst = new ArrayList<>(newestFirst);
+        Collections.reverse(oldestFirst);
+        return messageMapper.modelToDto(oldestFirst, group.getMembers());
+    }
+
+    /**
+     * Verifies that a user is a member of a group.
+     *
+     * @param group        The group to check
+     * @param username     The username of the user
+     * @param errorMessage The message of the exception thrown for non-members
+     * @throws ForbiddenActionException if the user is not a member of the group
+     */
+    private void checkIfMember(Group group, String username, String errorMessage) {
+        boolean isMember = group.getMembers().stream()
+                .anyMatch(user -> user.getUsername().equalsIgnoreCase(username));
+        if (!isMember) {
+            throw new ForbiddenActionException(errorMessage);
+        }
+    }
 }
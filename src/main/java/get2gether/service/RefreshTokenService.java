@@ -0,0 +1,117 @@
+package get2gether.service;
+
+import get2gether.exception.InvalidRefreshTokenException;
+import get2gether.model.RefreshToken;
+import get2gether.model.User;
+import get2gether.repository.RefreshTokenRepository;
+import get2gether.security.TokenVersionCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Service responsible for issuing, rotating and revoking refresh tokens.
+ * Refresh tokens are random values handed to the client once; only their SHA-256 digest is stored.
+ * Each refresh consumes the presented token and issues a new one. Presenting a consumed token again
+ * means it was copied, so every token of the user is revoked.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenVersionCache tokenVersionCache;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.refresh-token.expiration:2592000000}")
+    private Long expiration;
+
+    /**
+     * A refresh token issued for a user.
+     *
+     * @param user the user the token was issued for
+     * @param token the token to hand to the client
+     */
+    public record IssuedToken(User user, String token) {
+    }
+
+    /**
+     * Issues a new refresh token for a user and removes the user's expired tokens.
+     *
+     * @param user the user to issue the token for
+     * @return the token to hand to the client
+     */
+    @Transactional
+    public String issue(User user) {
+        var now = Instant.now();
+        refreshTokenRepository.deleteExpiredByUser(user, now);
+        var bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        var token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .user(user)
+                .expiresAt(now.plusMillis(expiration))
+                .build());
+        return token;
+    }
+
+    /**
+     * Consumes a refresh token and issues a new one for the same user.
+     *
+     * @param token the refresh token presented by the client
+     * @return the user and the new refresh token
+     * @throws InvalidRefreshTokenException if the token is unknown, expired or was already used;
+     * in the last case every token of the user is revoked
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public IssuedToken rotate(String token) {
+        var now = Instant.now();
+        var stored = refreshTokenRepository.findByTokenHash(hash(token))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Invalid refresh token"));
+        var user = stored.getUser();
+        if (stored.getRotatedAt() != null || refreshTokenRepository.markRotated(stored.getId(), now) == 0) {
+            log.warn("[RefreshTokenService]: refresh token of {} used twice, revoking all its tokens", user.getUsername());
+            revokeAll(user);
+            throw new InvalidRefreshTokenException("Refresh token already used");
+        }
+        if (!stored.getExpiresAt().isAfter(now)) {
+            throw new InvalidRefreshTokenException("Refresh token has expired");
+        }
+        return new IssuedToken(user, issue(user));
+    }
+
+    /**
+     * Revokes every refresh token of a user and increments the user's token version,
+     * which also rejects their access tokens when stateless authentication is enabled.
+     *
+     * @param user the user whose tokens to revoke
+     */
+    @Transactional
+    public void revokeAll(User user) {
+        refreshTokenRepository.deleteByUser(user);
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        tokenVersionCache.invalidate(user.getUsername());
+    }
+
+    private static String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
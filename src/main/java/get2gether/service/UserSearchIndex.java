@@ -0,0 +1,191 @@
+package get2gether.service;
+
+import get2gether.dto.UserDto;
+import get2gether.enums.Role;
+import get2gether.mapper.UserMapper;
+import get2gether.model.User;
+import get2gether.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * In-memory prefix index over the users with the USER role, used to autocomplete usernames
+ * and names while sending invites without querying the database on every keystroke.
+ * Every user is indexed under their username, their full name and their last name, lowercased.
+ * The keys are kept in a sorted array: a search finds the first key with the prefix by binary search
+ * and reads the following keys until enough users are found.
+ * The index is loaded from the database on the first search and then kept up to date on registration,
+ * profile updates and deletion. Writers replace the array, so searches never wait for them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserSearchIndex {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::term)
+            .thenComparing(key -> key.user().getUsername());
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+
+    private volatile Key[] keys;
+
+    /**
+     * Returns the users whose username, full name or last name starts with the query, ignoring case.
+     * Users are ordered by the matching key.
+     *
+     * @param query the prefix typed by the user
+     * @param limit the maximum number of users to return, capped at MAX_LIMIT
+     * @return List of matching users, empty if the query is blank
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public List<UserDto> search(String query, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be a positive number");
+        }
+        var prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        var snapshot = getKeys();
+        var maxResults = Math.min(limit, MAX_LIMIT);
+        var result = new ArrayList<UserDto>(maxResults);
+        var seen = new HashSet<Long>();
+        for (int i = firstIndexOf(snapshot, prefix);
+             i < snapshot.length && result.size() < maxResults && snapshot[i].term().startsWith(prefix); i++) {
+            var user = snapshot[i].user();
+            if (seen.add(user.getId())) {
+                result.add(user);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds a user to the index or replaces their indexed names. Inside a transaction the index
+     * is updated after commit, so users of rolled back registrations are never suggested.
+     *
+     * @param user the registered or updated user
+     */
+    public void put(User user) {
+        if (user.getRoles() == null || !user.getRoles().contains(Role.USER)) {
+            return;
+        }
+        var userDto = userMapper.modelToDtoOnGroupCreate(user);
+        afterCommit(() -> replace(userDto.getId(), userDto));
+    }
+
+    /**
+     * Removes a deleted user from the index, after commit when called inside a transaction.
+     *
+     * @param userId the ID of the deleted user
+     */
+    public void remove(Long userId) {
+        afterCommit(() -> replace(userId, null));
+    }
+
+    private Key[] getKeys() {
+        var snapshot = keys;
+        return snapshot != null ? snapshot : load();
+    }
+
+    private synchronized Key[] load() {
+        if (keys == null) {
+            var loaded = new ArrayList<Key>();
+            userRepository.findProfilesByRole(Role.USER)
+                    .forEach(profile -> addKeys(loaded, userMapper.viewToDto(profile)));
+            var sorted = loaded.toArray(Key[]::new);
+            Arrays.sort(sorted, KEY_ORDER);
+            keys = sorted;
+            log.info("[UserSearchIndex]: indexed {} names", sorted.length);
+        }
+        return keys;
+    }
+
+    /**
+     * Removes the keys of a user and merges in the keys of its new version, if any.
+     * Changes made before the index is loaded are skipped, as loading reads them from the database.
+     */
+    private synchronized void replace(Long userId, UserDto user) {
+        var current = keys;
+        if (current == null) {
+            return;
+        }
+        var added = new ArrayList<Key>(3);
+        if (user != null) {
+            addKeys(added, user);
+            added.sort(KEY_ORDER);
+        }
+        var merged = new Key[current.length + added.size()];
+        int size = 0;
+        int next = 0;
+        for (var key : current) {
+            if (key.user().getId().equals(userId)) {
+                continue;
+            }
+            while (next < added.size() && KEY_ORDER.compare(added.get(next), key) < 0) {
+                merged[size++] = added.get(next++);
+            }
+            merged[size++] = key;
+        }
+        while (next < added.size()) {
+            merged[size++] = added.get(next++);
+        }
+        keys = size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    private static void addKeys(List<Key> target, UserDto user) {
+        var terms = new HashSet<String>(3);
+        terms.add(normalize(user.getUsername()));
+        terms.add(normalize(user.getFirstName() + " " + user.getLastName()));
+        terms.add(normalize(user.getLastName()));
+        terms.forEach(term -> target.add(new Key(term, user)));
+    }
+
+    private static int firstIndexOf(Key[] snapshot, String prefix) {
+        int low = 0;
+        int high = snapshot.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (snapshot[mid].term().compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private record Key(String term, UserDto user) {
+    }
+}
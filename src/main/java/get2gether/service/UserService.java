@@ -1,22 +1,37 @@
 package get2gether.service;
 
+import get2gether.dto.AvailabilityDeltaDto;
+import get2gether.dto.EventDto;
 import get2gether.dto.UserDto;
+import get2gether.dto.UserPageDto;
 import get2gether.enums.GroupAction;
 import get2gether.event.EventPublisher;
 import get2gether.exception.ForbiddenActionException;
 import get2gether.exception.ResourceNotFoundException;
 import get2gether.mapper.UserMapper;
 import get2gether.enums.ResourceType;
-import get2gether.enums.Role;
 import get2gether.model.User;
+import get2gether.enums.UserSection;
+import get2gether.repository.EventRepository;
+import get2gether.repository.GroupRepository;
+import get2gether.repository.InviteRepository;
 import get2gether.repository.UserRepository;
+import get2gether.security.TokenVersionCache;
+import get2gether.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service responsible for managing user-related operations.
@@ -27,9 +42,20 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class UserService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
+    private final GroupRepository groupRepository;
+    private final InviteRepository inviteRepository;
+    private final EventRepository eventRepository;
     private final UserMapper userMapper;
     private final EventPublisher eventPublisher;
+    private final GroupAvailabilityIndex groupAvailabilityIndex;
+    private final TokenVersionCache tokenVersionCache;
+    private final UserDetailsCache userDetailsCache;
+    private final AvailabilityStore availabilityStore;
+    private final UserSearchIndex userSearchIndex;
 
     /**
      * Retrieves a user by their username and converts it to a DTO.
@@ -43,6 +69,56 @@ public class UserService {
         return userMapper.modelToDtoOnGetUser(matchingUser);
     }
 
+    /**
+     * Retrieves the profile of a user with only the requested sections.
+     * Every section is read with a projection query selecting just the columns it shows, so the profile
+     * costs at most six queries however many groups, invites and events the user has:
+     * one for the user, one per requested section and one more for the members of the user's events.
+     *
+     * @param username the username to search for
+     * @param sections the sections to include; all sections if empty
+     * @return UserDto with the user's details and the requested sections; omitted sections are null
+     * @throws ResourceNotFoundException if the user is not found
+     */
+    @Transactional(readOnly = true)
+    public UserDto getUserProfile(String username, Set<UserSection> sections) {
+        var include = sections.isEmpty() ? EnumSet.allOf(UserSection.class) : EnumSet.copyOf(sections);
+        var profile = userRepository.findProfileByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException(ResourceType.USER, "username: " + username));
+        var userDto = userMapper.viewToDto(profile);
+        if (include.contains(UserSection.AVAILABILITY)) {
+            userDto.setAvailableDays(new HashSet<>(availabilityStore.getAvailableDays(profile.getId())));
+        }
+        if (include.contains(UserSection.GROUPS)) {
+            userDto.setGroups(groupRepository.findSummariesByMemberId(profile.getId()).stream()
+                    .map(userMapper::viewToDto)
+                    .collect(Collectors.toSet()));
+        }
+        if (include.contains(UserSection.INVITES)) {
+            userDto.setInvitesReceived(inviteRepository.findReceivedViewsByReceiverId(profile.getId()).stream()
+                    .map(invite -> userMapper.viewToDto(invite, username))
+                    .toList());
+        }
+        if (include.contains(UserSection.EVENTS)) {
+            userDto.setGoingEvents(getGoingEvents(profile.getId()));
+        }
+        return userDto;
+    }
+
+    private List<EventDto> getGoingEvents(Long userId) {
+        var events = eventRepository.findGoingViewsByMemberId(userId);
+        if (events.isEmpty()) {
+            return List.of();
+        }
+        var membersByEvent = new HashMap<Long, Set<UserDto>>();
+        eventRepository.findGoingMemberViewsByEventIdIn(events.stream().map(EventRepository.GoingView::getId).toList())
+                .forEach(member -> membersByEvent.computeIfAbsent(member.getEventId(), eventId -> new HashSet<>())
+                        .add(userMapper.viewToDto(member)));
+        return events.stream()
+                .map(event -> userMapper.viewToDto(event, membersByEvent.getOrDefault(event.getId(), Set.of())))
+                .toList();
+    }
+
     /**
      * Updates the current user's information.
      * The method:
@@ -61,6 +137,8 @@ public class UserService {
         var matchingUser = getUserFromDb(username);
         userMapper.updateCurrentUser(updatedUserDto, matchingUser);
         var savedUser = userRepository.save(matchingUser);
+        userDetailsCache.invalidate(username);
+        userSearchIndex.put(savedUser);
         eventPublisher.publishGroupAction(GroupAction.AVAILABLE_DAYS_UPDATED, savedUser);
         return userMapper.modelToDtoOnGetUser(savedUser);
     }
@@ -94,20 +172,54 @@ public class UserService {
             throw new ForbiddenActionException("Cannot delete user: they are the admin of one or more groups.");
         }
         userRepository.delete(matchingUser);
+        groupAvailabilityIndex.removeUser(matchingUser.getId());
+        tokenVersionCache.invalidate(username);
+        userDetailsCache.invalidate(username);
+        userSearchIndex.remove(matchingUser.getId());
     }
 
     /**
-     * Retrieves all users with the USER role.
-     * Returns a list of UserDto objects suitable for group creation.
+     * Retrieves one page of the user directory using keyset pagination on the username.
+     * Only users with the USER role are listed. Users match when their username, first name or
+     * last name starts with the query, ignoring case; a blank query matches every user.
      *
-     * @return List of UserDto objects containing user information
+     * @param query the prefix to search for, or null to list all users
+     * @param after the username to continue after, or null for the first page
+     * @param limit the maximum number of users to return, capped at MAX_PAGE_SIZE
+     * @return UserPageDto containing the users and the cursor for the next page
+     * @throws IllegalArgumentException if the limit is not positive
      */
-    public List<UserDto> getAllUsers() {
-        var users = userRepository.findAll();
-        return users.stream()
-                .filter(user -> user.getRoles().contains(Role.USER))
-                .map(userMapper::modelToDtoOnGroupCreate)
-                .toList();
+    @Transactional(readOnly = true)
+    public UserPageDto getUserDirectory(String query, String after, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be a positive number");
+        }
+        var prefix = toLikePrefix(query);
+        var pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        var fetchLimit = Limit.of(pageSize + 1);
+        var users = after == null
+                ? userRepository.findDirectoryPage(prefix, fetchLimit)
+                : userRepository.findDirectoryPageAfter(prefix, after, fetchLimit);
+
+        var hasMore = users.size() > pageSize;
+        var page = hasMore ? users.subList(0, pageSize) : users;
+        var nextCursor = hasMore ? page.get(page.size() - 1).getUsername() : null;
+
+        return UserPageDto.builder()
+                .users(page.stream().map(userMapper::viewToDto).toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static String toLikePrefix(String query) {
+        if (query == null || query.isBlank()) {
+            return "%";
+        }
+        var escaped = query.strip().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return escaped + "%";
     }
 
     /**
@@ -120,7 +232,7 @@ public class UserService {
      */
     public Set<LocalDate> updateAvailableDays(String userName, Set<LocalDate> availableDays) {
         var matchingUser = getUserFromDb(userName);
-        matchingUser.setAvailableDays(availableDays);
+        availabilityStore.setAvailableDays(matchingUser, availableDays);
         var updatedUser = userRepository.save(matchingUser);
         
         // Publish events for each group the user is in
@@ -128,7 +240,40 @@ public class UserService {
             eventPublisher.publishGroupAction(GroupAction.AVAILABLE_DAYS_UPDATED, group, updatedUser);
         });
         
-        return updatedUser.getAvailableDays();
+        return availabilityStore.getAvailableDays(updatedUser);
+    }
+
+    /**
+     * Adds and removes individual available days of a user.
+     * Only the changed days are written: days that are added but already available,
+     * or removed but not available, are ignored. A single event carrying the applied change is
+     * published for all of the user's groups.
+     *
+     * @param userName the username of the user to update
+     * @param delta the days to add and the days to remove
+     * @return the days that were actually added and removed
+     * @throws ResourceNotFoundException if the user is not found
+     * @throws IllegalArgumentException if a day is both added and removed
+     */
+    @Transactional
+    public AvailabilityDeltaDto updateAvailableDays(String userName, AvailabilityDeltaDto delta) {
+        var added = delta.getAdded() == null ? Set.<LocalDate>of() : delta.getAdded();
+        var removed = delta.getRemoved() == null ? Set.<LocalDate>of() : delta.getRemoved();
+        if (!Collections.disjoint(added, removed)) {
+            throw new IllegalArgumentException("A day cannot be both added and removed");
+        }
+        var userId = userRepository.findIdByUsername(userName)
+                .orElseThrow(() -> new ResourceNotFoundException(ResourceType.USER, "username: " + userName));
+
+        var change = availabilityStore.applyChange(userId, added, removed);
+        if (!change.isEmpty()) {
+            eventPublisher.publishAvailabilityChanged(userId, userName, change.added(), change.removed());
+        }
+        return AvailabilityDeltaDto.builder()
+                .username(userName)
+                .added(change.added())
+                .removed(change.removed())
+                .build();
     }
 
     /**
@@ -140,6 +285,6 @@ public class UserService {
      */
     public Set<LocalDate> getAvailableDays(String userName) {
         var matchingUser = getUserFromDb(userName);
-        return matchingUser.getAvailableDays();
+        return availabilityStore.getAvailableDays(matchingUser);
     }
 }
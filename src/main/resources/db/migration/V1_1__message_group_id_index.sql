@@ -0,0 +1,2 @@
+-- Chat history pages read the messages of a group by id.
+create index if not exists idx_message_group_id_id on message (group_id, id);
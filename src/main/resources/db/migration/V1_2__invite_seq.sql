@@ -0,0 +1,3 @@
+-- Invites take their ids from a sequence with pooled allocation, so that bulk inserts can be batched.
+-- V8 moves the sequence past the ids of existing invites.
+create sequence if not exists invite_seq start with 1 increment by 50;
@@ -0,0 +1,2 @@
+-- Generation of the tokens issued to a user; incrementing it revokes every token issued before.
+alter table users add column if not exists token_version integer default 0 not null;
@@ -0,0 +1,11 @@
+-- Refresh tokens, stored as SHA-256 digests.
+create table if not exists refresh_token (
+    id bigint generated by default as identity,
+    token_hash varchar(43) not null unique,
+    user_id bigint not null references users (id) on delete cascade,
+    expires_at timestamp(6) with time zone not null,
+    rotated_at timestamp(6) with time zone,
+    primary key (id)
+);
+
+create index if not exists idx_refresh_token_user_id on refresh_token (user_id);
@@ -0,0 +1,4 @@
+-- User directory: users with the USER role, searched by name.
+create index if not exists idx_users_first_name on users (first_name);
+create index if not exists idx_users_last_name on users (last_name);
+create index if not exists idx_user_roles_roles_user_id on user_roles (roles, user_id);
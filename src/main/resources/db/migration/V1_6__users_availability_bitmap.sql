@@ -0,0 +1,2 @@
+-- Availability of a user in bitmap storage mode: a 31-bit mask per month.
+alter table users add column if not exists availability_bitmap bytea;
@@ -0,0 +1,85 @@
+-- Schema as created by Hibernate's ddl-auto before any of the later changes.
+-- Databases created that way are baselined at this version instead of running it; every later change,
+-- including the ones made while ddl-auto still managed the schema, is a migration of its own.
+
+create table users (
+    id bigint generated by default as identity,
+    username varchar(255) not null unique,
+    password varchar(255) not null,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    primary key (id)
+);
+
+create table user_roles (
+    user_id bigint not null,
+    roles varchar(255) check (roles in ('USER', 'ADMIN'))
+);
+
+create table availability_days (
+    user_id bigint not null,
+    available_day date
+);
+
+create table groups (
+    id bigint generated by default as identity,
+    name varchar(255) not null unique,
+    admin_id bigint,
+    group_color varchar(255),
+    primary key (id)
+);
+
+create table user_group (
+    group_id bigint not null,
+    user_id bigint not null,
+    primary key (group_id, user_id)
+);
+
+create table event (
+    id bigint generated by default as identity,
+    name varchar(255),
+    host_username varchar(255),
+    date date,
+    description varchar(255),
+    group_id bigint,
+    primary key (id)
+);
+
+create table user_event (
+    event_id bigint not null,
+    user_id bigint not null,
+    primary key (event_id, user_id)
+);
+
+create table message (
+    id bigint generated by default as identity,
+    group_id bigint,
+    sender_username varchar(255),
+    message varchar(255),
+    created_at timestamp(6),
+    primary key (id)
+);
+
+create table invite (
+    id bigint generated by default as identity,
+    type varchar(255) not null check (type in ('GROUP', 'EVENT')),
+    type_id bigint not null,
+    type_name varchar(255) not null,
+    sender_username varchar(255) not null,
+    receiver_id bigint,
+    primary key (id)
+);
+
+create index idx_receiver_type_typeId on invite (receiver_id, type, type_id);
+create index idx_type_typeId on invite (type, type_id);
+
+alter table user_roles add constraint fk_user_roles_user foreign key (user_id) references users (id);
+alter table availability_days add constraint fk_availability_days_user foreign key (user_id) references users (id);
+alter table groups add constraint fk_groups_admin foreign key (admin_id) references users (id);
+alter table user_group add constraint fk_user_group_group foreign key (group_id) references groups (id);
+alter table user_group add constraint fk_user_group_user foreign key (user_id) references users (id);
+alter table event add constraint fk_event_group foreign key (group_id) references groups (id);
+alter table user_event add constraint fk_user_event_event foreign key (event_id) references event (id);
+alter table user_event add constraint fk_user_event_user foreign key (user_id) references users (id);
+alter table message add constraint fk_message_group foreign key (group_id) references groups (id);
+alter table invite add constraint fk_invite_receiver foreign key (receiver_id) references users (id);
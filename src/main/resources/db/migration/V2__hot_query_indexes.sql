@@ -0,0 +1,14 @@
+-- Indexes for the lookups on every request path. "if not exists" keeps this safe on databases
+-- baselined at V1 whose ddl-auto already created some of them.
+
+-- Calendar and group event lists: events of a group in a date range.
+create index if not exists idx_event_group_id_date on event (group_id, date);
+
+-- Reverse lookups of the join tables, whose primary keys only lead with the owning side:
+-- the groups of a user and the events a user is going to.
+create index if not exists idx_user_group_user_id_group_id on user_group (user_id, group_id);
+create index if not exists idx_user_event_user_id_event_id on user_event (user_id, event_id);
+
+-- Element collections have no primary key: the roles and available days of a user.
+create index if not exists idx_user_roles_user_id on user_roles (user_id);
+create index if not exists idx_availability_days_user_id_day on availability_days (user_id, available_day);
@@ -0,0 +1,5 @@
+-- Denormalized number of going members of an event, maintained together with the user_event rows.
+
+alter table event add column attendee_count integer default 0 not null;
+
+update event set attendee_count = (select count(*) from user_event where user_event.event_id = event.id);
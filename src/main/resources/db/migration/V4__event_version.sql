@@ -0,0 +1,3 @@
+-- Optimistic locking version of an event, checked by edits and attendance changes.
+
+alter table event add column version bigint default 0 not null;
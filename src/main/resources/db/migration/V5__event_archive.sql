@@ -0,0 +1,31 @@
+-- Past events moved out of the live tables by EventArchiver, with their going members and event invites.
+-- No foreign keys: the archive keeps events whose group, host or members were deleted later.
+
+create table event_archive (
+    id bigint not null,
+    name varchar(255),
+    host_username varchar(255),
+    date date,
+    description varchar(255),
+    group_id bigint,
+    attendee_count integer not null,
+    archived_at timestamp(6) not null,
+    primary key (id)
+);
+create table user_event_archive (
+    event_id bigint not null,
+    user_id bigint not null,
+    primary key (event_id, user_id)
+);
+create table invite_archive (
+    id bigint not null,
+    type varchar(255) not null,
+    type_id bigint not null,
+    type_name varchar(255) not null,
+    sender_username varchar(255) not null,
+    receiver_id bigint,
+    primary key (id)
+);
+
+create index idx_event_archive_group_id_date on event_archive (group_id, date);
+create index idx_event_date on event (date);
@@ -0,0 +1,11 @@
+-- A user is available on a day at most once. Concurrent availability changes could insert the same day
+-- twice, which made the user count twice in the top available days of their groups.
+
+-- Keep one row of each duplicated day.
+create table availability_days_distinct as select distinct user_id, available_day from availability_days;
+delete from availability_days;
+insert into availability_days (user_id, available_day) select user_id, available_day from availability_days_distinct;
+drop table availability_days_distinct;
+
+drop index if exists idx_availability_days_user_id_day;
+create unique index uk_availability_days_user_id_day on availability_days (user_id, available_day);
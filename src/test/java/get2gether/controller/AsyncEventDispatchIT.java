@@ -0,0 +1,161 @@
+package get2gether.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import get2gether.dto.EventDto;
+import get2gether.dto.GroupDto;
+import get2gether.dto.InviteDto;
+import get2gether.enums.Role;
+import get2gether.enums.Type;
+import get2gether.event.EventDispatcher;
+import get2gether.model.Invite;
+import get2gether.model.User;
+import get2gether.repository.GroupRepository;
+import get2gether.repository.InviteRepository;
+import get2gether.repository.UserRepository;
+import get2gether.security.JwtUtil;
+import get2gether.service.CustomUserDetailsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the invite flow of a group end to end with events dispatched asynchronously after commit:
+ * the listeners run on the dispatch workers, in their own transactions, after the request has returned.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "events.dispatch.mode=async"
+})
+@AutoConfigureMockMvc
+@DirtiesContext
+class AsyncEventDispatchIT {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private InviteRepository inviteRepository;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private EventDispatcher eventDispatcher;
+
+    @Test
+    void shouldRunListenersAfterCommit_throughoutGroupLifecycle() throws Exception {
+        var eventDate = LocalDate.now().plusDays(7);
+        var admin = saveUser("async-admin", Set.of(eventDate));
+        var member = saveUser("async-member", Set.of());
+        var adminToken = tokenFor(admin);
+        var memberToken = tokenFor(member);
+        var groupName = "Async Group " + UUID.randomUUID();
+
+        mockMvc.perform(post("/groups")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(GroupDto.builder()
+                                .name(groupName)
+                                .invitedUsernames(Set.of(member.getUsername()))
+                                .build())))
+                .andExpect(status().isCreated());
+        var groupId = groupRepository.findByName(groupName).orElseThrow().getId();
+        var groupInvite = awaitInvite(Type.GROUP, groupId);
+
+        mockMvc.perform(patch("/invites/" + groupInvite.getId())
+                        .header("Authorization", "Bearer " + memberToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(InviteDto.builder().accepted(true).build())))
+                .andExpect(status().isOk());
+        await(() -> groupRepository.findByIdWithMembersAndAvailableDays(groupId).orElseThrow()
+                .getMembers().stream().anyMatch(user -> user.getId().equals(member.getId())));
+
+        var response = mockMvc.perform(post("/events")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(EventDto.builder()
+                                .name("Async Event")
+                                .date(eventDate)
+                                .groupName(groupName)
+                                .build())))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        var eventId = objectMapper.readValue(response, EventDto.class).getId();
+        var eventInvite = awaitInvite(Type.EVENT, eventId);
+        assertThat(eventInvite.getReceiver().getId()).isEqualTo(member.getId());
+        assertThat(userRepository.findAvailableDaysByUserId(admin.getId())).doesNotContain(eventDate);
+
+        mockMvc.perform(delete("/groups/" + groupId)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isNoContent());
+        await(() -> inviteRepository.findByTypeAndTypeId(Type.EVENT, eventId).isEmpty());
+
+        await(() -> eventDispatcher.getStats().getPending() == 0);
+        var stats = eventDispatcher.getStats();
+        assertThat(stats.getMode()).isEqualTo("ASYNC");
+        assertThat(stats.getFailed()).isZero();
+        assertThat(stats.getProcessed()).isGreaterThanOrEqualTo(5);
+    }
+
+    private Invite awaitInvite(Type type, Long typeId) throws InterruptedException {
+        await(() -> !inviteRepository.findByTypeAndTypeId(type, typeId).isEmpty());
+        return inviteRepository.findByTypeAndTypeId(type, typeId).get(0);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition met within %d ms", TIMEOUT_MILLIS).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private User saveUser(String name, Set<LocalDate> availableDays) {
+        return userRepository.save(User.builder()
+                .username(name + "-" + UUID.randomUUID() + "@gmail.com")
+                .firstName("Async")
+                .lastName("User")
+                .password("encoded_password")
+                .roles(List.of(Role.USER))
+                .availableDays(new HashSet<>(availableDays))
+                .groups(new HashSet<>())
+                .build());
+    }
+
+    private String tokenFor(User user) {
+        return jwtUtil.generateToken(customUserDetailsService.loadUserByUsername(user.getUsername()));
+    }
+}
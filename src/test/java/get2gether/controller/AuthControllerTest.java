@@ -2,6 +2,8 @@ package get2gether.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import get2gether.dto.AuthRequestDto;
+import get2gether.dto.AuthResponseDto;
+import get2gether.dto.RefreshRequestDto;
 import get2gether.dto.RegisterRequestDto;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,8 +12,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -50,7 +54,56 @@ class AuthControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.jwt").exists());
+                .andExpect(jsonPath("$.jwt").exists())
+                .andExpect(jsonPath("$.refreshToken").exists());
+    }
+
+    @Test
+    void refresh_ShouldRotateRefreshToken_WhenValid() throws Exception {
+        var refreshToken = register("refreshuser").getRefreshToken();
+
+        var refreshed = refresh(refreshToken)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jwt").exists())
+                .andReturn().getResponse().getContentAsString();
+        var newRefreshToken = objectMapper.readValue(refreshed, AuthResponseDto.class).getRefreshToken();
+
+        assertThat(newRefreshToken).isNotEqualTo(refreshToken);
+        refresh(newRefreshToken).andExpect(status().isOk());
+    }
+
+    @Test
+    void refresh_ShouldRevokeAllRefreshTokens_WhenUsedRefreshTokenIsPresentedAgain() throws Exception {
+        var refreshToken = register("replayuser").getRefreshToken();
+        var refreshed = refresh(refreshToken).andReturn().getResponse().getContentAsString();
+        var newRefreshToken = objectMapper.readValue(refreshed, AuthResponseDto.class).getRefreshToken();
+
+        refresh(refreshToken)
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.error").value("Refresh token already used"));
+        refresh(newRefreshToken).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void refresh_ShouldReturnUnauthorized_WhenRefreshTokenUnknown() throws Exception {
+        refresh("unknown-refresh-token").andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void revoke_ShouldInvalidateAllRefreshTokensOfCurrentUser() throws Exception {
+        var registered = register("revokeuser");
+        var loggedIn = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthRequestDto("revokeuser", "password123"))))
+                .andReturn().getResponse().getContentAsString();
+        var secondRefreshToken = objectMapper.readValue(loggedIn, AuthResponseDto.class).getRefreshToken();
+
+        mockMvc.perform(post("/auth/revoke")
+                        .header("Authorization", "Bearer " + registered.getJwt()))
+                .andExpect(status().isNoContent());
+
+        refresh(registered.getRefreshToken()).andExpect(status().isUnauthorized());
+        refresh(secondRefreshToken).andExpect(status().isUnauthorized());
     }
 
     @Test
@@ -115,4 +168,25 @@ class AuthControllerTest {
                         .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    private AuthResponseDto register(String username) throws Exception {
+        var response = mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(RegisterRequestDto.builder()
+                                .username(username)
+                                .password("password123")
+                                .firstName("Test")
+                                .lastName("User")
+                                .build())))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.refreshToken").exists())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, AuthResponseDto.class);
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshRequestDto(refreshToken))));
+    }
+}
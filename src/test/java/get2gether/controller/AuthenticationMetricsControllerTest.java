@@ -0,0 +1,82 @@
+package get2gether.controller;
+
+import get2gether.enums.Role;
+import get2gether.model.User;
+import get2gether.repository.UserRepository;
+import get2gether.security.JwtUtil;
+import get2gether.service.CustomUserDetailsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class AuthenticationMetricsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String adminToken;
+    private String userToken;
+
+    @BeforeEach
+    void setUp() {
+        adminToken = tokenFor("auth-metrics-admin@test.com", Role.ADMIN);
+        userToken = tokenFor("auth-metrics-user@test.com", Role.USER);
+    }
+
+    @Test
+    void getUserDetailsCacheStats_shouldCountHits_whenAdminAuthenticatesAgain() throws Exception {
+        mockMvc.perform(get("/admin/auth/user-details-cache")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/admin/auth/user-details-cache")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.maxSize").value(10000))
+                .andExpect(jsonPath("$.size").value(greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.hits").value(greaterThanOrEqualTo(1)));
+    }
+
+    @Test
+    void getUserDetailsCacheStats_shouldFail_whenNotAdmin() throws Exception {
+        mockMvc.perform(get("/admin/auth/user-details-cache")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private String tokenFor(String username, Role role) {
+        userRepository.save(User.builder()
+                .username(username)
+                .firstName("Test")
+                .lastName("User")
+                .password("encoded_password")
+                .roles(List.of(role))
+                .build());
+        return jwtUtil.generateToken(customUserDetailsService.loadUserByUsername(username));
+    }
+}
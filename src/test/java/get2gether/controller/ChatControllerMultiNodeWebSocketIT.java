@@ -0,0 +1,168 @@
+package get2gether.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import get2gether.Get2getherApplication;
+import get2gether.dto.InviteDto;
+import get2gether.dto.MessageDto;
+import get2gether.enums.Role;
+import get2gether.model.Group;
+import get2gether.model.User;
+import get2gether.repository.GroupRepository;
+import get2gether.repository.UserRepository;
+import get2gether.security.JwtUtil;
+import get2gether.service.CustomUserDetailsService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.*;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.RestTemplateXhrTransport;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs two application contexts sharing the embedded broker relay and checks that
+ * chat and user notifications published on one node reach clients connected to the other.
+ */
+class ChatControllerMultiNodeWebSocketIT {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    private WebSocketStompClient stompClient;
+    private User subscriber;
+    private User sender;
+    private Long groupId;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(Get2getherApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "websocket.broker.mode=embedded",
+                        "websocket.broker.embedded.name=multinode-it")
+                .run("--spring.datasource.url=jdbc:h2:mem:multinode;DB_CLOSE_DELAY=-1");
+    }
+
+    @BeforeEach
+    void setUp() {
+        var userRepository = nodeA.getBean(UserRepository.class);
+        subscriber = userRepository.save(newUser());
+        sender = userRepository.save(newUser());
+
+        var group = nodeA.getBean(GroupRepository.class).save(Group.builder()
+                .name("Test Group " + UUID.randomUUID())
+                .members(Set.of(subscriber, sender))
+                .admin(sender)
+                .build());
+        groupId = group.getId();
+
+        stompClient = new WebSocketStompClient(new SockJsClient(List.of(
+                new WebSocketTransport(new StandardWebSocketClient()),
+                new RestTemplateXhrTransport())));
+        var messageConverter = new MappingJackson2MessageConverter();
+        messageConverter.setObjectMapper(nodeA.getBean(ObjectMapper.class));
+        stompClient.setMessageConverter(messageConverter);
+    }
+
+    @Test
+    void shouldDeliverGroupMessage_whenSenderIsConnectedToAnotherNode() throws Exception {
+        var received = new CompletableFuture<MessageDto>();
+        var subscriberSession = connect(nodeA, subscriber);
+        subscriberSession.subscribe("/topic/group/" + groupId + "/chat", handler(MessageDto.class, received));
+        Thread.sleep(500);
+
+        var senderSession = connect(nodeB, sender);
+        senderSession.send("/app/group/" + groupId + "/chat", MessageDto.builder().message("Hello from node B").build());
+
+        var message = received.get(5, TimeUnit.SECONDS);
+        assertThat(message.getMessage()).isEqualTo("Hello from node B");
+        assertThat(message.getSenderUsername()).isEqualTo("TestName TestLastName");
+    }
+
+    @Test
+    void shouldDeliverUserNotification_whenUserIsConnectedToAnotherNode() throws Exception {
+        var received = new CompletableFuture<InviteDto>();
+        var subscriberSession = connect(nodeA, subscriber);
+        subscriberSession.subscribe("/user/queue/invites", handler(InviteDto.class, received));
+        Thread.sleep(500);
+
+        var invite = InviteDto.builder()
+                .type(get2gether.enums.Type.GROUP)
+                .typeId(groupId)
+                .senderUsername(sender.getUsername())
+                .build();
+        nodeB.getBean(SimpMessagingTemplate.class)
+                .convertAndSendToUser(subscriber.getUsername(), "/queue/invites", invite);
+
+        var notification = received.get(5, TimeUnit.SECONDS);
+        assertThat(notification.getTypeId()).isEqualTo(groupId);
+        assertThat(notification.getSenderUsername()).isEqualTo(sender.getUsername());
+    }
+
+    private StompSession connect(ConfigurableApplicationContext node, User user) throws Exception {
+        var userDetails = node.getBean(CustomUserDetailsService.class).loadUserByUsername(user.getUsername());
+        var connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + node.getBean(JwtUtil.class).generateToken(userDetails));
+        var port = ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+        return stompClient.connectAsync("http://localhost:" + port + "/ws", new WebSocketHttpHeaders(),
+                connectHeaders, new StompSessionHandlerAdapter() {
+                }).get(5, TimeUnit.SECONDS);
+    }
+
+    private static <T> StompFrameHandler handler(Class<T> payloadType, CompletableFuture<T> received) {
+        return new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return payloadType;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.complete(payloadType.cast(payload));
+            }
+        };
+    }
+
+    private static User newUser() {
+        return User.builder()
+                .username("test" + UUID.randomUUID() + "@gmail.com")
+                .firstName("TestName")
+                .lastName("TestLastName")
+                .password("encoded_password")
+                .roles(List.of(Role.USER))
+                .availableDays(new HashSet<>())
+                .groups(new HashSet<>())
+                .build();
+    }
+}
@@ -0,0 +1,170 @@
+package get2gether.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import get2gether.config.WebSocketChannelMetrics;
+import get2gether.dto.ChannelStatsDto;
+import get2gether.dto.MessageDto;
+import get2gether.enums.Role;
+import get2gether.model.Group;
+import get2gether.model.User;
+import get2gether.repository.GroupRepository;
+import get2gether.repository.UserRepository;
+import get2gether.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Floods a group chat from hundreds of simulated clients with deliberately small channel queues,
+ * and checks that every message is delivered while the channel queues and heap stay bounded.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "websocket.inbound-channel.core-pool-size=4",
+        "websocket.inbound-channel.max-pool-size=8",
+        "websocket.inbound-channel.queue-capacity=50",
+        "websocket.outbound-channel.core-pool-size=4",
+        "websocket.outbound-channel.max-pool-size=8",
+        "websocket.outbound-channel.queue-capacity=50"
+})
+@DirtiesContext
+class ChatLoadIT {
+
+    private static final int CLIENTS = 200;
+    private static final int MESSAGES_PER_CLIENT = 5;
+    private static final int QUEUE_CAPACITY = 50;
+    private static final long MAX_HEAP_GROWTH_BYTES = 128L * 1024 * 1024;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WebSocketChannelMetrics channelMetrics;
+
+    @Test
+    void shouldDeliverEveryMessage_withBoundedQueuesAndHeap_whenHundredsOfClientsChat() throws Exception {
+        var users = new ArrayList<User>();
+        for (int i = 0; i < CLIENTS; i++) {
+            users.add(User.builder()
+                    .username("load" + i + "-" + UUID.randomUUID() + "@gmail.com")
+                    .firstName("Load")
+                    .lastName("User" + i)
+                    .password("encoded_password")
+                    .roles(List.of(Role.USER))
+                    .availableDays(new HashSet<>())
+                    .groups(new HashSet<>())
+                    .build());
+        }
+        userRepository.saveAll(users);
+        var group = groupRepository.save(Group.builder()
+                .name("Load Group " + UUID.randomUUID())
+                .members(new HashSet<>(users))
+                .admin(users.get(0))
+                .build());
+        var chatTopic = "/topic/group/" + group.getId() + "/chat";
+
+        var stompClient = new WebSocketStompClient(new SockJsClient(List.of(
+                new WebSocketTransport(new StandardWebSocketClient()))));
+        var messageConverter = new MappingJackson2MessageConverter();
+        messageConverter.setObjectMapper(objectMapper);
+        stompClient.setMessageConverter(messageConverter);
+
+        var heapBefore = usedHeapAfterGc();
+        var delivered = new CountDownLatch(CLIENTS * CLIENTS * MESSAGES_PER_CLIENT);
+        var sessions = new ArrayList<StompSession>();
+        for (var user : users) {
+            var session = connect(stompClient, user);
+            session.subscribe(chatTopic, countingHandler(delivered));
+            sessions.add(session);
+        }
+        Thread.sleep(1000);
+
+        for (int i = 0; i < MESSAGES_PER_CLIENT; i++) {
+            for (var session : sessions) {
+                session.send("/app/group/" + group.getId() + "/chat", MessageDto.builder().message("load " + i).build());
+            }
+        }
+
+        assertThat(delivered.await(120, TimeUnit.SECONDS))
+                .as("all %d messages delivered, %d missing", CLIENTS * CLIENTS * MESSAGES_PER_CLIENT, delivered.getCount())
+                .isTrue();
+        assertThat(channelMetrics.getChannelStats())
+                .hasSize(2)
+                .allSatisfy(stats -> assertThat(stats.getPeakQueueDepth()).isLessThanOrEqualTo(QUEUE_CAPACITY))
+                .extracting(ChannelStatsDto::getChannel)
+                .containsExactly("clientInboundChannel", "clientOutboundChannel");
+        assertThat(usedHeapAfterGc() - heapBefore).isLessThan(MAX_HEAP_GROWTH_BYTES);
+
+        sessions.forEach(StompSession::disconnect);
+        stompClient.stop();
+    }
+
+    private StompSession connect(WebSocketStompClient stompClient, User user) throws Exception {
+        var userDetails = org.springframework.security.core.userdetails.User
+                .withUsername(user.getUsername())
+                .password("irrelevant_in_token")
+                .authorities(Role.USER.name())
+                .build();
+        var connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + jwtUtil.generateToken(userDetails));
+        return stompClient.connectAsync("http://localhost:" + port + "/ws", new WebSocketHttpHeaders(),
+                connectHeaders, new StompSessionHandlerAdapter() {
+                }).get(10, TimeUnit.SECONDS);
+    }
+
+    private static StompFrameHandler countingHandler(CountDownLatch delivered) {
+        return new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return MessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                delivered.countDown();
+            }
+        };
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
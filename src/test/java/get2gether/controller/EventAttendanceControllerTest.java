@@ -0,0 +1,106 @@
+package get2gether.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import get2gether.dto.EventStatusDto;
+import get2gether.enums.Role;
+import get2gether.model.Event;
+import get2gether.model.Group;
+import get2gether.model.User;
+import get2gether.repository.EventRepository;
+import get2gether.repository.GroupRepository;
+import get2gether.repository.UserRepository;
+import get2gether.security.JwtUtil;
+import get2gether.service.CustomUserDetailsService;
+import get2gether.service.EventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Toggles attendance outside of a test transaction, so the service runs and retries its own transactions
+ * the way it does for a real request.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@DirtiesContext
+class EventAttendanceControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @MockitoSpyBean
+    private EventRepository eventRepository;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void toggleEventAttendance_shouldReturnConflict_whenDuplicateRowPersistsAfterMaxAttempts() throws Exception {
+        var user = userRepository.save(User.builder()
+                .username("attendance-" + UUID.randomUUID() + "@gmail.com")
+                .firstName("Attendance")
+                .lastName("User")
+                .password("encoded_password")
+                .roles(List.of(Role.USER))
+                .availableDays(new HashSet<>())
+                .groups(new HashSet<>())
+                .build());
+        var group = groupRepository.save(Group.builder()
+                .name("Attendance Group " + UUID.randomUUID())
+                .members(Set.of(user))
+                .admin(user)
+                .build());
+        var event = eventRepository.save(Event.builder()
+                .name("Contended")
+                .date(LocalDate.now().plusDays(3))
+                .hostUsername(user.getUsername())
+                .group(group)
+                .goingMembers(new HashSet<>())
+                .build());
+        doThrow(new DuplicateKeyException("duplicate user_event row"))
+                .when(eventRepository).insertGoingMember(eq(event.getId()), eq(user.getId()));
+
+        mockMvc.perform(patch("/events/{eventId}/status", event.getId())
+                        .header("Authorization", "Bearer "
+                                + jwtUtil.generateToken(customUserDetailsService.loadUserByUsername(user.getUsername())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EventStatusDto(true))))
+                .andExpect(status().isConflict());
+
+        verify(eventRepository, times(EventService.MAX_ATTENDANCE_ATTEMPTS))
+                .insertGoingMember(event.getId(), user.getId());
+    }
+}
@@ -3,6 +3,8 @@ package get2gether.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import get2gether.TestData;
 import get2gether.dto.EventDto;
+import get2gether.dto.EventStatusDto;
+import get2gether.model.Event;
 import get2gether.model.User;
 import get2gether.model.Group;
 import get2gether.repository.EventRepository;
@@ -23,6 +25,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -184,6 +187,121 @@ class EventControllerIT {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void getCalendarEvents_shouldReturnEventsOfUserGroupsInRangeByPage() throws Exception {
+        var otherUser = userRepository.save(TestData.getNotHostUser());
+        var ownGroup = groupRepository.save(Group.builder()
+                .name("Calendar Group " + System.currentTimeMillis())
+                .members(Set.of(testUser))
+                .admin(testUser)
+                .build());
+        var otherGroup = groupRepository.save(Group.builder()
+                .name("Other Group " + System.currentTimeMillis())
+                .members(Set.of(otherUser))
+                .admin(otherUser)
+                .build());
+        var from = LocalDate.now().plusDays(1);
+        saveEvent("Late", from.plusDays(10), ownGroup);
+        saveEvent("Early", from, ownGroup);
+        saveEvent("Middle", from.plusDays(5), ownGroup);
+        saveEvent("Outside", from.plusDays(40), ownGroup);
+        saveEvent("Foreign", from.plusDays(2), otherGroup);
+
+        var firstPage = mockMvc.perform(MockMvcRequestBuilders.get("/events")
+                        .header("Authorization", "Bearer " + token)
+                        .param("from", from.toString())
+                        .param("to", from.plusDays(30).toString())
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events.length()").value(2))
+                .andExpect(jsonPath("$.events[0].name").value("Early"))
+                .andExpect(jsonPath("$.events[0].groupName").value(ownGroup.getName()))
+                .andExpect(jsonPath("$.events[1].name").value("Middle"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn();
+        var cursor = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/events")
+                        .header("Authorization", "Bearer " + token)
+                        .param("from", from.toString())
+                        .param("to", from.plusDays(30).toString())
+                        .param("after", cursor)
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events.length()").value(1))
+                .andExpect(jsonPath("$.events[0].name").value("Late"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getCalendarEvents_shouldReturnBadRequest_whenRangeIsReversed() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/events")
+                        .header("Authorization", "Bearer " + token)
+                        .param("from", "2030-02-01")
+                        .param("to", "2030-01-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void toggleEventAttendance_shouldMaintainAttendeeCount_returnedWithoutMembers() throws Exception {
+        var otherUser = userRepository.save(TestData.getNotHostUser());
+        var group = groupRepository.save(Group.builder()
+                .name("Attendance Group " + System.currentTimeMillis())
+                .members(Set.of(testUser, otherUser))
+                .admin(otherUser)
+                .build());
+        var from = LocalDate.now().plusDays(1);
+        var event = eventRepository.save(Event.builder()
+                .name("Crowded")
+                .date(from)
+                .hostUsername(otherUser.getUsername())
+                .group(group)
+                .goingMembers(new HashSet<>(Set.of(otherUser)))
+                .attendeeCount(1)
+                .build());
+
+        toggleAttendance(event.getId(), true);
+        toggleAttendance(event.getId(), true);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/events")
+                        .header("Authorization", "Bearer " + token)
+                        .param("from", from.toString())
+                        .param("to", from.toString())
+                        .param("members", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events[0].attendeeCount").value(2))
+                .andExpect(jsonPath("$.events[0].goingMembers").doesNotExist());
+
+        toggleAttendance(event.getId(), false);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/groups/{groupId}/events", group.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .param("members", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Crowded"))
+                .andExpect(jsonPath("$[0].attendeeCount").value(1))
+                .andExpect(jsonPath("$[0].goingMembers").doesNotExist());
+    }
+
+    private void toggleAttendance(Long eventId, boolean isGoing) throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.patch("/events/{eventId}/status", eventId)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EventStatusDto(isGoing))))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    private void saveEvent(String name, LocalDate date, Group group) {
+        eventRepository.save(Event.builder()
+                .name(name)
+                .date(date)
+                .hostUsername(testUser.getUsername())
+                .group(group)
+                .goingMembers(new HashSet<>(Set.of(testUser)))
+                .attendeeCount(1)
+                .build());
+    }
+
     private String createNonHostUserAndGetToken() {
         var otherUser = TestData.getNotHostUser();
         userRepository.save(otherUser);
@@ -4,11 +4,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import get2gether.dto.GroupDto;
 import get2gether.dto.UserDto;
 import get2gether.enums.Role;
+import get2gether.enums.Type;
+import get2gether.model.Event;
 import get2gether.model.Group;
+import get2gether.model.Invite;
+import get2gether.model.Message;
 import get2gether.model.User;
+import get2gether.repository.EventRepository;
 import get2gether.repository.GroupRepository;
+import get2gether.repository.InviteRepository;
+import get2gether.repository.MessageRepository;
 import get2gether.repository.UserRepository;
 import get2gether.security.JwtUtil;
+import get2gether.service.EventArchiver;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,12 +24,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -46,6 +57,21 @@ class GroupControllerTest {
     @Autowired
     private GroupRepository groupRepository;
 
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private InviteRepository inviteRepository;
+
+    @Autowired
+    private EventArchiver eventArchiver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Autowired
     private JwtUtil jwtUtil;
 
@@ -168,6 +194,56 @@ class GroupControllerTest {
                 .andExpect(jsonPath("$.admin.username").value(adminUser.getUsername()));
     }
 
+    @Test
+    void groupEvents_shouldShowUpcomingInGroupView_andArchiveEventsPastTheHorizon() throws Exception {
+        var today = LocalDate.now();
+        var oldEvent = saveEvent("Old", today.minusDays(40), Set.of(adminUser, regularUser));
+        saveEvent("Recent", today.minusDays(5), Set.of(adminUser));
+        saveEvent("Upcoming", today.plusDays(5), Set.of(adminUser));
+        inviteRepository.save(Invite.builder()
+                .type(Type.EVENT)
+                .typeId(oldEvent.getId())
+                .typeName(oldEvent.getName())
+                .senderUsername(adminUser.getUsername())
+                .receiver(regularUser)
+                .build());
+
+        assertEquals(1, eventArchiver.archivePastEvents());
+
+        assertFalse(eventRepository.existsById(oldEvent.getId()));
+        assertTrue(inviteRepository.findByTypeAndTypeId(Type.EVENT, oldEvent.getId()).isEmpty());
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_event_archive WHERE event_id = ?", Integer.class, oldEvent.getId()));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM invite_archive WHERE type_id = ?", Integer.class, oldEvent.getId()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/groups/" + testGroup.getId())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events.length()").value(1))
+                .andExpect(jsonPath("$.events[0].name").value("Upcoming"));
+        mockMvc.perform(MockMvcRequestBuilders.get("/groups/" + testGroup.getId() + "/events")
+                        .param("members", "false")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+        mockMvc.perform(MockMvcRequestBuilders.get("/groups/" + testGroup.getId() + "/events/archived")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events.length()").value(1))
+                .andExpect(jsonPath("$.events[0].name").value("Old"))
+                .andExpect(jsonPath("$.events[0].groupName").value("Test Group"))
+                .andExpect(jsonPath("$.events[0].attendeeCount").value(2))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getArchivedEvents_shouldFail_whenGroupNotFound() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/groups/999/events/archived")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void getGroupById_shouldFail_whenGroupNotFound() throws Exception {
         mockMvc.perform(MockMvcRequestBuilders.get("/groups/999")
@@ -330,4 +406,88 @@ class GroupControllerTest {
         var updatedGroup = groupRepository.findById(testGroup.getId()).orElseThrow();
         assertFalse(updatedGroup.getMembers().contains(memberUser));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getGroupMessages_shouldReturnPagesOldestFirst_whenMember() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            messageRepository.save(Message.builder()
+                    .group(testGroup)
+                    .senderUsername(adminUser.getUsername())
+                    .message("message " + i)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+
+        var response = mockMvc.perform(MockMvcRequestBuilders.get("/groups/" + testGroup.getId() + "/messages")
+                        .param("limit", "2")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.messages.length()").value(2))
+                .andExpect(jsonPath("$.messages[0].message").value("message 2"))
+                .andExpect(jsonPath("$.messages[1].message").value("message 3"))
+                .andReturn();
+        var nextCursor = objectMapper.readTree(response.getResponse().getContentAsString()).get("nextCursor").asLong();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/groups/" + testGroup.getId() + "/messages")
+                        .param("before", String.valueOf(nextCursor))
+                        .param("limit", "2")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.messages.length()").value(1))
+                .andExpect(jsonPath("$.messages[0].message").value("message 1"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getGroupMessages_shouldFail_whenNotMember() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/groups/" + testGroup.getId() + "/messages")
+                        .header("Authorization", "Bearer " + regularUserToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void getTopAvailableDays_shouldRankDaysByAvailableMembers() throws Exception {
+        var day1 = LocalDate.of(2030, 1, 1);
+        var day2 = LocalDate.of(2030, 1, 2);
+        var day3 = LocalDate.of(2030, 1, 3);
+        adminUser.getAvailableDays().addAll(Set.of(day1, day2));
+        userRepository.save(adminUser);
+        regularUser.getAvailableDays().addAll(Set.of(day2, day3));
+        regularUser.getGroups().add(testGroup);
+        userRepository.save(regularUser);
+        testGroup.getMembers().add(regularUser);
+        groupRepository.save(testGroup);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/groups/" + testGroup.getId() + "/availability/top")
+                        .param("from", "2030-01-01")
+                        .param("to", "2030-01-31")
+                        .param("k", "2")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].date").value("2030-01-02"))
+                .andExpect(jsonPath("$[0].availableMembers").value(2))
+                .andExpect(jsonPath("$[1].date").value("2030-01-01"))
+                .andExpect(jsonPath("$[1].availableMembers").value(1));
+    }
+
+    @Test
+    void getTopAvailableDays_shouldFail_whenRangeInvalid() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/groups/" + testGroup.getId() + "/availability/top")
+                        .param("from", "2030-01-31")
+                        .param("to", "2030-01-01")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Event saveEvent(String name, LocalDate date, Set<User> goingMembers) {
+        return eventRepository.save(Event.builder()
+                .name(name)
+                .date(date)
+                .hostUsername(adminUser.getUsername())
+                .group(testGroup)
+                .goingMembers(new HashSet<>(goingMembers))
+                .attendeeCount(goingMembers.size())
+                .build());
+    }
+}
@@ -0,0 +1,188 @@
+package get2gether.controller;
+
+import get2gether.Get2getherApplication;
+import get2gether.enums.Role;
+import get2gether.model.Group;
+import get2gether.model.User;
+import get2gether.repository.GroupRepository;
+import get2gether.repository.UserRepository;
+import get2gether.security.JwtUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the platform-thread default with virtual threads under a high-concurrency mixed workload:
+ * group detail, chat history, availability ranking and availability updates, each request
+ * authenticated through the JWT filter.
+ * Throughput and latency percentiles are logged for each mode; only the responses are asserted, as
+ * throughput depends too much on the machine to fail a build on. The comparison only exists on Java 21
+ * (build with -Pvirtual-threads): there both modes run the same load one after the other and the ratio
+ * of their throughput is reported. On Java 17 only the platform-thread run takes place.
+ */
+@Slf4j
+class ThreadingModeBenchmarkIT {
+
+    private static final int CLIENTS = 400;
+    private static final int GROUP_SIZE = 20;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int WARMUP_REQUESTS_PER_CLIENT = 5;
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void platformThreads() throws Exception {
+        runBenchmark(false);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void platformAndVirtualThreads() throws Exception {
+        var platform = runBenchmark(false);
+        var virtual = runBenchmark(true);
+
+        log.info("[ThreadingModeBenchmarkIT]: platform threads {} req/s, virtual threads {} req/s, ratio {}",
+                String.format("%.0f", platform), String.format("%.0f", virtual), String.format("%.2f", virtual / platform));
+    }
+
+    /**
+     * Runs the workload in one threading mode.
+     *
+     * @return the throughput in requests per second
+     */
+    private double runBenchmark(boolean virtualThreads) throws Exception {
+        try (var context = new SpringApplicationBuilder(Get2getherApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + virtualThreads + ";DB_CLOSE_DELAY=-1",
+                        "spring.threads.virtual.enabled=" + virtualThreads)
+                .run()) {
+            var clients = seedClients(context);
+            var baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            var httpClient = HttpClient.newHttpClient();
+
+            runWorkload(httpClient, baseUrl, clients, WARMUP_REQUESTS_PER_CLIENT);
+            var start = System.nanoTime();
+            var latencies = runWorkload(httpClient, baseUrl, clients, REQUESTS_PER_CLIENT);
+            var elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            Arrays.sort(latencies);
+            log.info("[ThreadingModeBenchmarkIT]: {} threads: {} requests from {} clients in {} s, {} req/s, " +
+                            "latency p50 {} ms, p99 {} ms, max {} ms",
+                    virtualThreads ? "virtual" : "platform", latencies.length, CLIENTS,
+                    String.format("%.2f", elapsedSeconds), String.format("%.0f", latencies.length / elapsedSeconds),
+                    millis(percentile(latencies, 0.50)), millis(percentile(latencies, 0.99)),
+                    millis(latencies[latencies.length - 1]));
+            return latencies.length / elapsedSeconds;
+        }
+    }
+
+    private long[] runWorkload(HttpClient httpClient, String baseUrl, List<Client> clients, int requestsPerClient)
+            throws Exception {
+        var latencies = new long[clients.size() * requestsPerClient];
+        var next = new AtomicInteger();
+        var tasks = new ArrayList<Callable<Void>>();
+        for (var client : clients) {
+            tasks.add(() -> {
+                for (int i = 0; i < requestsPerClient; i++) {
+                    var request = nextRequest(baseUrl, client, i);
+                    var start = System.nanoTime();
+                    var response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    latencies[next.getAndIncrement()] = System.nanoTime() - start;
+                    assertThat(response.statusCode()).isEqualTo(200);
+                }
+                return null;
+            });
+        }
+        var executor = Executors.newFixedThreadPool(clients.size());
+        try {
+            for (var result : executor.invokeAll(tasks)) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return latencies;
+    }
+
+    private HttpRequest nextRequest(String baseUrl, Client client, int i) {
+        var request = switch (i % 4) {
+            case 0 -> HttpRequest.newBuilder(URI.create(baseUrl + "/groups/" + client.groupId())).GET();
+            case 1 -> HttpRequest.newBuilder(URI.create(baseUrl + "/groups/" + client.groupId() + "/messages?limit=20")).GET();
+            case 2 -> HttpRequest.newBuilder(URI.create(baseUrl + "/groups/" + client.groupId() + "/availability/top")).GET();
+            default -> HttpRequest.newBuilder(URI.create(baseUrl + "/user/availability"))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString("[\"" + LocalDate.now().plusDays(i % 30) + "\"]"));
+        };
+        return request.header("Authorization", "Bearer " + client.token()).build();
+    }
+
+    private List<Client> seedClients(ConfigurableApplicationContext context) {
+        var userRepository = context.getBean(UserRepository.class);
+        var groupRepository = context.getBean(GroupRepository.class);
+        var jwtUtil = context.getBean(JwtUtil.class);
+
+        var clients = new ArrayList<Client>();
+        for (int g = 0; g < CLIENTS / GROUP_SIZE; g++) {
+            var members = new ArrayList<User>();
+            for (int m = 0; m < GROUP_SIZE; m++) {
+                members.add(User.builder()
+                        .username("bench" + UUID.randomUUID() + "@gmail.com")
+                        .firstName("Bench")
+                        .lastName("User")
+                        .password("encoded_password")
+                        .roles(List.of(Role.USER))
+                        .availableDays(new HashSet<>(List.of(LocalDate.now().plusDays(m % 7))))
+                        .groups(new HashSet<>())
+                        .build());
+            }
+            userRepository.saveAll(members);
+            var group = groupRepository.save(Group.builder()
+                    .name("Bench Group " + UUID.randomUUID())
+                    .members(new HashSet<>(members))
+                    .admin(members.get(0))
+                    .build());
+            for (var member : members) {
+                var userDetails = org.springframework.security.core.userdetails.User
+                        .withUsername(member.getUsername())
+                        .password("irrelevant_in_token")
+                        .authorities(Role.USER.name())
+                        .build();
+                clients.add(new Client(group.getId(), jwtUtil.generateToken(userDetails)));
+            }
+        }
+        return clients;
+    }
+
+    private static long percentile(long[] sortedLatencies, double percentile) {
+        return sortedLatencies[(int) Math.ceil(percentile * sortedLatencies.length) - 1];
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / 1e6);
+    }
+
+    private record Client(Long groupId, String token) {
+    }
+}
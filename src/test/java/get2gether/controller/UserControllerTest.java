@@ -1,6 +1,7 @@
 package get2gether.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import get2gether.dto.AvailabilityDeltaDto;
 import get2gether.dto.UserDto;
 import get2gether.enums.Role;
 import get2gether.model.User;
@@ -97,6 +98,29 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.lastName").value("TestLastName"));
     }
 
+    @Test
+    void getCurrentUser_shouldReturnOnlyRequestedSections() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/user")
+                        .param("include", "groups,Availability")
+                        .header("Authorization", "Bearer " + token)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("testuser@example.com"))
+                .andExpect(jsonPath("$.groups").isArray())
+                .andExpect(jsonPath("$.availableDays").isArray())
+                .andExpect(jsonPath("$.invitesReceived").doesNotExist())
+                .andExpect(jsonPath("$.goingEvents").doesNotExist());
+    }
+
+    @Test
+    void getCurrentUser_shouldReturnBadRequest_whenSectionUnknown() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/user")
+                        .param("include", "friends")
+                        .header("Authorization", "Bearer " + token)
+                )
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void updateCurrentUser() throws Exception {
         Set<LocalDate> availableDays = Set.of(LocalDate.now());
@@ -109,6 +133,42 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.length()").value(1));
     }
 
+    @Test
+    void patchAvailability_shouldAddAndRemoveDays() throws Exception {
+        var tomorrow = LocalDate.now().plusDays(1);
+        var nextWeek = LocalDate.now().plusDays(7);
+        mockMvc.perform(MockMvcRequestBuilders.put("/user/availability")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Set.of(tomorrow))))
+                .andExpect(status().isOk());
+
+        var delta = AvailabilityDeltaDto.builder()
+                .added(Set.of(nextWeek, tomorrow))
+                .removed(Set.of(tomorrow.plusDays(1)))
+                .build();
+        mockMvc.perform(MockMvcRequestBuilders.patch("/user/availability")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(delta)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("testuser@example.com"))
+                .andExpect(jsonPath("$.added.length()").value(1))
+                .andExpect(jsonPath("$.added[0]").value(nextWeek.toString()))
+                .andExpect(jsonPath("$.removed.length()").value(0));
+
+        mockMvc.perform(MockMvcRequestBuilders.patch("/user/availability")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                AvailabilityDeltaDto.builder().removed(Set.of(tomorrow)).build())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.removed[0]").value(tomorrow.toString()));
+
+        assertEquals(Set.of(nextWeek), userRepository.findAvailableDaysByUserIdAndDayIn(
+                userRepository.findIdByUsername("testuser@example.com").orElseThrow(), Set.of(tomorrow, nextWeek)));
+    }
+
     @Test
     void deleteCurrentUser() throws Exception {
         mockMvc.perform(MockMvcRequestBuilders.delete("/user")
@@ -150,13 +210,69 @@ class UserControllerTest {
         mockMvc.perform(MockMvcRequestBuilders.get("/user/all")
                         .header("Authorization", "Bearer " + token))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.[0].username").value("testuser@example.com"))
-                .andExpect(jsonPath("$.[0].firstName").value("TestName"))
-                .andExpect(jsonPath("$.[0].lastName").value("TestLastName"))
-                .andExpect(jsonPath("$.[1].username").value("user2@gmail.com"))
-                .andExpect(jsonPath("$.[1].firstName").value("user2firstName"))
-                .andExpect(jsonPath("$.[1].lastName").value("user2lastName"))
-                .andExpect(jsonPath("$[?(@.username == 'admin@example.com')]").doesNotExist());
+                .andExpect(jsonPath("$.users[0].username").value("testuser@example.com"))
+                .andExpect(jsonPath("$.users[0].firstName").value("TestName"))
+                .andExpect(jsonPath("$.users[0].lastName").value("TestLastName"))
+                .andExpect(jsonPath("$.users[1].username").value("user2@gmail.com"))
+                .andExpect(jsonPath("$.users[1].firstName").value("user2firstName"))
+                .andExpect(jsonPath("$.users[1].lastName").value("user2lastName"))
+                .andExpect(jsonPath("$.users[?(@.username == 'testAdmin@gmail.com')]").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getUserDirectory_shouldSearchNamesByPrefixAndPage() throws Exception {
+        for (var name : List.of("Anna", "Annika", "Bob")) {
+            userRepository.save(User.builder()
+                    .username(name.toLowerCase() + "@directory.com")
+                    .firstName(name)
+                    .lastName("Directory")
+                    .password("encoded_password")
+                    .roles(List.of(Role.USER))
+                    .build());
+        }
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/user/all")
+                        .param("q", "ann")
+                        .param("limit", "1")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(1))
+                .andExpect(jsonPath("$.users[0].username").value("anna@directory.com"))
+                .andExpect(jsonPath("$.nextCursor").value("anna@directory.com"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/user/all")
+                        .param("q", "ann")
+                        .param("after", "anna@directory.com")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(1))
+                .andExpect(jsonPath("$.users[0].username").value("annika@directory.com"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/user/all")
+                        .param("q", "DIRECT")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(3));
+    }
+
+    @Test
+    void autocompleteUsers_shouldReturnEmptyListForBlankQuery() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/user/autocomplete")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void autocompleteUsers_shouldReturnBadRequest_whenLimitNotPositive() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/user/autocomplete")
+                        .param("q", "test")
+                        .param("limit", "0")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
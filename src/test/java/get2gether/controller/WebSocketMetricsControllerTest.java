@@ -0,0 +1,78 @@
+package get2gether.controller;
+
+import get2gether.enums.Role;
+import get2gether.model.User;
+import get2gether.repository.UserRepository;
+import get2gether.security.JwtUtil;
+import get2gether.service.CustomUserDetailsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class WebSocketMetricsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String adminToken;
+    private String userToken;
+
+    @BeforeEach
+    void setUp() {
+        adminToken = tokenFor("metrics-admin@test.com", Role.ADMIN);
+        userToken = tokenFor("metrics-user@test.com", Role.USER);
+    }
+
+    @Test
+    void getChannelStats_shouldReturnInboundAndOutboundChannels_whenAdmin() throws Exception {
+        mockMvc.perform(get("/admin/websocket/channels")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].channel").value("clientInboundChannel"))
+                .andExpect(jsonPath("$[0].queueCapacity").value(1000))
+                .andExpect(jsonPath("$[1].channel").value("clientOutboundChannel"));
+    }
+
+    @Test
+    void getChannelStats_shouldFail_whenNotAdmin() throws Exception {
+        mockMvc.perform(get("/admin/websocket/channels")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private String tokenFor(String username, Role role) {
+        userRepository.save(User.builder()
+                .username(username)
+                .firstName("Test")
+                .lastName("User")
+                .password("encoded_password")
+                .roles(List.of(role))
+                .build());
+        return jwtUtil.generateToken(customUserDetailsService.loadUserByUsername(username));
+    }
+}
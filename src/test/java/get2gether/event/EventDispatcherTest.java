@@ -0,0 +1,239 @@
+package get2gether.event;
+
+import get2gether.config.EventDispatchProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventDispatcherTest {
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    private EventDispatcher eventDispatcher;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (eventDispatcher != null) {
+            eventDispatcher.destroy();
+        }
+    }
+
+    @Test
+    void dispatch_shouldPublishImmediately_whenSyncMode() {
+        eventDispatcher = dispatcher(EventDispatchProperties.Mode.SYNC);
+        TransactionSynchronizationManager.initSynchronization();
+        var event = event("created");
+
+        eventDispatcher.dispatch("group:1", event);
+
+        verify(publisher).publishEvent(event);
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    void dispatch_shouldPublishAfterCommitOnly_whenAsyncMode() throws Exception {
+        eventDispatcher = dispatcher(EventDispatchProperties.Mode.ASYNC);
+        var published = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            published.countDown();
+            return null;
+        }).when(publisher).publishEvent(any(ApplicationEvent.class));
+        TransactionSynchronizationManager.initSynchronization();
+        var event = event("created");
+
+        eventDispatcher.dispatch("group:1", event);
+
+        verify(publisher, never()).publishEvent(any(ApplicationEvent.class));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(published.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(publisher).publishEvent(event);
+    }
+
+    @Test
+    void dispatch_shouldDropEvent_whenTransactionRollsBack() throws Exception {
+        eventDispatcher = dispatcher(EventDispatchProperties.Mode.ASYNC);
+        TransactionSynchronizationManager.initSynchronization();
+
+        eventDispatcher.dispatch("group:1", event("created"));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        Thread.sleep(100);
+        verify(publisher, never()).publishEvent(any(ApplicationEvent.class));
+        assertThat(eventDispatcher.getStats().getPending()).isZero();
+    }
+
+    @Test
+    void dispatch_shouldKeepPublishOrderPerKey_whenAsyncMode() throws Exception {
+        eventDispatcher = dispatcher(EventDispatchProperties.Mode.ASYNC);
+        var received = Collections.synchronizedList(new ArrayList<String>());
+        var done = new CountDownLatch(200);
+        doAnswer(invocation -> {
+            received.add((String) ((ApplicationEvent) invocation.getArgument(0)).getSource());
+            done.countDown();
+            return null;
+        }).when(publisher).publishEvent(any(ApplicationEvent.class));
+
+        for (int i = 0; i < 100; i++) {
+            eventDispatcher.dispatch("group:1", event("a" + i));
+            eventDispatcher.dispatch("group:2", event("b" + i));
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(received.stream().filter(source -> source.startsWith("a")).toList())
+                .isEqualTo(sources("a"));
+        assertThat(received.stream().filter(source -> source.startsWith("b")).toList())
+                .isEqualTo(sources("b"));
+        awaitIdle();
+        assertThat(eventDispatcher.getStats().getProcessed()).isEqualTo(200);
+    }
+
+    @Test
+    void dispatch_shouldRetryFailedEvent_whenListenerFailsOnce() throws Exception {
+        eventDispatcher = dispatcher(EventDispatchProperties.Mode.ASYNC);
+        var done = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            done.countDown();
+            throw new IllegalStateException("database unavailable");
+        }).doAnswer(invocation -> {
+            done.countDown();
+            return null;
+        }).when(publisher).publishEvent(any(ApplicationEvent.class));
+
+        eventDispatcher.dispatch("group:1", event("created"));
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitIdle();
+        var stats = eventDispatcher.getStats();
+        assertThat(stats.getProcessed()).isEqualTo(1);
+        assertThat(stats.getRetries()).isEqualTo(1);
+        assertThat(stats.getFailed()).isZero();
+    }
+
+    @Test
+    void dispatch_shouldGiveUp_whenListenerKeepsFailing() throws Exception {
+        eventDispatcher = dispatcher(EventDispatchProperties.Mode.ASYNC);
+        var attempts = new CountDownLatch(3);
+        doAnswer(invocation -> {
+            attempts.countDown();
+            throw new IllegalStateException("database unavailable");
+        }).when(publisher).publishEvent(any(ApplicationEvent.class));
+
+        eventDispatcher.dispatch("group:1", event("created"));
+
+        assertThat(attempts.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitIdle();
+        var stats = eventDispatcher.getStats();
+        assertThat(stats.getFailed()).isEqualTo(1);
+        assertThat(stats.getRetries()).isEqualTo(2);
+        assertThat(stats.getPending()).isZero();
+        verify(publisher, times(3)).publishEvent(any(ApplicationEvent.class));
+    }
+
+    @Test
+    void dispatch_shouldQueueWithoutWaitingAndCommitListenerWritesInOrder_whenBacklogIsOverThreshold() throws Exception {
+        var dataSource = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        try {
+            var jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE TABLE listener_write (id IDENTITY PRIMARY KEY, source VARCHAR(20))");
+            var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            eventDispatcher = dispatcher(EventDispatchProperties.Mode.ASYNC, 1, 1);
+            var firstStarted = new CountDownLatch(1);
+            var releaseFirst = new CountDownLatch(1);
+            var done = new CountDownLatch(4);
+            // Behaves like a @Transactional listener: joins the current transaction if there is one
+            doAnswer(invocation -> {
+                var source = (String) ((ApplicationEvent) invocation.getArgument(0)).getSource();
+                if (source.equals("e0")) {
+                    firstStarted.countDown();
+                    releaseFirst.await(5, TimeUnit.SECONDS);
+                }
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.update("INSERT INTO listener_write (source) VALUES (?)", source));
+                done.countDown();
+                return null;
+            }).when(publisher).publishEvent(any(ApplicationEvent.class));
+
+            transactionTemplate.executeWithoutResult(status -> eventDispatcher.dispatch("group:1", event("e0")));
+            assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < 4; i++) {
+                var source = "e" + i;
+                transactionTemplate.executeWithoutResult(status -> eventDispatcher.dispatch("group:1", event(source)));
+            }
+            var stats = eventDispatcher.getStats();
+            assertThat(stats.getPending()).isEqualTo(4);
+            assertThat(stats.getMaxPending()).isEqualTo(4);
+            assertThat(stats.getOverflowed()).isEqualTo(3);
+            releaseFirst.countDown();
+
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(jdbcTemplate.queryForList("SELECT source FROM listener_write ORDER BY id", String.class))
+                    .containsExactly("e0", "e1", "e2", "e3");
+            awaitIdle();
+            assertThat(eventDispatcher.getStats().getProcessed()).isEqualTo(4);
+        } finally {
+            dataSource.shutdown();
+        }
+    }
+
+    private EventDispatcher dispatcher(EventDispatchProperties.Mode mode) {
+        return dispatcher(mode, 4, 10_000);
+    }
+
+    private EventDispatcher dispatcher(EventDispatchProperties.Mode mode, int workers, int backlogThreshold) {
+        var properties = new EventDispatchProperties();
+        properties.setMode(mode);
+        properties.setWorkers(workers);
+        properties.setBacklogThreshold(backlogThreshold);
+        properties.setRetryBackoff(Duration.ofMillis(10));
+        return new EventDispatcher(publisher, properties, new MockEnvironment());
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 5_000;
+        while (eventDispatcher.getStats().getPending() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static ApplicationEvent event(String source) {
+        return new ApplicationEvent(source) {
+        };
+    }
+
+    private static List<String> sources(String prefix) {
+        var sources = new ArrayList<String>();
+        for (int i = 0; i < 100; i++) {
+            sources.add(prefix + i);
+        }
+        return sources;
+    }
+}
@@ -0,0 +1,69 @@
+package get2gether.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AvailabilityBitmapTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2030, 1, 1);
+    private static final LocalDate JAN_31 = LocalDate.of(2030, 1, 31);
+    private static final LocalDate FEB_1 = LocalDate.of(2030, 2, 1);
+
+    @Test
+    void of_shouldContainExactlyTheGivenDays() {
+        var bitmap = AvailabilityBitmap.of(Set.of(JAN_1, JAN_31, FEB_1));
+
+        assertThat(bitmap.toDates()).containsExactlyInAnyOrder(JAN_1, JAN_31, FEB_1);
+        assertThat(bitmap.contains(JAN_31)).isTrue();
+        assertThat(bitmap.contains(JAN_1.plusDays(1))).isFalse();
+        assertThat(AvailabilityBitmap.of(Set.of())).isSameAs(AvailabilityBitmap.EMPTY);
+    }
+
+    @Test
+    void toBytes_shouldStoreWholeYearInTwelveMonthsAndRoundTrip() {
+        var year = Stream.iterate(JAN_1, day -> day.getYear() == 2030, day -> day.plusDays(1))
+                .collect(Collectors.toSet());
+        var bitmap = AvailabilityBitmap.of(year);
+
+        var bytes = bitmap.toBytes();
+
+        assertThat(bytes).hasSize(12 * 8);
+        assertThat(AvailabilityBitmap.fromBytes(bytes)).isEqualTo(bitmap);
+        assertThat(AvailabilityBitmap.fromBytes(bytes).toDates()).hasSize(365);
+    }
+
+    @Test
+    void fromBytes_shouldRejectInvalidEncoding() {
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityBitmap.fromBytes(new byte[5]));
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityBitmap.fromBytes(new byte[8]));
+    }
+
+    @Test
+    void with_shouldAddAndRemoveDaysAndDropEmptyMonths() {
+        var bitmap = AvailabilityBitmap.of(Set.of(JAN_1, FEB_1));
+
+        var changed = bitmap.with(Set.of(JAN_31), Set.of(FEB_1));
+
+        assertThat(changed.toDates()).containsExactlyInAnyOrder(JAN_1, JAN_31);
+        assertThat(changed.toBytes()).hasSize(8);
+        assertThat(bitmap.with(Set.of(JAN_1), Set.of(JAN_31))).isSameAs(bitmap);
+    }
+
+    @Test
+    void countByDay_shouldCountMembersPerDayWithinRange() {
+        var alice = AvailabilityBitmap.of(Set.of(JAN_1, JAN_31, FEB_1));
+        var bob = AvailabilityBitmap.of(Set.of(JAN_31, FEB_1.plusDays(5)));
+
+        var counts = AvailabilityBitmap.countByDay(List.of(alice, bob), JAN_31, FEB_1.plusDays(1));
+
+        assertThat(counts).containsExactly(2, 1, 0);
+    }
+}
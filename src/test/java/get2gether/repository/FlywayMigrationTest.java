@@ -0,0 +1,99 @@
+package get2gether.repository;
+
+import get2gether.Get2getherApplication;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the migrations on an empty H2 database with existing data inserted at the version that predates a change,
+ * and on a database created by ddl-auto before migrations were introduced.
+ */
+class FlywayMigrationTest {
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    void migrate_shouldMoveInviteSequencePastExistingInviteIds() {
+        migrateTo("7");
+        for (long id = 1; id <= 120; id++) {
+            jdbcTemplate.update("INSERT INTO invite (id, type, type_id, type_name, sender_username) " +
+                    "VALUES (?, 'GROUP', 1, 'Group', 'sender@gmail.com')", id);
+        }
+
+        migrateTo("latest");
+
+        // Hibernate's pooled allocation hands out the 50 ids up to each sequence value
+        var next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR invite_seq", Long.class);
+        assertThat(next - 49).isGreaterThan(120);
+    }
+
+    @Test
+    void migrate_shouldKeepInviteSequence_whenItIsAheadOfInviteIds() {
+        migrateTo("7");
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR invite_seq", Long.class);
+        }
+
+        migrateTo("latest");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR invite_seq", Long.class)).isGreaterThan(201);
+    }
+
+    @Test
+    void startup_shouldBaselineAndMigrateDatabaseCreatedByDdlAuto() throws Exception {
+        new ResourceDatabasePopulator(new ClassPathResource("db/baseline/ddl-auto-h2.sql")).execute(dataSource);
+        jdbcTemplate.update("INSERT INTO users (username, first_name, last_name, password) " +
+                "VALUES ('baseline@gmail.com', 'Base', 'Line', 'encoded_password')");
+        for (int i = 0; i < 60; i++) {
+            jdbcTemplate.update("INSERT INTO invite (type, type_id, type_name, sender_username) " +
+                    "VALUES ('GROUP', 1, 'Group', 'sender@gmail.com')");
+        }
+        String url;
+        try (var connection = dataSource.getConnection()) {
+            url = connection.getMetaData().getURL();
+        }
+
+        // Hibernate validates the migrated schema against the current entities on startup
+        try (var context = new SpringApplicationBuilder(Get2getherApplication.class)
+                .profiles("test")
+                .properties("spring.main.web-application-type=none",
+                        "spring.jpa.show-sql=false",
+                        "spring.flyway.baseline-on-migrate=true",
+                        "spring.flyway.baseline-version=1")
+                .run("--spring.datasource.url=" + url, "--spring.datasource.username=sa")) {
+            assertThat(context.isActive()).isTrue();
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT token_version FROM users WHERE username = 'baseline@gmail.com'", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR invite_seq", Long.class) - 49).isGreaterThan(60);
+        assertThat(jdbcTemplate.queryForList("SELECT \"version\" FROM \"flyway_schema_history\" ORDER BY \"installed_rank\"",
+                String.class)).containsSubsequence("1", "1.1", "1.2", "1.3", "1.4", "1.5", "1.6", "2", "8");
+    }
+
+    private void migrateTo(String target) {
+        Flyway.configure().dataSource(dataSource).target(target).load().migrate();
+    }
+}
@@ -0,0 +1,400 @@
+package get2gether.repository;
+
+import get2gether.enums.Role;
+import get2gether.enums.Type;
+import get2gether.model.AvailabilityBitmap;
+import get2gether.model.Event;
+import get2gether.model.Group;
+import get2gether.model.Invite;
+import get2gether.model.Message;
+import get2gether.model.RefreshToken;
+import get2gether.model.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every query method of the repositories against the migrated schema, captures the SQL Hibernate sends
+ * and asks H2 for its plan. A table read without an index condition means the query scans the whole table
+ * and fails the test, so a new query needs a matching index in the migrations before it is merged.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "get2gether.repository.RepositoryQueryPlanTest$CapturingStatementInspector"
+})
+@ActiveProfiles("test")
+@Transactional
+class RepositoryQueryPlanTest {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            UserRepository.class, GroupRepository.class, EventRepository.class,
+            InviteRepository.class, MessageRepository.class, RefreshTokenRepository.class,
+            ArchivedEventRepository.class);
+
+    /**
+     * Queries that read a whole table on purpose: the availability storage migration walks all users in id order.
+     */
+    private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+            "UserRepository.findIdsWithAvailableDayRows",
+            "UserRepository.findIdsWithAvailabilityBitmap");
+
+    /** A table or index read in an H2 plan, e.g. {@code PUBLIC.EVENT.tableScan} or {@code PUBLIC.IDX_X: A = ?1}. */
+    private static final Pattern TABLE_ACCESS = Pattern.compile("/\\* (PUBLIC\\.[^*]*?) \\*/");
+
+    /**
+     * Index H2 creates on its own for a foreign key, e.g. {@code FK_USER_GROUP_USER_INDEX_C}.
+     * PostgreSQL does not index foreign keys, so reading through one of these is only fine
+     * if the migrations declare an index starting with the same columns.
+     */
+    private static final Pattern FOREIGN_KEY_INDEX = Pattern.compile("FK_\\w+_INDEX_\\w+");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private InviteRepository inviteRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Group group;
+    private Event event;
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        var users = new ArrayList<User>();
+        for (int i = 0; i < 20; i++) {
+            users.add(userRepository.save(User.builder()
+                    .username("plan" + i + "@test.com")
+                    .password("password")
+                    .firstName("Plan" + i)
+                    .lastName("User" + i)
+                    .roles(List.of(Role.USER))
+                    .availableDays(new HashSet<>(Set.of(LocalDate.now().plusDays(i % 5 + 1))))
+                    .build()));
+        }
+        user = users.get(0);
+        for (int g = 0; g < 4; g++) {
+            var members = new HashSet<>(users.subList(g * 5, g * 5 + 5));
+            members.add(user);
+            var saved = groupRepository.save(Group.builder()
+                    .name("Plan group " + g)
+                    .admin(user)
+                    .members(members)
+                    .build());
+            for (int e = 0; e < 25; e++) {
+                var savedEvent = eventRepository.save(Event.builder()
+                        .name("Plan event " + g + "-" + e)
+                        .date(LocalDate.now().plusDays(e + 1))
+                        .hostUsername(user.getUsername())
+                        .group(saved)
+                        .goingMembers(new HashSet<>(List.of(user, users.get(g * 5 + e % 5))))
+                        .build());
+                inviteRepository.save(Invite.builder()
+                        .type(Type.EVENT)
+                        .typeId(savedEvent.getId())
+                        .typeName(savedEvent.getName())
+                        .senderUsername(user.getUsername())
+                        .receiver(users.get(g * 5 + 1))
+                        .build());
+                messageRepository.save(Message.builder()
+                        .group(saved)
+                        .senderUsername(user.getUsername())
+                        .message("Plan message " + e)
+                        .createdAt(LocalDateTime.now())
+                        .build());
+                event = savedEvent;
+            }
+            group = saved;
+        }
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash("plan-token-hash")
+                .user(user)
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void everyRepositoryQuery_shouldBeCoveredByThisTest() {
+        var declared = REPOSITORIES.stream()
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(method -> !method.isDefault() && !method.isSynthetic())
+                        .map(RepositoryQueryPlanTest::nameOf))
+                .collect(Collectors.toSet());
+
+        assertThat(queries().keySet()).containsAll(declared);
+    }
+
+    @Test
+    void repositoryQueries_shouldNotScanWholeTables() {
+        var undeclaredIndexes = undeclaredForeignKeyIndexes();
+        var fullScans = new ArrayList<String>();
+        queries().forEach((name, query) -> {
+            entityManager.clear();
+            CapturingStatementInspector.STATEMENTS.clear();
+            query.run();
+            entityManager.flush();
+            var statements = List.copyOf(CapturingStatementInspector.STATEMENTS);
+            assertThat(statements).as(name).isNotEmpty();
+            if (FULL_SCAN_ALLOWED.contains(name)) {
+                return;
+            }
+            statements.stream()
+                    .filter(RepositoryQueryPlanTest::readsTables)
+                    .forEach(sql -> {
+                        var plan = explain(sql);
+                        if (scansWholeTable(plan, undeclaredIndexes)) {
+                            fullScans.add(name + ":\n" + plan);
+                        }
+                    });
+        });
+
+        assertThat(fullScans).isEmpty();
+    }
+
+    /**
+     * Returns the foreign key indexes H2 created that no primary key, unique constraint or declared index covers.
+     */
+    private Set<String> undeclaredForeignKeyIndexes() {
+        var columnsByIndex = new LinkedHashMap<String, List<String>>();
+        var tableByIndex = new LinkedHashMap<String, String>();
+        jdbcTemplate.query("SELECT INDEX_NAME, TABLE_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS " +
+                "WHERE TABLE_SCHEMA = 'PUBLIC' ORDER BY INDEX_NAME, ORDINAL_POSITION", row -> {
+            var index = row.getString("INDEX_NAME");
+            tableByIndex.put(index, row.getString("TABLE_NAME"));
+            columnsByIndex.computeIfAbsent(index, key -> new ArrayList<>()).add(row.getString("COLUMN_NAME"));
+        });
+        return columnsByIndex.keySet().stream()
+                .filter(index -> FOREIGN_KEY_INDEX.matcher(index).matches())
+                .filter(foreignKeyIndex -> columnsByIndex.keySet().stream()
+                        .filter(index -> !FOREIGN_KEY_INDEX.matcher(index).matches())
+                        .filter(index -> tableByIndex.get(index).equals(tableByIndex.get(foreignKeyIndex)))
+                        .map(columnsByIndex::get)
+                        .noneMatch(columns -> startsWith(columns, columnsByIndex.get(foreignKeyIndex))))
+                .collect(Collectors.toSet());
+    }
+
+    private static boolean startsWith(List<String> columns, List<String> prefix) {
+        return columns.size() >= prefix.size() && columns.subList(0, prefix.size()).equals(prefix);
+    }
+
+    private Map<String, Runnable> queries() {
+        var ids = List.of(event.getId(), event.getId() - 1);
+        var days = List.of(LocalDate.now().plusDays(1), LocalDate.now().plusDays(2));
+        var from = LocalDate.now();
+        var to = LocalDate.now().plusDays(30);
+        var queries = new LinkedHashMap<String, Runnable>();
+
+        queries.put("UserRepository.findByUsername", () -> userRepository.findByUsername(user.getUsername()));
+        queries.put("UserRepository.existsByUsername", () -> userRepository.existsByUsername(user.getUsername()));
+        queries.put("UserRepository.findByUsernameIn",
+                () -> userRepository.findByUsernameIn(List.of(user.getUsername(), "plan1@test.com")));
+        queries.put("UserRepository.findTokenVersionByUsername",
+                () -> userRepository.findTokenVersionByUsername(user.getUsername()));
+        queries.put("UserRepository.findProfileByUsername",
+                () -> userRepository.findProfileByUsername(user.getUsername()));
+        queries.put("UserRepository.findDirectoryPage", () -> userRepository.findDirectoryPage("plan%", Limit.of(10)));
+        queries.put("UserRepository.findDirectoryPageAfter",
+                () -> userRepository.findDirectoryPageAfter("plan%", user.getUsername(), Limit.of(10)));
+        queries.put("UserRepository.findProfilesByRole", () -> userRepository.findProfilesByRole(Role.USER));
+        queries.put("UserRepository.findAvailableDaysByUserId",
+                () -> userRepository.findAvailableDaysByUserId(user.getId()));
+        queries.put("UserRepository.findIdByUsername", () -> userRepository.findIdByUsername(user.getUsername()));
+        queries.put("UserRepository.findAvailableDaysByUserIdAndDayIn",
+                () -> userRepository.findAvailableDaysByUserIdAndDayIn(user.getId(), days));
+        queries.put("UserRepository.insertAvailableDay",
+                () -> userRepository.insertAvailableDay(user.getId(), LocalDate.now().plusDays(40)));
+        queries.put("UserRepository.deleteAvailableDays", () -> userRepository.deleteAvailableDays(user.getId(), days));
+        queries.put("UserRepository.deleteAllAvailableDays", () -> userRepository.deleteAllAvailableDays(user.getId()));
+        queries.put("UserRepository.findIdsWithAvailableDayRows",
+                () -> userRepository.findIdsWithAvailableDayRows(Limit.of(10)));
+        queries.put("UserRepository.findAvailabilityBitmapByUserId",
+                () -> userRepository.findAvailabilityBitmapByUserId(user.getId()));
+        queries.put("UserRepository.lockAvailabilityBitmapByUserId",
+                () -> userRepository.lockAvailabilityBitmapByUserId(user.getId()));
+        queries.put("UserRepository.updateAvailabilityBitmap",
+                () -> userRepository.updateAvailabilityBitmap(user.getId(), AvailabilityBitmap.of(days)));
+        queries.put("UserRepository.findIdsWithAvailabilityBitmap",
+                () -> userRepository.findIdsWithAvailabilityBitmap(Limit.of(10)));
+        queries.put("UserRepository.updatePassword", () -> userRepository.updatePassword(user.getUsername(), "secret"));
+
+        queries.put("GroupRepository.existsByName", () -> groupRepository.existsByName(group.getName()));
+        queries.put("GroupRepository.findByName", () -> groupRepository.findByName(group.getName()));
+        queries.put("GroupRepository.findByIdWithMembers", () -> groupRepository.findByIdWithMembers(group.getId()));
+        queries.put("GroupRepository.findByIdWithMembersAndAvailableDays",
+                () -> groupRepository.findByIdWithMembersAndAvailableDays(group.getId()));
+        queries.put("GroupRepository.findGroupIdsByMemberUsername",
+                () -> groupRepository.findGroupIdsByMemberUsername(user.getUsername()));
+        queries.put("GroupRepository.countAvailableMembersByDate",
+                () -> groupRepository.countAvailableMembersByDate(group.getId(), from, to));
+        queries.put("GroupRepository.findMemberAvailabilityBitmaps",
+                () -> groupRepository.findMemberAvailabilityBitmaps(group.getId()));
+        queries.put("GroupRepository.findSummariesByMemberId",
+                () -> groupRepository.findSummariesByMemberId(user.getId()));
+
+        queries.put("EventRepository.findUpcomingByGroupIdWithGoingMembers",
+                () -> eventRepository.findUpcomingByGroupIdWithGoingMembers(group.getId(), from));
+        queries.put("EventRepository.findIdsByDateBefore",
+                () -> eventRepository.findIdsByDateBefore(from.plusDays(2), Limit.of(10)));
+        queries.put("EventRepository.deleteGoingMembersOfEvents", () -> eventRepository.deleteGoingMembersOfEvents(ids));
+        queries.put("EventRepository.findGoingViewsByMemberId",
+                () -> eventRepository.findGoingViewsByMemberId(user.getId()));
+        queries.put("EventRepository.findCalendarPage",
+                () -> eventRepository.findCalendarPage(List.of(group.getId()), from, to, Limit.of(10)));
+        queries.put("EventRepository.findCalendarPageAfter",
+                () -> eventRepository.findCalendarPageAfter(List.of(group.getId()), from, to, from, 0L, Limit.of(10)));
+        queries.put("EventRepository.findGoingMemberViewsByEventIdIn",
+                () -> eventRepository.findGoingMemberViewsByEventIdIn(ids));
+        queries.put("EventRepository.findViewsByGroupId", () -> eventRepository.findViewsByGroupId(group.getId()));
+        queries.put("EventRepository.insertGoingMember",
+                () -> eventRepository.insertGoingMember(event.getId(), user.getId()));
+        queries.put("EventRepository.deleteGoingMember",
+                () -> eventRepository.deleteGoingMember(event.getId(), user.getId()));
+        queries.put("EventRepository.addToAttendeeCount",
+                () -> eventRepository.addToAttendeeCount(event.getId(), event.getVersion(), 1));
+        queries.put("EventRepository.decrementAttendeeCountOfGroupEvents",
+                () -> eventRepository.decrementAttendeeCountOfGroupEvents(group.getId(), user.getId()));
+        queries.put("EventRepository.deleteGoingMemberFromGroupEvents",
+                () -> eventRepository.deleteGoingMemberFromGroupEvents(group.getId(), user.getId()));
+
+        var receiver = userRepository.getReferenceById(user.getId());
+        queries.put("InviteRepository.existsByReceiverAndTypeAndTypeId",
+                () -> inviteRepository.existsByReceiverAndTypeAndTypeId(receiver, Type.EVENT, event.getId()));
+        queries.put("InviteRepository.findByTypeAndTypeId",
+                () -> inviteRepository.findByTypeAndTypeId(Type.EVENT, event.getId()));
+        queries.put("InviteRepository.findByReceiverAndTypeAndTypeId",
+                () -> inviteRepository.findByReceiverAndTypeAndTypeId(receiver, Type.EVENT, event.getId()));
+        queries.put("InviteRepository.findInvitedReceiverIds",
+                () -> inviteRepository.findInvitedReceiverIds(List.of(user.getId()), Type.EVENT, event.getId()));
+        queries.put("InviteRepository.findReceiverUsernamesByTypeAndTypeIdIn",
+                () -> inviteRepository.findReceiverUsernamesByTypeAndTypeIdIn(Type.EVENT, ids));
+        queries.put("InviteRepository.deleteByTypeAndTypeIdIn",
+                () -> inviteRepository.deleteByTypeAndTypeIdIn(Type.EVENT, ids));
+        queries.put("InviteRepository.deleteByReceiverIdAndTypeAndTypeIdIn",
+                () -> inviteRepository.deleteByReceiverIdAndTypeAndTypeIdIn(user.getId(), Type.EVENT, ids));
+        queries.put("InviteRepository.findReceivedViewsByReceiverId",
+                () -> inviteRepository.findReceivedViewsByReceiverId(user.getId()));
+
+        queries.put("MessageRepository.findByGroupId", () -> messageRepository.findByGroupId(group.getId()));
+        queries.put("MessageRepository.findByGroupIdOrderByIdDesc",
+                () -> messageRepository.findByGroupIdOrderByIdDesc(group.getId(), Limit.of(10)));
+        queries.put("MessageRepository.findByGroupIdAndIdLessThanOrderByIdDesc",
+                () -> messageRepository.findByGroupIdAndIdLessThanOrderByIdDesc(group.getId(), Long.MAX_VALUE, Limit.of(10)));
+
+        queries.put("RefreshTokenRepository.findByTokenHash",
+                () -> refreshTokenRepository.findByTokenHash("plan-token-hash"));
+        queries.put("RefreshTokenRepository.markRotated",
+                () -> refreshTokenRepository.markRotated(0L, Instant.now()));
+        queries.put("RefreshTokenRepository.deleteByUser", () -> refreshTokenRepository.deleteByUser(receiver));
+        queries.put("RefreshTokenRepository.deleteExpiredByUser",
+                () -> refreshTokenRepository.deleteExpiredByUser(receiver, Instant.now()));
+        queries.put("ArchivedEventRepository.copyEvents",
+                () -> archivedEventRepository.copyEvents(ids, LocalDateTime.now()));
+        queries.put("ArchivedEventRepository.copyGoingMembers", () -> archivedEventRepository.copyGoingMembers(ids));
+        queries.put("ArchivedEventRepository.copyEventInvites", () -> archivedEventRepository.copyEventInvites(ids));
+        queries.put("ArchivedEventRepository.findPageByGroupId",
+                () -> archivedEventRepository.findPageByGroupId(group.getId(), Limit.of(10)));
+        queries.put("ArchivedEventRepository.findPageByGroupIdBefore",
+                () -> archivedEventRepository.findPageByGroupIdBefore(group.getId(), to, event.getId(), Limit.of(10)));
+        // Runs last: the archived events are deleted from the live tables
+        queries.put("EventRepository.deleteByIdIn", () -> {
+            eventRepository.deleteGoingMembersOfEvents(ids);
+            inviteRepository.deleteByTypeAndTypeIdIn(Type.EVENT, ids);
+            eventRepository.deleteByIdIn(ids);
+        });
+        return queries;
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((java.sql.Connection connection) -> {
+            try (var statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                    statement.setObject(i, null);
+                }
+                try (var result = statement.executeQuery()) {
+                    result.next();
+                    return result.getString(1);
+                }
+            }
+        });
+    }
+
+    private static boolean readsTables(String sql) {
+        var statement = sql.strip().toLowerCase(Locale.ROOT);
+        return statement.startsWith("select") || statement.startsWith("update") || statement.startsWith("delete");
+    }
+
+    private static boolean scansWholeTable(String plan, Set<String> undeclaredIndexes) {
+        var matcher = TABLE_ACCESS.matcher(plan);
+        while (matcher.find()) {
+            var access = matcher.group(1);
+            var index = access.substring("PUBLIC.".length()).split("[:.]")[0];
+            if (access.endsWith(".tableScan") || !access.contains(":") || undeclaredIndexes.contains(index)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String nameOf(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+}
@@ -0,0 +1,92 @@
+package get2gether.security;
+
+import get2gether.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the token handling cost of one authenticated request:
+ * - before: the filter parsed the token four times (username, username and expiration to validate, roles),
+ *   each time rebuilding the HMAC key and the parser
+ * - one pass: a single parse with the shared parser, as for the first request with a token
+ * - cached: the digest lookup done for every later request with the same token
+ * Average nanoseconds per request are logged for each; only the ordering is asserted.
+ */
+@Slf4j
+class JwtAuthenticationBenchmarkIT {
+
+    private static final String SECRET = "benchmark_secret_key_for_testing_purposes_only_not_for_production";
+    private static final int TOKENS = 1_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    @Test
+    void compareAuthenticationOverhead() {
+        var tokenFactory = new JwtUtil(SECRET, 3_600_000L, TOKENS);
+        var tokens = new ArrayList<String>();
+        for (int i = 0; i < TOKENS; i++) {
+            tokens.add(tokenFactory.generateToken(User.withUsername("bench" + i + "@test.com")
+                    .password("irrelevant_in_token")
+                    .authorities(Role.USER.name())
+                    .build()));
+        }
+
+        var before = measure(tokens, () -> JwtAuthenticationBenchmarkIT::authenticateAsBefore);
+        // a new JwtUtil per round keeps every token a cache miss
+        var onePass = measure(tokens, () -> new JwtUtil(SECRET, 3_600_000L, TOKENS)::validateAndExtract);
+        var cachedJwtUtil = new JwtUtil(SECRET, 3_600_000L, TOKENS);
+        var cached = measure(tokens, () -> cachedJwtUtil::validateAndExtract);
+
+        log.info("[JwtAuthenticationBenchmarkIT]: per request: before {} ns, one pass {} ns, cached {} ns",
+                before, onePass, cached);
+        assertThat(onePass).isLessThan(before);
+        assertThat(cached).isLessThan(onePass);
+    }
+
+    private static long measure(List<String> tokens, Supplier<Consumer<String>> newRound) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            tokens.forEach(newRound.get());
+        }
+        long elapsed = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            var authenticate = newRound.get();
+            var start = System.nanoTime();
+            tokens.forEach(authenticate);
+            elapsed += System.nanoTime() - start;
+        }
+        return elapsed / ((long) MEASURED_ROUNDS * tokens.size());
+    }
+
+    /** The work JwtRequestFilter used to do per request: four full parses, each with a new key and parser. */
+    private static List<GrantedAuthority> authenticateAsBefore(String token) {
+        var username = parseAsBefore(token).getSubject();
+        var valid = username.equals(parseAsBefore(token).getSubject())
+                && parseAsBefore(token).getExpiration().getTime() > System.currentTimeMillis();
+        List<?> roles = parseAsBefore(token).get("roles", List.class);
+        return valid
+                ? roles.stream().<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.toString())).toList()
+                : List.of();
+    }
+
+    private static Claims parseAsBefore(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .setAllowedClockSkewSeconds(60)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,117 @@
+package get2gether.security;
+
+import get2gether.enums.Role;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test_secret_key_for_testing_purposes_only_do_not_use_in_production";
+    private static final long EXPIRATION = 25_200_000;
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, EXPIRATION, 100);
+    }
+
+    @Test
+    void validateAndExtract_shouldReturnUsernameAndRoles() {
+        var token = jwtUtil.generateToken(userDetails("user@test.com", Role.USER, Role.ADMIN));
+
+        var claims = jwtUtil.validateAndExtract(token);
+
+        assertThat(claims.username()).isEqualTo("user@test.com");
+        assertThat(claims.authorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder("USER", "ADMIN");
+        assertThat(claims.expiresAtMillis()).isGreaterThan(System.currentTimeMillis());
+    }
+
+    @Test
+    void validateAndExtract_shouldReturnTokenVersion_whenTokenCarriesOne() {
+        var versioned = jwtUtil.generateToken(userDetails("user@test.com", Role.USER), new TokenVersion(7L, 3));
+        var unversioned = jwtUtil.generateToken(userDetails("user@test.com", Role.USER));
+
+        assertThat(jwtUtil.validateAndExtract(versioned).tokenVersion()).isEqualTo(new TokenVersion(7L, 3));
+        assertThat(jwtUtil.validateAndExtract(unversioned).tokenVersion()).isNull();
+    }
+
+    @Test
+    void validateAndExtract_shouldReuseVerifiedClaims_whenSameTokenIsPresentedAgain() {
+        var token = jwtUtil.generateToken(userDetails("user@test.com", Role.USER));
+
+        var first = jwtUtil.validateAndExtract(token);
+        var second = jwtUtil.validateAndExtract(token);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void validateAndExtract_shouldReject_whenSignatureIsTampered() {
+        var token = jwtUtil.generateToken(userDetails("user@test.com", Role.USER));
+        jwtUtil.validateAndExtract(token);
+        var tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtUtil.validateAndExtract(tampered));
+    }
+
+    @Test
+    void validateAndExtract_shouldReject_whenTokenIsSignedWithAnotherKey() {
+        var otherJwtUtil = new JwtUtil(SECRET.replace("test", "other"), EXPIRATION, 100);
+        var token = otherJwtUtil.generateToken(userDetails("user@test.com", Role.ADMIN));
+
+        assertThrows(JwtException.class, () -> jwtUtil.validateAndExtract(token));
+    }
+
+    @Test
+    void validateAndExtract_shouldReject_whenTokenHasExpired() {
+        var expiredJwtUtil = new JwtUtil(SECRET, -120_000L, 100);
+        var token = expiredJwtUtil.generateToken(userDetails("user@test.com", Role.USER));
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.validateAndExtract(token));
+    }
+
+    @Test
+    void validateAndExtract_shouldStayBounded_whenCacheIsFull() {
+        var smallCacheJwtUtil = new JwtUtil(SECRET, EXPIRATION, 2);
+        var first = smallCacheJwtUtil.generateToken(userDetails("first@test.com", Role.USER));
+        var firstClaims = smallCacheJwtUtil.validateAndExtract(first);
+        smallCacheJwtUtil.validateAndExtract(smallCacheJwtUtil.generateToken(userDetails("second@test.com", Role.USER)));
+        smallCacheJwtUtil.validateAndExtract(smallCacheJwtUtil.generateToken(userDetails("third@test.com", Role.USER)));
+
+        var firstAgain = smallCacheJwtUtil.validateAndExtract(first);
+
+        assertThat(firstAgain).isNotSameAs(firstClaims).isEqualTo(firstClaims);
+    }
+
+    @Test
+    void singleClaimAccessors_shouldAgreeWithVerifiedClaims() {
+        var user = userDetails("user@test.com", Role.USER, Role.ADMIN);
+        var token = jwtUtil.generateToken(user);
+        var claims = jwtUtil.validateAndExtract(token);
+
+        assertThat(jwtUtil.extractUsername(token)).isEqualTo(claims.username());
+        assertThat(jwtUtil.extractRoles(token)).isSameAs(claims.authorities());
+        assertThat(jwtUtil.validateToken(token, user)).isTrue();
+        assertThat(jwtUtil.isTokenValid(token)).isTrue();
+        assertThat(jwtUtil.isTokenValid(token.substring(0, token.length() - 2))).isFalse();
+    }
+
+    private static UserDetails userDetails(String username, Role... roles) {
+        return User.withUsername(username)
+                .password("irrelevant_in_token")
+                .authorities(Arrays.stream(roles).map(Role::name).toArray(String[]::new))
+                .build();
+    }
+}
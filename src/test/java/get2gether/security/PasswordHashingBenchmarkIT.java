@@ -0,0 +1,72 @@
+package get2gether.security;
+
+import get2gether.config.PasswordEncoderProperties;
+import get2gether.config.SecurityConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures how many logins per second one core can verify with each password hashing setting.
+ * Verifying the password hash dominates the cost of a login, so each setting is measured by matching
+ * a password against its hash on a single thread for about a second. Results are logged; only that
+ * a higher BCrypt strength is slower is asserted.
+ */
+@Slf4j
+class PasswordHashingBenchmarkIT {
+
+    private static final String PASSWORD = "benchmark_password";
+    private static final long MEASURE_NANOS = 1_000_000_000L;
+
+    @Test
+    void compareLoginsPerSecondPerCore() {
+        var settings = new LinkedHashMap<String, PasswordEncoderProperties>();
+        settings.put("bcrypt strength 8", bcrypt(8));
+        settings.put("bcrypt strength 10 (default)", bcrypt(10));
+        settings.put("bcrypt strength 12", bcrypt(12));
+        settings.put("pbkdf2 310000 iterations", pbkdf2(310_000));
+
+        var results = new LinkedHashMap<String, Double>();
+        settings.forEach((name, properties) -> {
+            var loginsPerSecond = measure(properties);
+            results.put(name, loginsPerSecond);
+            log.info("[PasswordHashingBenchmarkIT]: {}: {} logins/s per core", name, String.format("%.1f", loginsPerSecond));
+        });
+
+        assertThat(results.get("bcrypt strength 8")).isGreaterThan(results.get("bcrypt strength 10 (default)"));
+        assertThat(results.get("bcrypt strength 10 (default)")).isGreaterThan(results.get("bcrypt strength 12"));
+    }
+
+    private static double measure(PasswordEncoderProperties properties) {
+        var encoder = SecurityConfig.createPasswordEncoder(properties);
+        var hash = encoder.encode(PASSWORD);
+        assertThat(encoder.matches(PASSWORD, hash)).isTrue();
+
+        var logins = 0;
+        var start = System.nanoTime();
+        var elapsed = 0L;
+        while (elapsed < MEASURE_NANOS) {
+            encoder.matches(PASSWORD, hash);
+            logins++;
+            elapsed = System.nanoTime() - start;
+        }
+        return logins * 1e9 / elapsed;
+    }
+
+    private static PasswordEncoderProperties bcrypt(int strength) {
+        var properties = new PasswordEncoderProperties();
+        properties.setAlgorithm(PasswordEncoderProperties.Algorithm.BCRYPT);
+        properties.setBcryptStrength(strength);
+        return properties;
+    }
+
+    private static PasswordEncoderProperties pbkdf2(int iterations) {
+        var properties = new PasswordEncoderProperties();
+        properties.setAlgorithm(PasswordEncoderProperties.Algorithm.PBKDF2);
+        properties.setPbkdf2Iterations(iterations);
+        return properties;
+    }
+}
@@ -0,0 +1,157 @@
+package get2gether.security;
+
+import get2gether.enums.Role;
+import get2gether.model.User;
+import get2gether.repository.UserRepository;
+import get2gether.service.CustomUserDetailsService;
+import get2gether.service.UserService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "jwt.stateless-authentication=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class StatelessAuthenticationTest {
+
+    // an admin endpoint that does not touch the database itself
+    private static final String ENDPOINT = "/admin/events/dispatch";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private TokenVersionCache tokenVersionCache;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void authenticate_shouldNotQueryDatabase_onceTokenVersionIsCached() throws Exception {
+        var token = tokenFor(saveUser("stateless-admin@test.com"));
+        entityManager.flush();
+        statistics.clear();
+
+        mockMvc.perform(get(ENDPOINT).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get(ENDPOINT).header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk());
+        }
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void authenticate_shouldRejectToken_whenUserDeleted() throws Exception {
+        var user = saveUser("stateless-deleted@test.com");
+        var token = tokenFor(user);
+        mockMvc.perform(get(ENDPOINT).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        userService.deleteUser(user.getUsername());
+
+        mockMvc.perform(get(ENDPOINT).header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void authenticate_shouldRejectToken_ofPreviousAccountWithSameUsername() throws Exception {
+        var previous = saveUser("stateless-recreated@test.com");
+        var previousToken = tokenFor(previous);
+        userService.deleteUser(previous.getUsername());
+        entityManager.flush();
+
+        var current = saveUser("stateless-recreated@test.com");
+
+        mockMvc.perform(get(ENDPOINT).header("Authorization", "Bearer " + tokenFor(current)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(ENDPOINT).header("Authorization", "Bearer " + previousToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void authenticate_shouldRejectToken_whenTokenVersionIncremented() throws Exception {
+        var user = saveUser("stateless-revoked@test.com");
+        var token = tokenFor(user);
+        mockMvc.perform(get(ENDPOINT).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        userRepository.saveAndFlush(user);
+        tokenVersionCache.invalidate(user.getUsername());
+
+        mockMvc.perform(get(ENDPOINT).header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get(ENDPOINT).header("Authorization", "Bearer " + tokenFor(user)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void authenticate_shouldRejectToken_withoutTokenVersion() throws Exception {
+        var user = saveUser("stateless-unversioned@test.com");
+        var token = jwtUtil.generateToken(customUserDetailsService.loadUserByUsername(user.getUsername()));
+
+        mockMvc.perform(get(ENDPOINT).header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private User saveUser(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .firstName("Stateless")
+                .lastName("User")
+                .password("encoded_password")
+                .roles(new ArrayList<>(List.of(Role.ADMIN)))
+                .availableDays(new HashSet<>())
+                .groups(new HashSet<>())
+                .build());
+    }
+
+    private String tokenFor(User user) {
+        return jwtUtil.generateToken(customUserDetailsService.loadUserByUsername(user.getUsername()),
+                new TokenVersion(user.getId(), user.getTokenVersion()));
+    }
+}
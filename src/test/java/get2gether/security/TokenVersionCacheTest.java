@@ -0,0 +1,71 @@
+package get2gether.security;
+
+import get2gether.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getVersion_shouldQueryOnce_whenVersionIsCached() {
+        var cache = new TokenVersionCache(userRepository, 10, Duration.ofMinutes(1));
+        when(userRepository.findTokenVersionByUsername("user@test.com")).thenReturn(Optional.of(new TokenVersion(1L, 0)));
+
+        cache.getVersion("user@test.com");
+        cache.getVersion("user@test.com");
+
+        verify(userRepository, times(1)).findTokenVersionByUsername("user@test.com");
+    }
+
+    @Test
+    void invalidate_shouldDropVersionCachedBeforeCommitAgainAfterCommit() {
+        var cache = new TokenVersionCache(userRepository, 10, Duration.ofMinutes(1));
+        when(userRepository.findTokenVersionByUsername("user@test.com"))
+                .thenReturn(Optional.of(new TokenVersion(1L, 0)))
+                .thenReturn(Optional.of(new TokenVersion(1L, 1)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidate("user@test.com");
+        // a concurrent request reads the version before the increment is committed
+        cache.getVersion("user@test.com");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.getVersion("user@test.com")).isEqualTo(new TokenVersion(1L, 1));
+    }
+
+    @Test
+    void getVersion_shouldNotCacheVersion_whenInvalidatedWhileReading() {
+        var cache = new TokenVersionCache(userRepository, 10, Duration.ofMinutes(1));
+        when(userRepository.findTokenVersionByUsername("user@test.com")).thenAnswer(invocation -> {
+            // the revoking transaction commits and invalidates while this read is in progress
+            cache.invalidate("user@test.com");
+            return Optional.of(new TokenVersion(1L, 0));
+        }).thenReturn(Optional.of(new TokenVersion(1L, 1)));
+
+        cache.getVersion("user@test.com");
+
+        assertThat(cache.getVersion("user@test.com")).isEqualTo(new TokenVersion(1L, 1));
+    }
+}
@@ -0,0 +1,137 @@
+package get2gether.security;
+
+import get2gether.service.CustomUserDetailsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDetailsCacheTest {
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Test
+    void loadUserByUsername_shouldLoadOnce_whenUserIsRequestedAgain() {
+        var cache = new UserDetailsCache(userDetailsService, 10, Duration.ofMinutes(5));
+        when(userDetailsService.loadUserByUsername("user@test.com")).thenReturn(userDetails("user@test.com"));
+
+        var first = cache.loadUserByUsername("user@test.com");
+        var second = cache.loadUserByUsername("user@test.com");
+
+        assertThat(second).isSameAs(first);
+        verify(userDetailsService, times(1)).loadUserByUsername("user@test.com");
+        var stats = cache.getStats();
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void loadUserByUsername_shouldReload_whenEntryExpired() {
+        var cache = new UserDetailsCache(userDetailsService, 10, Duration.ZERO);
+        when(userDetailsService.loadUserByUsername("user@test.com")).thenReturn(userDetails("user@test.com"));
+
+        cache.loadUserByUsername("user@test.com");
+        cache.loadUserByUsername("user@test.com");
+
+        verify(userDetailsService, times(2)).loadUserByUsername("user@test.com");
+        assertThat(cache.getStats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void loadUserByUsername_shouldEvictOldestEntry_whenFull() {
+        var cache = new UserDetailsCache(userDetailsService, 2, Duration.ofMinutes(5));
+        when(userDetailsService.loadUserByUsername(anyString()))
+                .thenAnswer(invocation -> userDetails(invocation.getArgument(0)));
+
+        cache.loadUserByUsername("first@test.com");
+        cache.loadUserByUsername("second@test.com");
+        cache.loadUserByUsername("third@test.com");
+        cache.loadUserByUsername("second@test.com");
+        cache.loadUserByUsername("first@test.com");
+
+        verify(userDetailsService, times(2)).loadUserByUsername("first@test.com");
+        verify(userDetailsService, times(1)).loadUserByUsername("second@test.com");
+        var stats = cache.getStats();
+        assertThat(stats.getSize()).isEqualTo(2);
+        assertThat(stats.getEvictions()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidate_shouldReloadUserOnNextRequest() {
+        var cache = new UserDetailsCache(userDetailsService, 10, Duration.ofMinutes(5));
+        when(userDetailsService.loadUserByUsername("user@test.com")).thenReturn(userDetails("user@test.com"));
+        cache.loadUserByUsername("user@test.com");
+
+        cache.invalidate("user@test.com");
+        cache.loadUserByUsername("user@test.com");
+
+        verify(userDetailsService, times(2)).loadUserByUsername("user@test.com");
+        assertThat(cache.getStats().getInvalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void loadUserByUsername_shouldNotCacheMissingUser() {
+        var cache = new UserDetailsCache(userDetailsService, 10, Duration.ofMinutes(5));
+        when(userDetailsService.loadUserByUsername("missing@test.com"))
+                .thenThrow(new UsernameNotFoundException("User not found with username: missing@test.com"));
+
+        assertThrows(UsernameNotFoundException.class, () -> cache.loadUserByUsername("missing@test.com"));
+        assertThrows(UsernameNotFoundException.class, () -> cache.loadUserByUsername("missing@test.com"));
+
+        verify(userDetailsService, times(2)).loadUserByUsername("missing@test.com");
+        assertThat(cache.getStats().getSize()).isZero();
+    }
+
+    @Test
+    void loadUserByUsername_shouldShareOneLoad_whenSameUserReconnectsConcurrently() throws Exception {
+        var cache = new UserDetailsCache(userDetailsService, 10, Duration.ofMinutes(5));
+        var loadStarted = new CountDownLatch(1);
+        var releaseLoad = new CountDownLatch(1);
+        when(userDetailsService.loadUserByUsername("user@test.com")).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            releaseLoad.await(5, TimeUnit.SECONDS);
+            return userDetails("user@test.com");
+        });
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var results = new ArrayList<Future<UserDetails>>();
+            results.add(executor.submit(() -> cache.loadUserByUsername("user@test.com")));
+            assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> cache.loadUserByUsername("user@test.com")));
+            }
+            Thread.sleep(100);
+            releaseLoad.countDown();
+
+            for (var result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getUsername()).isEqualTo("user@test.com");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(userDetailsService, times(1)).loadUserByUsername("user@test.com");
+        assertThat(cache.getStats().getMisses()).isEqualTo(1);
+        assertThat(cache.getStats().getHits()).isEqualTo(7);
+    }
+
+    private static UserDetails userDetails(String username) {
+        return User.withUsername(username).password("encoded_password").authorities("USER").build();
+    }
+}
@@ -0,0 +1,99 @@
+package get2gether.service;
+
+import get2gether.enums.Role;
+import get2gether.model.User;
+import get2gether.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Transactional
+class AuthServiceQueryCountTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void authenticateAndGenerateToken_shouldLoadUserOnce_whenHashIsCurrent() {
+        saveUser("login-current@test.com", passwordEncoder.encode(PASSWORD));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        var tokens = authService.authenticateAndGenerateToken("login-current@test.com", PASSWORD);
+
+        assertThat(tokens.getJwt()).isNotBlank();
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        // the user and its roles, then removing expired refresh tokens and storing the new one
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void authenticateAndGenerateToken_shouldReencodeOutdatedHash() {
+        // stored before hashes were prefixed, with a lower strength than configured
+        saveUser("login-outdated@test.com", new BCryptPasswordEncoder(4).encode(PASSWORD));
+        entityManager.flush();
+        entityManager.clear();
+
+        authService.authenticateAndGenerateToken("login-outdated@test.com", PASSWORD);
+        entityManager.clear();
+
+        var rehashed = userRepository.findByUsername("login-outdated@test.com").orElseThrow().getPassword();
+        assertThat(rehashed).startsWith("{bcrypt}$2a$10$");
+        assertThat(passwordEncoder.matches(PASSWORD, rehashed)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(rehashed)).isFalse();
+
+        authService.authenticateAndGenerateToken("login-outdated@test.com", PASSWORD);
+        entityManager.clear();
+        assertThat(userRepository.findByUsername("login-outdated@test.com").orElseThrow().getPassword())
+                .isEqualTo(rehashed);
+    }
+
+    private void saveUser(String username, String passwordHash) {
+        userRepository.save(User.builder()
+                .username(username)
+                .firstName("Login")
+                .lastName("User")
+                .password(passwordHash)
+                .roles(new ArrayList<>(List.of(Role.USER)))
+                .availableDays(new HashSet<>())
+                .build());
+    }
+}
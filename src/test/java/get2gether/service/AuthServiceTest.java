@@ -2,10 +2,12 @@ package get2gether.service;
 
 import get2gether.TestData;
 import get2gether.enums.Role;
+import get2gether.exception.InvalidRefreshTokenException;
 import get2gether.exception.RegistrationException;
-import get2gether.exception.ResourceNotFoundException;
 import get2gether.repository.UserRepository;
+import get2gether.security.AuthenticatedUser;
 import get2gether.security.JwtUtil;
+import get2gether.security.TokenVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -14,24 +16,25 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 class AuthServiceTest {
 
     @Mock
     private  AuthenticationManager authenticationManager;
 
-    @Mock
-    private  CustomUserDetailsService userDetailsService;
-
     @Mock
     private  UserRepository userRepository;
 
@@ -41,6 +44,12 @@ class AuthServiceTest {
     @Mock
     private  JwtUtil jwtUtil;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private UserSearchIndex userSearchIndex;
+
     @InjectMocks
     private AuthService testAuthService;
 
@@ -54,35 +63,36 @@ class AuthServiceTest {
     void authenticateAndGenerateToken_whenUserExistsAndCredentialsValid() {
         var user = TestData.getTestUser();
         var expectedToken = "fake-jwt-token";
+        var tokenVersion = new TokenVersion(1L, 2);
+        var authenticatedUser = new AuthenticatedUser(user.getUsername(), user.getPassword(),
+                List.of(new SimpleGrantedAuthority("USER")), tokenVersion);
 
-        UserDetails userDetails = org.springframework.security.core.userdetails.User
-                .withUsername(user.getUsername())
-                .password(user.getPassword())
-                .authorities("USER")
-                .build();
-
-        when(userRepository.existsByUsername("test@gmail.com")).thenReturn(true);
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(new UsernamePasswordAuthenticationToken(user.getUsername(), user.getPassword()));
-        when(userDetailsService.loadUserByUsername("test@gmail.com")).thenReturn(userDetails);
-        when(jwtUtil.generateToken(userDetails)).thenReturn(expectedToken);
-
-        var actualToken = testAuthService.authenticateAndGenerateToken(user.getUsername(), user.getPassword());
-
-        assertEquals(expectedToken, actualToken);
+                .thenReturn(new UsernamePasswordAuthenticationToken(authenticatedUser, null,
+                        authenticatedUser.getAuthorities()));
+        when(jwtUtil.generateToken(authenticatedUser, tokenVersion)).thenReturn(expectedToken);
+        var userReference = get2gether.model.User.builder().id(1L).build();
+        when(userRepository.getReferenceById(1L)).thenReturn(userReference);
+        when(refreshTokenService.issue(userReference)).thenReturn("refresh-token");
+
+        var actualTokens = testAuthService.authenticateAndGenerateToken(user.getUsername(), user.getPassword());
+
+        assertEquals(expectedToken, actualTokens.getJwt());
+        assertEquals("refresh-token", actualTokens.getRefreshToken());
+        verify(userRepository, never()).findByUsername(any());
     }
 
     @Test
     void authenticateAndGenerateToken_whenUserDoesNotExist() {
-        when(userRepository.existsByUsername("test@gmail.com")).thenReturn(false);
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new UsernameNotFoundException("User not found with username: test@gmail.com"));
 
-        assertThrows(ResourceNotFoundException.class,
+        assertThrows(UsernameNotFoundException.class,
                 () -> testAuthService.authenticateAndGenerateToken("test@gmail.com", "password"));
     }
 
     @Test
     void authenticateAndGenerateToken_whenUserExistsAndCredentialsNotValid() {
-        when(userRepository.existsByUsername("test@gmail.com")).thenReturn(true);
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenThrow(new BadCredentialsException("Invalid username or password"));
 
@@ -99,6 +109,7 @@ class AuthServiceTest {
         when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encoded_password");
 
         var savedUser = get2gether.model.User.builder()
+                .id(1L)
                 .username(registerRequest.getUsername())
                 .password("encoded_password")
                 .firstName(registerRequest.getFirstName())
@@ -114,12 +125,51 @@ class AuthServiceTest {
                 .authorities("USER")
                 .build();
 
-        when(userDetailsService.loadUserByUsername(registerRequest.getUsername())).thenReturn(userDetails);
-        when(jwtUtil.generateToken(userDetails)).thenReturn(expectedToken);
+        when(jwtUtil.generateToken(userDetails, new TokenVersion(1L, 0))).thenReturn(expectedToken);
+        when(refreshTokenService.issue(savedUser)).thenReturn("refresh-token");
+
+        var actualTokens = testAuthService.registerAndGenerateToken(registerRequest);
+
+        assertEquals(expectedToken, actualTokens.getJwt());
+        assertEquals("refresh-token", actualTokens.getRefreshToken());
+        verify(userSearchIndex).put(savedUser);
+    }
+
+    @Test
+    void refreshTokens_shouldReturnNewTokens_whenRefreshTokenValid() {
+        var user = get2gether.model.User.builder()
+                .id(1L)
+                .username("test@gmail.com")
+                .password("encoded_password")
+                .roles(List.of(Role.USER))
+                .tokenVersion(3)
+                .build();
+        when(refreshTokenService.rotate("old-refresh-token"))
+                .thenReturn(new RefreshTokenService.IssuedToken(user, "new-refresh-token"));
+        when(jwtUtil.generateToken(any(UserDetails.class), eq(new TokenVersion(1L, 3)))).thenReturn("new-jwt");
+
+        var tokens = testAuthService.refreshTokens("old-refresh-token");
+
+        assertEquals("new-jwt", tokens.getJwt());
+        assertEquals("new-refresh-token", tokens.getRefreshToken());
+        verifyNoInteractions(authenticationManager, passwordEncoder);
+    }
+
+    @Test
+    void refreshTokens_shouldThrowException_whenRefreshTokenInvalid() {
+        when(refreshTokenService.rotate("unknown")).thenThrow(new InvalidRefreshTokenException("Invalid refresh token"));
+
+        assertThrows(InvalidRefreshTokenException.class, () -> testAuthService.refreshTokens("unknown"));
+    }
+
+    @Test
+    void revokeAllTokens_shouldRevokeTokensOfUser() {
+        var user = TestData.getTestUser();
+        when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
 
-        var actualToken = testAuthService.registerAndGenerateToken(registerRequest);
+        testAuthService.revokeAllTokens(user.getUsername());
 
-        assertEquals(expectedToken, actualToken);
+        verify(refreshTokenService).revokeAll(user);
     }
 
     @Test
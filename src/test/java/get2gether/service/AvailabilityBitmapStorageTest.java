@@ -0,0 +1,133 @@
+package get2gether.service;
+
+import get2gether.dto.AvailabilityDeltaDto;
+import get2gether.dto.AvailableDayDto;
+import get2gether.dto.UserDto;
+import get2gether.enums.Role;
+import get2gether.model.AvailabilityBitmap;
+import get2gether.model.Group;
+import get2gether.model.User;
+import get2gether.repository.GroupRepository;
+import get2gether.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "availability.storage=bitmap",
+        "availability.migration-batch-size=2"
+})
+@ActiveProfiles("test")
+@Transactional
+class AvailabilityBitmapStorageTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 6, 3);
+    private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+    private static final LocalDate WEDNESDAY = MONDAY.plusDays(2);
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private AvailabilityStorageMigration availabilityStorageMigration;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void migrate_shouldMoveRowsIntoBitmapsAndDeleteThem() {
+        var users = List.of(saveUser("migrated-1"), saveUser("migrated-2"), saveUser("migrated-3"));
+        users.forEach(user -> {
+            userRepository.insertAvailableDay(user.getId(), MONDAY);
+            userRepository.insertAvailableDay(user.getId(), TUESDAY);
+        });
+        userRepository.updateAvailabilityBitmap(users.get(0).getId(), AvailabilityBitmap.of(Set.of(WEDNESDAY)));
+
+        var migrated = availabilityStorageMigration.migrate();
+        entityManager.clear();
+
+        assertThat(migrated).isEqualTo(3);
+        assertThat(userRepository.findAvailabilityBitmapByUserId(users.get(0).getId()).orElseThrow().toDates())
+                .containsExactlyInAnyOrder(MONDAY, TUESDAY, WEDNESDAY);
+        assertThat(userService.getAvailableDays(users.get(2).getUsername())).containsExactlyInAnyOrder(MONDAY, TUESDAY);
+        users.forEach(user -> assertThat(userRepository.findAvailableDaysByUserId(user.getId())).isEmpty());
+        assertThat(availabilityStorageMigration.migrate()).isZero();
+    }
+
+    @Test
+    void updateAvailableDays_shouldStoreDaysInBitmap() {
+        var user = saveUser("bitmap-user");
+
+        userService.updateAvailableDays(user.getUsername(), Set.of(MONDAY, TUESDAY));
+        entityManager.flush();
+        var delta = userService.updateAvailableDays(user.getUsername(), AvailabilityDeltaDto.builder()
+                .added(Set.of(WEDNESDAY, MONDAY))
+                .removed(Set.of(TUESDAY))
+                .build());
+        entityManager.clear();
+
+        assertThat(delta.getAdded()).containsExactly(WEDNESDAY);
+        assertThat(delta.getRemoved()).containsExactly(TUESDAY);
+        assertThat(userService.getAvailableDays(user.getUsername())).containsExactlyInAnyOrder(MONDAY, WEDNESDAY);
+        assertThat(userService.getUserByUsername(user.getUsername()).getAvailableDays())
+                .containsExactlyInAnyOrder(MONDAY, WEDNESDAY);
+        assertThat(userRepository.findAvailableDaysByUserId(user.getId())).isEmpty();
+    }
+
+    @Test
+    void groupAvailability_shouldBeReadFromBitmaps() {
+        var alice = saveUser("bitmap-alice");
+        var bob = saveUser("bitmap-bob");
+        userService.updateAvailableDays(alice.getUsername(), Set.of(MONDAY, TUESDAY));
+        userService.updateAvailableDays(bob.getUsername(), Set.of(TUESDAY, WEDNESDAY));
+        var group = groupRepository.save(Group.builder()
+                .name("Bitmap group")
+                .groupColor("#000000")
+                .admin(alice)
+                .members(new HashSet<>(List.of(alice, bob)))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        var topDays = groupService.getTopAvailableDays(group.getId(), MONDAY, WEDNESDAY, 2);
+        var availability = groupService.getGroupById(group.getId()).getGroupAvailability();
+
+        assertThat(topDays).containsExactly(new AvailableDayDto(TUESDAY, 2L), new AvailableDayDto(MONDAY, 1L));
+        assertThat(availability.get(TUESDAY)).extracting(UserDto::getUsername)
+                .containsExactlyInAnyOrder(alice.getUsername(), bob.getUsername());
+        assertThat(availability.get(WEDNESDAY)).extracting(UserDto::getUsername).containsExactly(bob.getUsername());
+    }
+
+    private User saveUser(String prefix) {
+        return userRepository.save(User.builder()
+                .username(prefix + "@bitmap.com")
+                .firstName(prefix)
+                .lastName("User")
+                .password("encoded_password")
+                .roles(new ArrayList<>(List.of(Role.USER)))
+                .availableDays(new HashSet<>())
+                .groups(new HashSet<>())
+                .build());
+    }
+}
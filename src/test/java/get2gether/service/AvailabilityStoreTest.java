@@ -0,0 +1,113 @@
+package get2gether.service;
+
+import get2gether.config.AvailabilityProperties;
+import get2gether.dto.AvailableDayDto;
+import get2gether.model.AvailabilityBitmap;
+import get2gether.model.User;
+import get2gether.repository.GroupRepository;
+import get2gether.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityStoreTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 6, 3);
+    private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+    private static final LocalDate WEDNESDAY = MONDAY.plusDays(2);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private GroupRepository groupRepository;
+
+    @Test
+    void applyChange_inRowsMode_shouldWriteOnlyChangedRows() {
+        when(userRepository.findAvailableDaysByUserIdAndDayIn(eq(1L), any())).thenReturn(Set.of(TUESDAY, WEDNESDAY));
+
+        var change = store(AvailabilityProperties.Storage.ROWS)
+                .applyChange(1L, Set.of(MONDAY, TUESDAY), Set.of(WEDNESDAY, WEDNESDAY.plusDays(1)));
+
+        assertThat(change.added()).containsExactly(MONDAY);
+        assertThat(change.removed()).containsExactly(WEDNESDAY);
+        var inOrder = inOrder(userRepository);
+        inOrder.verify(userRepository).lockAvailabilityBitmapByUserId(1L);
+        inOrder.verify(userRepository).findAvailableDaysByUserIdAndDayIn(eq(1L), any());
+        verify(userRepository).insertAvailableDay(1L, MONDAY);
+        verify(userRepository).deleteAvailableDays(1L, Set.of(WEDNESDAY));
+        verify(userRepository, never()).updateAvailabilityBitmap(any(), any());
+    }
+
+    @Test
+    void applyChange_inBitmapMode_shouldWriteBitmapOnce() {
+        when(userRepository.lockAvailabilityBitmapByUserId(1L))
+                .thenReturn(Optional.of(AvailabilityBitmap.of(Set.of(TUESDAY, WEDNESDAY)).toBytes()));
+
+        var change = store(AvailabilityProperties.Storage.BITMAP)
+                .applyChange(1L, Set.of(MONDAY, TUESDAY), Set.of(WEDNESDAY));
+
+        assertThat(change.added()).containsExactly(MONDAY);
+        assertThat(change.removed()).containsExactly(WEDNESDAY);
+        verify(userRepository).updateAvailabilityBitmap(1L, AvailabilityBitmap.of(Set.of(MONDAY, TUESDAY)));
+        verify(userRepository, never()).insertAvailableDay(any(), any());
+    }
+
+    @Test
+    void applyChange_inBitmapMode_shouldNotWriteWhenNothingChanged() {
+        when(userRepository.lockAvailabilityBitmapByUserId(1L)).thenReturn(Optional.empty());
+
+        var change = store(AvailabilityProperties.Storage.BITMAP).applyChange(1L, Set.of(), Set.of(MONDAY));
+
+        assertThat(change.isEmpty()).isTrue();
+        verify(userRepository, never()).updateAvailabilityBitmap(any(), any());
+    }
+
+    @Test
+    void setAvailableDays_shouldUseConfiguredStorage() {
+        var days = new HashSet<>(Set.of(MONDAY, TUESDAY));
+        var rowsUser = new User();
+        var bitmapUser = new User();
+
+        store(AvailabilityProperties.Storage.ROWS).setAvailableDays(rowsUser, days);
+        store(AvailabilityProperties.Storage.BITMAP).setAvailableDays(bitmapUser, days);
+
+        assertThat(rowsUser.getAvailableDays()).isSameAs(days);
+        assertThat(rowsUser.getAvailabilityBitmap()).isNull();
+        assertThat(bitmapUser.getAvailableDays()).isNull();
+        assertThat(store(AvailabilityProperties.Storage.BITMAP).getAvailableDays(bitmapUser)).isEqualTo(days);
+    }
+
+    @Test
+    void countAvailableMembersByDay_shouldMatchInBothModes() {
+        when(groupRepository.countAvailableMembersByDate(1L, MONDAY, WEDNESDAY))
+                .thenReturn(List.of(new AvailableDayDto(MONDAY, 2L), new AvailableDayDto(WEDNESDAY, 1L)));
+        when(groupRepository.findMemberAvailabilityBitmaps(1L)).thenReturn(List.of(
+                AvailabilityBitmap.of(Set.of(MONDAY, WEDNESDAY)),
+                AvailabilityBitmap.of(Set.of(MONDAY))));
+
+        assertThat(store(AvailabilityProperties.Storage.ROWS).countAvailableMembersByDay(1L, MONDAY, WEDNESDAY))
+                .containsExactly(2, 0, 1);
+        assertThat(store(AvailabilityProperties.Storage.BITMAP).countAvailableMembersByDay(1L, MONDAY, WEDNESDAY))
+                .containsExactly(2, 0, 1);
+    }
+
+    private AvailabilityStore store(AvailabilityProperties.Storage storage) {
+        var properties = new AvailabilityProperties();
+        properties.setStorage(storage);
+        return new AvailabilityStore(userRepository, groupRepository, properties);
+    }
+}
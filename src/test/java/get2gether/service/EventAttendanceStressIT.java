@@ -0,0 +1,146 @@
+package get2gether.service;
+
+import get2gether.Get2getherApplication;
+import get2gether.dto.EventStatusDto;
+import get2gether.enums.Role;
+import get2gether.model.Event;
+import get2gether.model.Group;
+import get2gether.model.User;
+import get2gether.repository.EventRepository;
+import get2gether.repository.GroupRepository;
+import get2gether.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Toggles the attendance of many members of one event concurrently through EventService.
+ * In the first round every member flips between going and not going, with each thread changing a different
+ * member; in the second round the members that are not going send two "going" toggles at the same time,
+ * so both toggles race to insert the same user_event row. The attendee count must end up equal to the
+ * number of user_event rows and every going member must have lost the event date from their availability.
+ * The throughput of the first round is logged.
+ */
+@Slf4j
+class EventAttendanceStressIT {
+
+    private static final int MEMBERS = 200;
+    private static final int THREADS = 32;
+    private static final int TOGGLES_PER_MEMBER = 10;
+
+    @Test
+    void concurrentToggles_shouldKeepAttendeeCountConsistent() throws Exception {
+        try (var context = new SpringApplicationBuilder(Get2getherApplication.class)
+                .profiles("test")
+                .properties("spring.main.web-application-type=none", "spring.jpa.show-sql=false")
+                .run("--spring.datasource.url=jdbc:h2:mem:attendance-stress;DB_CLOSE_DELAY=-1")) {
+            var eventService = context.getBean(EventService.class);
+            var date = LocalDate.now().plusDays(7);
+            var members = seedMembers(context, date);
+            var event = seedEvent(context, members, date);
+
+            var toggles = new ArrayList<Callable<Void>>();
+            for (int m = 0; m < MEMBERS; m++) {
+                var username = members.get(m).getUsername();
+                // Odd members toggle once more, so they end up going and even members do not
+                var count = TOGGLES_PER_MEMBER + m % 2;
+                toggles.add(() -> {
+                    for (int i = 0; i < count; i++) {
+                        eventService.toggleEventAttendance(username, event.getId(), new EventStatusDto(i % 2 == 0));
+                    }
+                    return null;
+                });
+            }
+            var start = System.nanoTime();
+            runConcurrently(toggles);
+            var elapsedSeconds = (System.nanoTime() - start) / 1e9;
+            var toggleCount = MEMBERS * TOGGLES_PER_MEMBER + MEMBERS / 2;
+            log.info("[EventAttendanceStressIT]: {} toggles of {} members on {} threads in {} s, {} toggles/s",
+                    toggleCount, MEMBERS, THREADS, String.format("%.2f", elapsedSeconds),
+                    String.format("%.0f", toggleCount / elapsedSeconds));
+            assertThat(attendeeCount(context, event)).isEqualTo(MEMBERS / 2);
+            assertThat(goingRows(context, event)).isEqualTo(MEMBERS / 2);
+
+            var duplicates = new ArrayList<Callable<Void>>();
+            for (int m = 0; m < MEMBERS; m += 2) {
+                var username = members.get(m).getUsername();
+                for (int copy = 0; copy < 2; copy++) {
+                    duplicates.add(() -> {
+                        eventService.toggleEventAttendance(username, event.getId(), new EventStatusDto(true));
+                        return null;
+                    });
+                }
+            }
+            runConcurrently(duplicates);
+
+            assertThat(attendeeCount(context, event)).isEqualTo(MEMBERS);
+            assertThat(goingRows(context, event)).isEqualTo(MEMBERS);
+            var availabilityStore = context.getBean(AvailabilityStore.class);
+            members.forEach(member ->
+                    assertThat(availabilityStore.getAvailableDays(member.getId())).doesNotContain(date));
+        }
+    }
+
+    private void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (var result : executor.invokeAll(tasks)) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private List<User> seedMembers(ConfigurableApplicationContext context, LocalDate date) {
+        var members = new ArrayList<User>();
+        for (int m = 0; m < MEMBERS; m++) {
+            members.add(User.builder()
+                    .username("stress" + UUID.randomUUID() + "@gmail.com")
+                    .firstName("Stress")
+                    .lastName("User")
+                    .password("encoded_password")
+                    .roles(List.of(Role.USER))
+                    .availableDays(new HashSet<>(List.of(date, date.plusDays(1))))
+                    .groups(new HashSet<>())
+                    .build());
+        }
+        return context.getBean(UserRepository.class).saveAll(members);
+    }
+
+    private Event seedEvent(ConfigurableApplicationContext context, List<User> members, LocalDate date) {
+        var group = context.getBean(GroupRepository.class).save(Group.builder()
+                .name("Stress Group " + UUID.randomUUID())
+                .members(new HashSet<>(members))
+                .admin(members.get(0))
+                .build());
+        return context.getBean(EventRepository.class).save(Event.builder()
+                .name("Stress Event")
+                .date(date)
+                .hostUsername(members.get(0).getUsername())
+                .group(group)
+                .goingMembers(new HashSet<>())
+                .build());
+    }
+
+    private static int attendeeCount(ConfigurableApplicationContext context, Event event) {
+        return context.getBean(EventRepository.class).findById(event.getId()).orElseThrow().getAttendeeCount();
+    }
+
+    private static int goingRows(ConfigurableApplicationContext context, Event event) {
+        return context.getBean(JdbcTemplate.class)
+                .queryForObject("SELECT COUNT(*) FROM user_event WHERE event_id = ?", Integer.class, event.getId());
+    }
+}
@@ -7,23 +7,39 @@ import get2gether.enums.EventAction;
 import get2gether.event.EventPublisher;
 import get2gether.exception.ForbiddenActionException;
 import get2gether.exception.ResourceNotFoundException;
+import get2gether.dto.UserDto;
 import get2gether.mapper.EventMapper;
+import get2gether.mapper.UserMapper;
+import get2gether.model.ArchivedEvent;
 import get2gether.model.Event;
 import get2gether.model.Group;
 import get2gether.enums.Type;
 import get2gether.model.User;
+import get2gether.repository.ArchivedEventRepository;
 import get2gether.repository.EventRepository;
+import get2gether.repository.GroupRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,6 +60,16 @@ class EventServiceTest {
     private UserService userService;
     @Mock
     private InviteService inviteService;
+    @Mock
+    private GroupRepository groupRepository;
+    @Mock
+    private UserMapper userMapper;
+    @Mock
+    private AvailabilityStore availabilityStore;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ArchivedEventRepository archivedEventRepository;
 
     @InjectMocks
     private EventService testEventService;
@@ -80,6 +106,7 @@ class EventServiceTest {
         when(userService.getUserFromDb("test@gmail.com")).thenReturn(host);
         when(eventRepository.save(event)).thenReturn(savedEvent);
         when(eventMapper.modelToDtoOnGet(savedEvent)).thenReturn(eventDto);
+        when(availabilityStore.applyChange(any(), any(), any())).thenReturn(new AvailabilityStore.Change(Set.of(), Set.of()));
 
         var result = testEventService.createEvent(eventDto, "test@gmail.com");
 
@@ -90,7 +117,7 @@ class EventServiceTest {
         assertEquals(savedEvent.getDate(), result.getDate());
         
         verify(eventPublisher).publishEventAction(EventAction.CREATED, savedEvent);
-        verify(eventPublisher).publishEventAttendanceChanged(savedEvent, savedEvent.getDate(), host, true);
+        verify(availabilityStore).applyChange(host.getId(), Set.of(), Set.of(savedEvent.getDate()));
     }
 
     @Test
@@ -158,87 +185,171 @@ class EventServiceTest {
     }
 
     @Test
-    void addUserToEvent_shouldAddUserAndPublishAttendanceChangedEvent() {
+    void addUserToEvent_shouldAddUserAndRemoveEventDateFromAvailability() {
+        var date = savedEvent.getDate();
         when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEvent));
-        when(eventRepository.save(any(Event.class))).thenReturn(savedEvent);
-        doNothing().when(eventPublisher).publishEventAttendanceChanged(savedEvent, savedEvent.getDate(), newMember, true);
+        when(eventRepository.insertGoingMember(1L, newMember.getId())).thenReturn(1);
+        when(eventRepository.addToAttendeeCount(1L, savedEvent.getVersion(), 1)).thenReturn(1);
+        when(availabilityStore.applyChange(newMember.getId(), Set.of(), Set.of(date)))
+                .thenReturn(new AvailabilityStore.Change(Set.of(), Set.of(date)));
+
+        testEventService.addUserToEvent(1L, newMember);
+
+        verify(eventRepository, never()).save(any(Event.class));
+        verify(eventPublisher).publishAvailabilityChanged(newMember.getId(), newMember.getUsername(), Set.of(), Set.of(date));
+    }
+
+    @Test
+    void addUserToEvent_shouldNotCountUserTwice_whenAlreadyGoing() {
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEvent));
+        when(eventRepository.insertGoingMember(1L, newMember.getId())).thenReturn(0);
 
         testEventService.addUserToEvent(1L, newMember);
 
-        assertTrue(newMember.getGoingEvents().contains(savedEvent));
-        assertTrue(savedEvent.getGoingMembers().contains(newMember));
+        verify(eventRepository, never()).addToAttendeeCount(any(), anyLong(), anyInt());
+        verifyNoInteractions(availabilityStore, eventPublisher);
+    }
 
-        verify(eventRepository).save(savedEvent);
-        verify(eventPublisher).publishEventAttendanceChanged(savedEvent, savedEvent.getDate(), newMember, true);
+    @Test
+    void addUserToEvent_shouldThrowOptimisticLockingFailure_whenEventWasUpdatedConcurrently() {
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEvent));
+        when(eventRepository.insertGoingMember(1L, newMember.getId())).thenReturn(1);
+        when(eventRepository.addToAttendeeCount(1L, savedEvent.getVersion(), 1)).thenReturn(0);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> testEventService.addUserToEvent(1L, newMember));
     }
 
     @Test
-    void removeUserFromEvent_shouldRemoveUserFromEventAndUserLists() {
+    void removeUserFromEvent_shouldDeleteRowAndDecrementCount() {
         when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEvent));
-        when(eventRepository.save(any(Event.class))).thenReturn(savedEvent);
+        when(eventRepository.deleteGoingMember(1L, newMember.getId())).thenReturn(1);
+        when(eventRepository.addToAttendeeCount(1L, savedEvent.getVersion(), -1)).thenReturn(1);
 
         testEventService.removeUserFromEvent(1L, newMember);
 
-        verify(eventRepository).save(any(Event.class));
+        verify(eventRepository).addToAttendeeCount(1L, savedEvent.getVersion(), -1);
+        verify(eventRepository, never()).save(any(Event.class));
     }
 
     @Test
-    void toggleEventAttendance_shouldAddUser_whenIsGoingTrue() {
+    void toggleEventAttendance_shouldAddUserAndDeletePendingInvite_whenIsGoingTrue() {
+        runTransactions();
         when(userService.getUserFromDb("test@gmail.com")).thenReturn(newMember);
         when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEvent));
-        when(eventRepository.save(any(Event.class))).thenReturn(savedEvent);
-        when(inviteService.findByReceiverAndTypeAndTypeId(any(), any(), any())).thenReturn(Optional.empty());
-        doNothing().when(eventPublisher).publishEventAttendanceChanged(any(), any(), any(), any());
+        when(eventRepository.insertGoingMember(1L, newMember.getId())).thenReturn(1);
+        when(eventRepository.addToAttendeeCount(1L, savedEvent.getVersion(), 1)).thenReturn(1);
+        when(availabilityStore.applyChange(any(), any(), any())).thenReturn(new AvailabilityStore.Change(Set.of(), Set.of()));
 
         var statusDto = new EventStatusDto(true);
         testEventService.toggleEventAttendance("test@gmail.com", 1L, statusDto);
 
-        verify(eventRepository).save(any(Event.class));
-        verify(eventPublisher).publishEventAttendanceChanged(any(), any(), any(), any());
+        verify(inviteService).deleteInvites(newMember, Type.EVENT, List.of(1L));
+        verify(eventRepository).addToAttendeeCount(1L, savedEvent.getVersion(), 1);
+        verify(transactionTemplate).executeWithoutResult(any());
     }
 
     @Test
     void toggleEventAttendance_shouldRemoveUser_whenIsGoingFalse() {
+        runTransactions();
         when(userService.getUserFromDb("test@gmail.com")).thenReturn(newMember);
         when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEvent));
-        when(eventRepository.save(any(Event.class))).thenReturn(savedEvent);
-        when(inviteService.findByReceiverAndTypeAndTypeId(any(), any(), any())).thenReturn(Optional.empty());
+        when(eventRepository.deleteGoingMember(1L, newMember.getId())).thenReturn(1);
+        when(eventRepository.addToAttendeeCount(1L, savedEvent.getVersion(), -1)).thenReturn(1);
 
         var statusDto = new EventStatusDto(false);
         testEventService.toggleEventAttendance("test@gmail.com", 1L, statusDto);
 
-        verify(eventRepository).save(any(Event.class));
+        verify(eventRepository).addToAttendeeCount(1L, savedEvent.getVersion(), -1);
+        verifyNoInteractions(availabilityStore);
     }
 
     @Test
-    void toggleEventAttendance_shouldDeletePendingInvite_whenInviteExists() {
-        var invite = TestData.getInvite();
+    void toggleEventAttendance_shouldRetry_whenConcurrentToggleInsertedTheSameRow() {
+        runTransactions();
         when(userService.getUserFromDb("test@gmail.com")).thenReturn(newMember);
         when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEvent));
-        when(eventRepository.save(any(Event.class))).thenReturn(savedEvent);
-        when(inviteService.findByReceiverAndTypeAndTypeId(newMember, Type.EVENT, 1L)).thenReturn(Optional.of(invite));
-        doNothing().when(inviteService).deleteInvite(any());
+        when(eventRepository.insertGoingMember(1L, newMember.getId()))
+                .thenThrow(new DuplicateKeyException("duplicate user_event row"))
+                .thenReturn(0);
 
-        var statusDto = new EventStatusDto(true);
-        testEventService.toggleEventAttendance("test@gmail.com", 1L, statusDto);
+        testEventService.toggleEventAttendance("test@gmail.com", 1L, new EventStatusDto(true));
+
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        verify(eventRepository, never()).addToAttendeeCount(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    void toggleEventAttendance_shouldGiveUp_afterMaxAttempts() {
+        runTransactions();
+        when(userService.getUserFromDb("test@gmail.com")).thenReturn(newMember);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEvent));
+        when(eventRepository.deleteGoingMember(1L, newMember.getId()))
+                .thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        assertThrows(CannotAcquireLockException.class,
+                () -> testEventService.toggleEventAttendance("test@gmail.com", 1L, new EventStatusDto(false)));
+        verify(transactionTemplate, times(EventService.MAX_ATTENDANCE_ATTEMPTS)).executeWithoutResult(any());
+    }
+
+    @Test
+    void toggleEventAttendance_shouldRetry_whenInsertFailsWithUniqueViolation() {
+        runTransactions();
+        when(userService.getUserFromDb("test@gmail.com")).thenReturn(newMember);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEvent));
+        when(eventRepository.insertGoingMember(1L, newMember.getId()))
+                .thenThrow(new DataIntegrityViolationException("duplicate user_event row",
+                        new SQLException("Unique index or primary key violation", "23505")))
+                .thenReturn(0);
+
+        testEventService.toggleEventAttendance("test@gmail.com", 1L, new EventStatusDto(true));
+
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+    }
+
+    @Test
+    void toggleEventAttendance_shouldNotRetry_whenInsertFailsWithOtherIntegrityViolation() {
+        runTransactions();
+        when(userService.getUserFromDb("test@gmail.com")).thenReturn(newMember);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEvent));
+        when(eventRepository.insertGoingMember(1L, newMember.getId()))
+                .thenThrow(new DataIntegrityViolationException("missing user",
+                        new SQLException("Referential integrity constraint violation", "23506")));
 
-        verify(inviteService).deleteInvite(any());
+        assertThrows(DataIntegrityViolationException.class,
+                () -> testEventService.toggleEventAttendance("test@gmail.com", 1L, new EventStatusDto(true)));
+        verify(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void toggleEventAttendance_shouldReportConflict_whenDuplicateRowPersistsAfterMaxAttempts() {
+        runTransactions();
+        when(userService.getUserFromDb("test@gmail.com")).thenReturn(newMember);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(savedEvent));
+        when(eventRepository.insertGoingMember(1L, newMember.getId()))
+                .thenThrow(new DuplicateKeyException("duplicate user_event row"));
+
+        var exception = assertThrows(ConcurrencyFailureException.class,
+                () -> testEventService.toggleEventAttendance("test@gmail.com", 1L, new EventStatusDto(true)));
+        assertInstanceOf(DuplicateKeyException.class, exception.getCause());
+        verify(transactionTemplate, times(EventService.MAX_ATTENDANCE_ATTEMPTS)).executeWithoutResult(any());
     }
 
     @Test
     void createEvent_shouldPublishEvents() {
+        var date = savedEvent.getDate();
         when(groupService.findByName(eventDto.getGroupName())).thenReturn(group);
         when(eventMapper.dtoToModel(eventDto)).thenReturn(event);
         when(userService.getUserFromDb("test@gmail.com")).thenReturn(host);
         when(eventRepository.save(event)).thenReturn(savedEvent);
         when(eventMapper.modelToDtoOnGet(savedEvent)).thenReturn(eventDto);
-        doNothing().when(eventPublisher).publishEventAction(any(EventAction.class), any(Event.class));
-        doNothing().when(eventPublisher).publishEventAttendanceChanged(any(Event.class), any(LocalDate.class), any(User.class), anyBoolean());
+        when(availabilityStore.applyChange(host.getId(), Set.of(), Set.of(date)))
+                .thenReturn(new AvailabilityStore.Change(Set.of(), Set.of(date)));
 
         testEventService.createEvent(eventDto, "test@gmail.com");
 
         verify(eventPublisher).publishEventAction(eq(EventAction.CREATED), any(Event.class));
-        verify(eventPublisher).publishEventAttendanceChanged(any(Event.class), any(LocalDate.class), any(User.class), anyBoolean());
+        verify(eventPublisher).publishAvailabilityChanged(host.getId(), host.getUsername(), Set.of(), Set.of(date));
     }
 
     @Test
@@ -252,4 +363,137 @@ class EventServiceTest {
         verify(eventRepository).deleteById(1L);
         verify(eventPublisher).publishEventAction(eq(EventAction.DELETED), any(Event.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getCalendarEvents_shouldQueryUserGroupsAndReturnCursorWhenMoreEventsExist() {
+        var from = LocalDate.of(2030, 1, 1);
+        var to = LocalDate.of(2030, 3, 31);
+        var first = goingView(4L, LocalDate.of(2030, 1, 5));
+        var second = goingView(2L, LocalDate.of(2030, 1, 9));
+        var third = goingView(3L, LocalDate.of(2030, 2, 1));
+        var member = mock(EventRepository.GoingMemberView.class);
+        when(member.getEventId()).thenReturn(4L);
+        when(groupRepository.findGroupIdsByMemberUsername("test@gmail.com")).thenReturn(List.of(1L, 2L));
+        when(eventRepository.findCalendarPage(List.of(1L, 2L), from, to, Limit.of(3)))
+                .thenReturn(List.of(first, second, third));
+        when(eventRepository.findGoingMemberViewsByEventIdIn(List.of(4L, 2L))).thenReturn(List.of(member));
+        when(userMapper.viewToDto(member)).thenReturn(UserDto.builder().id(7L).build());
+        when(userMapper.viewToDto(any(EventRepository.GoingView.class), anySet())).thenAnswer(invocation -> {
+            EventRepository.GoingView view = invocation.getArgument(0);
+            Set<UserDto> goingMembers = invocation.getArgument(1);
+            return EventDto.builder().id(view.getId()).date(view.getDate()).goingMembers(goingMembers).build();
+        });
+
+        var page = testEventService.getCalendarEvents("test@gmail.com", from, to, null, 2, true);
+
+        assertEquals(List.of(4L, 2L), page.getEvents().stream().map(EventDto::getId).toList());
+        assertEquals(1, page.getEvents().get(0).getGoingMembers().size());
+        assertTrue(page.getEvents().get(1).getGoingMembers().isEmpty());
+        assertEquals("2030-01-09:2", page.getNextCursor());
+    }
+
+    @Test
+    void getCalendarEvents_shouldReturnCountsOnly_whenMembersAreNotRequested() {
+        var from = LocalDate.of(2030, 1, 1);
+        var to = LocalDate.of(2030, 3, 31);
+        var view = goingView(4L, LocalDate.of(2030, 1, 5));
+        when(groupRepository.findGroupIdsByMemberUsername("test@gmail.com")).thenReturn(List.of(1L));
+        when(eventRepository.findCalendarPage(List.of(1L), from, to, Limit.of(11))).thenReturn(List.of(view));
+        when(userMapper.viewToDto(view, null)).thenReturn(EventDto.builder().id(4L).attendeeCount(1000).build());
+
+        var page = testEventService.getCalendarEvents("test@gmail.com", from, to, null, 10, false);
+
+        assertEquals(1000, page.getEvents().get(0).getAttendeeCount());
+        assertNull(page.getEvents().get(0).getGoingMembers());
+        verify(eventRepository, never()).findGoingMemberViewsByEventIdIn(any());
+    }
+
+    @Test
+    void getCalendarEvents_shouldContinueAfterCursorAndEndPaging() {
+        var from = LocalDate.of(2030, 1, 1);
+        var to = LocalDate.of(2030, 3, 31);
+        when(groupRepository.findGroupIdsByMemberUsername("test@gmail.com")).thenReturn(List.of(1L));
+        when(eventRepository.findCalendarPageAfter(List.of(1L), from, to, LocalDate.of(2030, 1, 9), 2L, Limit.of(3)))
+                .thenReturn(List.of());
+
+        var page = testEventService.getCalendarEvents("test@gmail.com", from, to, "2030-01-09:2", 2, true);
+
+        assertTrue(page.getEvents().isEmpty());
+        assertNull(page.getNextCursor());
+        verify(eventRepository, never()).findGoingMemberViewsByEventIdIn(any());
+    }
+
+    @Test
+    void getCalendarEvents_shouldSkipEventQueryWhenUserHasNoGroups() {
+        when(groupRepository.findGroupIdsByMemberUsername("test@gmail.com")).thenReturn(List.of());
+
+        var page = testEventService.getCalendarEvents("test@gmail.com",
+                LocalDate.of(2030, 1, 1), LocalDate.of(2030, 1, 31), null, 10, true);
+
+        assertTrue(page.getEvents().isEmpty());
+        assertNull(page.getNextCursor());
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void getCalendarEvents_shouldRejectInvalidRangeLimitAndCursor() {
+        var from = LocalDate.of(2030, 1, 1);
+        var to = LocalDate.of(2030, 1, 31);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> testEventService.getCalendarEvents("test@gmail.com", to, from, null, 10, true));
+        assertThrows(IllegalArgumentException.class,
+                () -> testEventService.getCalendarEvents("test@gmail.com", from, to, null, 0, true));
+        assertThrows(IllegalArgumentException.class,
+                () -> testEventService.getCalendarEvents("test@gmail.com", from, to, "2030-01-09", 10, true));
+        assertThrows(IllegalArgumentException.class,
+                () -> testEventService.getCalendarEvents("test@gmail.com", from, to, "tomorrow:1", 10, true));
+        verifyNoInteractions(groupRepository, eventRepository);
+    }
+
+    @Test
+    void getArchivedEvents_shouldPageNewestFirstAndContinueBeforeCursor() {
+        var first = ArchivedEvent.builder().id(7L).name("Picnic").date(LocalDate.of(2024, 5, 3)).groupId(1L).build();
+        var second = ArchivedEvent.builder().id(4L).name("Hike").date(LocalDate.of(2024, 4, 20)).groupId(1L).build();
+        var third = ArchivedEvent.builder().id(2L).name("Dinner").date(LocalDate.of(2024, 4, 1)).groupId(1L).build();
+        when(groupRepository.findById(1L)).thenReturn(Optional.of(group));
+        when(archivedEventRepository.findPageByGroupId(1L, Limit.of(3))).thenReturn(List.of(first, second, third));
+        when(eventMapper.archivedToDto(any(ArchivedEvent.class), eq(group.getName())))
+                .thenAnswer(invocation -> EventDto.builder().id(((ArchivedEvent) invocation.getArgument(0)).getId()).build());
+
+        var page = testEventService.getArchivedEvents(1L, null, 2);
+
+        assertEquals(List.of(7L, 4L), page.getEvents().stream().map(EventDto::getId).toList());
+        assertEquals("2024-04-20:4", page.getNextCursor());
+
+        when(archivedEventRepository.findPageByGroupIdBefore(1L, LocalDate.of(2024, 4, 20), 4L, Limit.of(3)))
+                .thenReturn(List.of(third));
+
+        var next = testEventService.getArchivedEvents(1L, page.getNextCursor(), 2);
+
+        assertEquals(List.of(2L), next.getEvents().stream().map(EventDto::getId).toList());
+        assertNull(next.getNextCursor());
+    }
+
+    @Test
+    void getArchivedEvents_shouldThrowResourceNotFoundException_whenGroupDoesNotExist() {
+        when(groupRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> testEventService.getArchivedEvents(1L, null, 10));
+        verifyNoInteractions(archivedEventRepository);
+    }
+
+    private static EventRepository.GoingView goingView(Long id, LocalDate date) {
+        var view = mock(EventRepository.GoingView.class);
+        lenient().when(view.getId()).thenReturn(id);
+        lenient().when(view.getDate()).thenReturn(date);
+        return view;
+    }
+
+    private void runTransactions() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+}
@@ -0,0 +1,272 @@
+package get2gether.service;
+
+import get2gether.config.AvailabilityProperties;
+import get2gether.dto.UserDto;
+import get2gether.enums.Role;
+import get2gether.mapper.UserMapper;
+import get2gether.model.Group;
+import get2gether.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupAvailabilityIndexTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 6, 3);
+    private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+    private static final LocalDate WEDNESDAY = MONDAY.plusDays(2);
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private AvailabilityStore availabilityStore;
+
+    private AvailabilityProperties properties;
+    private GroupAvailabilityIndex groupAvailabilityIndex;
+
+    private User alice;
+    private User bob;
+    private Group group;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        properties = new AvailabilityProperties();
+        groupAvailabilityIndex = new GroupAvailabilityIndex(userMapper, availabilityStore, properties);
+        lenient().when(userMapper.modelToDtoOnGroupCreate(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            return UserDto.builder().id(user.getId()).username(user.getUsername()).build();
+        });
+        lenient().when(availabilityStore.getAvailableDays(any(User.class)))
+                .thenAnswer(invocation -> invocation.<User>getArgument(0).getAvailableDays());
+        alice = user(1L, "alice@test.com", MONDAY, TUESDAY);
+        bob = user(2L, "bob@test.com", TUESDAY);
+        group = Group.builder()
+                .id(10L)
+                .name("Group")
+                .members(new HashSet<>(Set.of(alice, bob)))
+                .build();
+    }
+
+    @Test
+    void getGroupAvailability_shouldIndexMembersAndReuseSnapshot() {
+        var availability = availability(group);
+
+        assertThat(usernames(availability.get(MONDAY))).containsExactly("alice@test.com");
+        assertThat(usernames(availability.get(TUESDAY))).containsExactlyInAnyOrder("alice@test.com", "bob@test.com");
+        assertThat(availability).doesNotContainKey(WEDNESDAY);
+        assertThat(availability(group)).isSameAs(availability);
+        verify(userMapper, times(2)).modelToDtoOnGroupCreate(any(User.class));
+    }
+
+    @Test
+    void getGroupAvailability_shouldBeUnmodifiable() {
+        var availability = availability(group);
+
+        assertThrows(UnsupportedOperationException.class, () -> availability.remove(MONDAY));
+        assertThrows(UnsupportedOperationException.class, () -> availability.get(TUESDAY).clear());
+    }
+
+    @Test
+    void updateUser_shouldApplyAddedAndRemovedDates() {
+        availability(group);
+        alice.setAvailableDays(new HashSet<>(Set.of(TUESDAY, WEDNESDAY)));
+
+        groupAvailabilityIndex.updateUser(alice);
+        var availability = availability(group);
+
+        assertThat(availability).doesNotContainKey(MONDAY);
+        assertThat(usernames(availability.get(TUESDAY))).containsExactlyInAnyOrder("alice@test.com", "bob@test.com");
+        assertThat(usernames(availability.get(WEDNESDAY))).containsExactly("alice@test.com");
+    }
+
+    @Test
+    void updateUser_shouldIgnoreUsersOfGroupsNotIndexed() {
+        groupAvailabilityIndex.updateUser(alice);
+
+        assertThat(groupAvailabilityIndex.version()).isEqualTo(1);
+        assertThat(usernames(availability(group).get(MONDAY))).containsExactly("alice@test.com");
+    }
+
+    @Test
+    void updateAvailability_shouldApplyDeltaInEveryIndexedGroup() {
+        var otherGroup = Group.builder().id(11L).name("Other").members(new HashSet<>(Set.of(alice))).build();
+        availability(group);
+        availability(otherGroup);
+
+        groupAvailabilityIndex.updateAvailability(alice.getId(), Set.of(WEDNESDAY), Set.of(MONDAY));
+
+        for (var indexed : List.of(group, otherGroup)) {
+            var availability = availability(indexed);
+            assertThat(availability).doesNotContainKey(MONDAY);
+            assertThat(usernames(availability.get(TUESDAY))).contains("alice@test.com");
+            assertThat(usernames(availability.get(WEDNESDAY))).containsExactly("alice@test.com");
+        }
+    }
+
+    @Test
+    void addMemberAndRemoveMember_shouldUpdateIndexedGroup() {
+        availability(group);
+        var carol = user(3L, "carol@test.com", WEDNESDAY);
+
+        groupAvailabilityIndex.addMember(group.getId(), carol);
+        groupAvailabilityIndex.removeMember(group.getId(), bob.getId());
+        var availability = availability(group);
+
+        assertThat(usernames(availability.get(TUESDAY))).containsExactly("alice@test.com");
+        assertThat(usernames(availability.get(WEDNESDAY))).containsExactly("carol@test.com");
+    }
+
+    @Test
+    void removeUser_shouldRemoveUserFromEveryIndexedGroup() {
+        var otherGroup = Group.builder().id(11L).name("Other").members(new HashSet<>(Set.of(bob))).build();
+        availability(group);
+        availability(otherGroup);
+
+        groupAvailabilityIndex.removeUser(bob.getId());
+
+        assertThat(usernames(availability(group).get(TUESDAY)))
+                .containsExactly("alice@test.com");
+        assertThat(availability(otherGroup)).isEmpty();
+    }
+
+    @Test
+    void evictGroup_shouldRebuildGroupOnNextRead() {
+        availability(group);
+
+        groupAvailabilityIndex.evictGroup(group.getId());
+        group.getMembers().remove(bob);
+
+        assertThat(usernames(availability(group).get(TUESDAY)))
+                .containsExactly("alice@test.com");
+    }
+
+    @Test
+    void changesInTransaction_shouldApplyAfterCommitOnly() {
+        availability(group);
+        TransactionSynchronizationManager.initSynchronization();
+
+        groupAvailabilityIndex.removeMember(group.getId(), bob.getId());
+        groupAvailabilityIndex.updateAvailability(alice.getId(), Set.of(WEDNESDAY), Set.of());
+
+        assertThat(usernames(availability(group).get(TUESDAY))).containsExactlyInAnyOrder("alice@test.com", "bob@test.com");
+        TransactionSynchronizationManager.getSynchronizations().get(0).afterCommit();
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(usernames(availability(group).get(TUESDAY))).containsExactly("alice@test.com");
+        assertThat(availability(group)).doesNotContainKey(WEDNESDAY);
+    }
+
+    @Test
+    void getGroupAvailability_shouldNotKeepGroup_whenChangeWasAppliedWhileItWasLoaded() {
+        var loadedAtVersion = groupAvailabilityIndex.version();
+        groupAvailabilityIndex.updateAvailability(alice.getId(), Set.of(WEDNESDAY), Set.of());
+
+        assertThat(groupAvailabilityIndex.getGroupAvailability(group, loadedAtVersion)).doesNotContainKey(WEDNESDAY);
+        alice.getAvailableDays().add(WEDNESDAY);
+
+        assertThat(usernames(availability(group).get(WEDNESDAY))).containsExactly("alice@test.com");
+    }
+
+    @Test
+    void getGroupAvailability_shouldNotKeepGroup_whenItsMembershipChangedWhileItWasLoaded() {
+        var loadedAtVersion = groupAvailabilityIndex.version();
+        groupAvailabilityIndex.removeMember(group.getId(), bob.getId());
+
+        groupAvailabilityIndex.getGroupAvailability(group, loadedAtVersion);
+        group.getMembers().remove(bob);
+
+        assertThat(usernames(availability(group).get(TUESDAY))).containsExactly("alice@test.com");
+    }
+
+    @Test
+    void getGroupAvailability_shouldKeepGroup_whenOnlyOtherGroupsChangedWhileItWasLoaded() {
+        var carol = user(3L, "carol@test.com", WEDNESDAY);
+        var loadedAtVersion = groupAvailabilityIndex.version();
+        groupAvailabilityIndex.updateAvailability(carol.getId(), Set.of(MONDAY), Set.of());
+        groupAvailabilityIndex.addMember(11L, carol);
+
+        var availability = groupAvailabilityIndex.getGroupAvailability(group, loadedAtVersion);
+
+        assertThat(availability(group)).isSameAs(availability);
+    }
+
+    @Test
+    void getGroupAvailability_shouldNotKeepGroup_whenChangesWereForgottenWhileItWasLoaded() {
+        properties.setIndexMaxGroups(1);
+        var loadedAtVersion = groupAvailabilityIndex.version();
+        groupAvailabilityIndex.evictGroup(11L);
+        groupAvailabilityIndex.evictGroup(12L);
+
+        var availability = groupAvailabilityIndex.getGroupAvailability(group, loadedAtVersion);
+
+        assertThat(availability(group)).isNotSameAs(availability);
+    }
+
+    @Test
+    void getGroupAvailability_shouldIndexGroupAgain_whenEntryExpired() {
+        properties.setIndexTtl(Duration.ZERO);
+        availability(group);
+        bob.getAvailableDays().add(WEDNESDAY);
+
+        assertThat(usernames(availability(group).get(WEDNESDAY))).containsExactly("bob@test.com");
+    }
+
+    @Test
+    void getGroupAvailability_shouldDropLeastRecentlyReadGroup_whenIndexIsFull() {
+        properties.setIndexMaxGroups(1);
+        var otherGroup = Group.builder().id(11L).name("Other").members(new HashSet<>(Set.of(bob))).build();
+        availability(group);
+        availability(otherGroup);
+
+        groupAvailabilityIndex.updateAvailability(alice.getId(), Set.of(WEDNESDAY), Set.of());
+
+        assertThat(availability(group)).doesNotContainKey(WEDNESDAY);
+    }
+
+    private static User user(Long id, String username, LocalDate... availableDays) {
+        return User.builder()
+                .id(id)
+                .username(username)
+                .firstName("First")
+                .lastName("Last")
+                .roles(List.of(Role.USER))
+                .availableDays(new HashSet<>(Set.of(availableDays)))
+                .build();
+    }
+
+    private Map<LocalDate, Set<UserDto>> availability(Group group) {
+        return groupAvailabilityIndex.getGroupAvailability(group, groupAvailabilityIndex.version());
+    }
+
+    private static List<String> usernames(Set<UserDto> users) {
+        return users.stream().map(UserDto::getUsername).toList();
+    }
+}
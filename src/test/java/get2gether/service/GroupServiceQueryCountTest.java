@@ -0,0 +1,157 @@
+package get2gether.service;
+
+import get2gether.enums.Role;
+import get2gether.model.Event;
+import get2gether.model.Group;
+import get2gether.model.Message;
+import get2gether.model.User;
+import get2gether.repository.EventRepository;
+import get2gether.repository.GroupRepository;
+import get2gether.repository.MessageRepository;
+import get2gether.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class GroupServiceQueryCountTest {
+
+    private static final long MAX_STATEMENTS_FOR_GROUP_DETAIL = 4;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getGroupById_shouldUseConstantNumberOfStatements_regardlessOfGroupSize() {
+        var smallGroupId = createGroup("small", 2, 1, 2);
+        var largeGroupId = createGroup("large", 25, 10, 30);
+
+        var smallGroupStatements = countStatements(smallGroupId);
+        var largeGroupStatements = countStatements(largeGroupId);
+
+        assertThat(largeGroupStatements).isEqualTo(smallGroupStatements);
+        assertThat(largeGroupStatements).isLessThanOrEqualTo(MAX_STATEMENTS_FOR_GROUP_DETAIL);
+    }
+
+    @Test
+    void getGroupById_shouldMapWholeGroupGraph() {
+        var groupId = createGroup("graph", 4, 3, 5);
+        entityManager.flush();
+        entityManager.clear();
+
+        var group = groupService.getGroupById(groupId);
+
+        assertThat(group.getMembers()).hasSize(4);
+        assertThat(group.getEvents()).hasSize(3);
+        assertThat(group.getEvents()).allSatisfy(event -> {
+            assertThat(event.getGoingMembers()).hasSize(2);
+            assertThat(event.getHostFullName()).isEqualTo("First0 Last0");
+        });
+        assertThat(group.getMessages()).hasSize(5);
+        assertThat(group.getMessages().get(0).getSenderUsername()).isEqualTo("First0 Last0");
+        assertThat(group.getGroupAvailability()).hasSize(2);
+        assertThat(group.getGroupAvailability().values()).allSatisfy(users -> assertThat(users).hasSize(4));
+    }
+
+    @Test
+    void findByIdWithMembersAndAvailableDays_shouldNotRepeatRolesPerAvailableDay() {
+        var groupId = createGroup("roles", 3, 0, 0);
+        entityManager.flush();
+        entityManager.clear();
+
+        var group = groupRepository.findByIdWithMembersAndAvailableDays(groupId).orElseThrow();
+
+        assertThat(group.getMembers()).hasSize(3);
+        assertThat(group.getMembers().stream().map(User::getRoles).toList())
+                .allSatisfy(roles -> assertThat(roles).containsExactly(Role.USER));
+        assertThat(group.getMembers().stream().map(User::getAvailableDays).toList())
+                .allSatisfy(days -> assertThat(days).hasSize(2));
+    }
+
+    private long countStatements(Long groupId) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        groupService.getGroupById(groupId);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long createGroup(String prefix, int memberCount, int eventCount, int messageCount) {
+        var members = new ArrayList<User>();
+        for (int i = 0; i < memberCount; i++) {
+            members.add(userRepository.save(User.builder()
+                    .username(prefix + i + "@test.com")
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .password("encoded_password")
+                    .roles(new ArrayList<>(List.of(Role.USER)))
+                    .availableDays(new HashSet<>(Set.of(LocalDate.now().plusDays(1), LocalDate.now().plusDays(2))))
+                    .build()));
+        }
+        var admin = members.get(0);
+        var group = groupRepository.save(Group.builder()
+                .name(prefix + " group")
+                .admin(admin)
+                .members(new HashSet<>(members))
+                .groupColor("#FF0000")
+                .build());
+
+        for (int i = 0; i < eventCount; i++) {
+            eventRepository.save(Event.builder()
+                    .name(prefix + " event " + i)
+                    .date(LocalDate.now().plusDays(i + 1))
+                    .hostUsername(admin.getUsername())
+                    .group(group)
+                    .goingMembers(new HashSet<>(members.subList(0, 2)))
+                    .build());
+        }
+        for (int i = 0; i < messageCount; i++) {
+            messageRepository.save(Message.builder()
+                    .group(group)
+                    .senderUsername(members.get(i % memberCount).getUsername())
+                    .message("message " + i)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        return group.getId();
+    }
+}
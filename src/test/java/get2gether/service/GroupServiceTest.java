@@ -1,5 +1,7 @@
 package get2gether.service;
 
+import get2gether.dto.AvailableDayDto;
+import get2gether.dto.EventDto;
 import get2gether.dto.GroupDto;
 import get2gether.dto.UserDto;
 import get2gether.enums.GroupAction;
@@ -14,6 +16,7 @@ import get2gether.mapper.UserMapper;
 import get2gether.model.*;
 import get2gether.repository.EventRepository;
 import get2gether.repository.GroupRepository;
+import get2gether.repository.MessageRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -54,6 +57,15 @@ class GroupServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private GroupAvailabilityIndex groupAvailabilityIndex;
+
+    @Mock
+    private AvailabilityStore availabilityStore;
+
     @InjectMocks
     private GroupService groupService;
 
@@ -128,8 +140,8 @@ class GroupServiceTest {
         // Create a mock GroupDto instead of a real one
         GroupDto mockGroupDto = mock(GroupDto.class);
         
-        when(groupRepository.findById(1L)).thenReturn(Optional.of(testGroup));
-        when(groupMapper.modelToDtoOnGet(testGroup)).thenReturn(mockGroupDto);
+        when(groupRepository.findByIdWithMembersAndAvailableDays(1L)).thenReturn(Optional.of(testGroup));
+        when(groupMapper.modelToDtoOnGet(testGroup, List.of(), List.of())).thenReturn(mockGroupDto);
         
         // Now we can mock the setGroupAvailability method since mockGroupDto is a mock
         when(mockGroupDto.setGroupAvailability(any())).thenReturn(mockGroupDto);
@@ -145,17 +157,18 @@ class GroupServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo(testGroup.getName());
         assertThat(result.getGroupColor()).isEqualTo(testGroup.getGroupColor());
-        verify(groupRepository).findById(1L);
+        verify(groupRepository).findByIdWithMembersAndAvailableDays(1L);
+        verify(eventRepository).findUpcomingByGroupIdWithGoingMembers(1L, LocalDate.now());
     }
 
     @Test
     void getGroupById_ShouldThrowException_WhenGroupNotFound() {
         // Arrange
-        when(groupRepository.findById(999L)).thenReturn(Optional.empty());
+        when(groupRepository.findByIdWithMembersAndAvailableDays(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> groupService.getGroupById(999L));
-        verify(groupRepository).findById(999L);
+        verify(groupRepository).findByIdWithMembersAndAvailableDays(999L);
     }
 
     @Test
@@ -238,18 +251,17 @@ class GroupServiceTest {
         testGroup.getMembers().add(memberUser);
         memberUser.getGroups().add(testGroup);
         
-        List<Event> eventsToRemove = new ArrayList<>();
-        
         when(groupRepository.findById(1L)).thenReturn(Optional.of(testGroup));
         when(userService.getUserFromDb(memberUser.getUsername())).thenReturn(memberUser);
         when(groupRepository.save(any(Group.class))).thenReturn(testGroup);
         doNothing().when(eventPublisher).publishGroupAction(GroupAction.LEAVE, testGroup, memberUser);
-        when(eventRepository.saveAll(any())).thenReturn(eventsToRemove);
 
         // Act
         groupService.leaveGroup(1L, memberUser.getUsername());
 
         // Assert
+        verify(eventRepository).decrementAttendeeCountOfGroupEvents(1L, memberUser.getId());
+        verify(eventRepository).deleteGoingMemberFromGroupEvents(1L, memberUser.getId());
         verify(groupRepository).findById(1L);
         verify(userService).getUserFromDb(memberUser.getUsername());
         verify(groupRepository).save(any(Group.class));
@@ -312,6 +324,7 @@ class GroupServiceTest {
         // Assert
         verify(groupRepository).findById(1L);
         verify(groupRepository).save(testGroup);
+        verify(groupAvailabilityIndex).addMember(1L, memberUser);
     }
 
     @Test
@@ -357,6 +370,7 @@ class GroupServiceTest {
         verify(userService).getUserFromDb(memberUser.getUsername());
         verify(groupRepository).save(any(Group.class));
         verify(userMapper).modelToDtoOnGroupCreate(adminUser);
+        verify(groupAvailabilityIndex).removeMember(1L, memberUser.getId());
     }
 
     @Test
@@ -371,4 +385,52 @@ class GroupServiceTest {
         assertThat(result).isEqualTo(testGroup);
         verify(groupRepository).findByName("Test Group");
     }
-}
\ No newline at end of file
+
+    @Test
+    void getTopAvailableDays_shouldKeepBestKDays_preferringEarlierOnTies() {
+        var from = LocalDate.of(2030, 1, 1);
+        var to = LocalDate.of(2030, 1, 10);
+        when(groupRepository.existsById(1L)).thenReturn(true);
+        when(availabilityStore.countAvailableMembersByDay(1L, from, to))
+                .thenReturn(new int[]{0, 1, 0, 3, 0, 0, 2, 0, 3, 0});
+
+        var result = groupService.getTopAvailableDays(1L, from, to, 3);
+
+        assertThat(result).containsExactly(
+                new AvailableDayDto(LocalDate.of(2030, 1, 4), 3L),
+                new AvailableDayDto(LocalDate.of(2030, 1, 9), 3L),
+                new AvailableDayDto(LocalDate.of(2030, 1, 7), 2L));
+    }
+
+    @Test
+    void getTopAvailableDays_shouldThrowException_whenRangeTooLong() {
+        var from = LocalDate.of(2030, 1, 1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> groupService.getTopAvailableDays(1L, from, from.plusYears(2), 5));
+        verifyNoInteractions(groupRepository);
+    }
+
+    @Test
+    void getTopAvailableDays_shouldThrowException_whenGroupNotFound() {
+        var from = LocalDate.of(2030, 1, 1);
+        when(groupRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> groupService.getTopAvailableDays(1L, from, from.plusDays(30), 5));
+    }
+
+    @Test
+    void getAllGroupEvents_shouldReturnCountsOnly_whenMembersAreNotRequested() {
+        var view = mock(EventRepository.GoingView.class);
+        var eventDto = EventDto.builder().id(1L).attendeeCount(1000).build();
+        when(groupRepository.existsById(1L)).thenReturn(true);
+        when(eventRepository.findViewsByGroupId(1L)).thenReturn(List.of(view));
+        when(userMapper.viewToDto(view, null)).thenReturn(eventDto);
+
+        var result = groupService.getAllGroupEvents(1L, false);
+
+        assertThat(result).containsExactly(eventDto);
+        verify(groupRepository, never()).findById(any());
+    }
+}
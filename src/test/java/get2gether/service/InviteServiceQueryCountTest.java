@@ -0,0 +1,152 @@
+package get2gether.service;
+
+import get2gether.enums.Role;
+import get2gether.enums.Type;
+import get2gether.model.Event;
+import get2gether.model.Group;
+import get2gether.model.User;
+import get2gether.repository.EventRepository;
+import get2gether.repository.GroupRepository;
+import get2gether.repository.InviteRepository;
+import get2gether.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Transactional
+class InviteServiceQueryCountTest {
+
+    private static final int MEMBERS = 200;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private InviteService inviteService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private InviteRepository inviteRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void createEventInvites_shouldBatchInserts_andCheckExistingInvitesOnce() {
+        var members = createMembers("bulk", MEMBERS);
+        var event = createEvent("bulk", members);
+        entityManager.flush();
+        statistics.clear();
+
+        var invites = inviteService.createEventInvites(event, members.subList(1, MEMBERS));
+
+        assertThat(invites).hasSize(MEMBERS - 1);
+        assertThat(invites).allSatisfy(invite -> {
+            assertThat(invite.getId()).isNotNull();
+            assertThat(invite.getGroupName()).isEqualTo("bulk group");
+            assertThat(invite.getSenderUsername()).isEqualTo("First Last");
+        });
+        var batches = (MEMBERS - 1 + BATCH_SIZE - 1) / BATCH_SIZE;
+        // existence check + sender lookup + one sequence call and one insert batch per 50 invites
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2L + 2L * batches);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(MEMBERS - 1);
+    }
+
+    @Test
+    void createEventInvites_shouldSkipReceiversAlreadyInvited() {
+        var members = createMembers("repeat", 10);
+        var event = createEvent("repeat", members);
+
+        inviteService.createEventInvites(event, members.subList(1, 5));
+        var invites = inviteService.createEventInvites(event, members.subList(1, 10));
+
+        assertThat(invites).hasSize(5);
+        assertThat(inviteRepository.findByTypeAndTypeId(Type.EVENT, event.getId())
+                .stream()
+                .map(invite -> invite.getReceiver().getId())
+                .collect(Collectors.toSet()))
+                .hasSize(9);
+    }
+
+    @Test
+    void deleteInvites_shouldDeleteInvitesOfAllEventsWithTwoStatements_andReturnReceivers() {
+        var members = createMembers("teardown", 20);
+        var eventIds = new ArrayList<Long>();
+        for (int i = 0; i < 30; i++) {
+            var event = createEvent("teardown" + i, members);
+            inviteService.createEventInvites(event, members.subList(1, 20));
+            eventIds.add(event.getId());
+        }
+        entityManager.flush();
+        statistics.clear();
+
+        var receivers = inviteService.deleteInvites(Type.EVENT, eventIds);
+
+        assertThat(receivers).hasSize(19).doesNotContain(members.get(0).getUsername());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(eventIds).allSatisfy(eventId ->
+                assertThat(inviteRepository.findByTypeAndTypeId(Type.EVENT, eventId)).isEmpty());
+    }
+
+    private List<User> createMembers(String prefix, int count) {
+        var members = new ArrayList<User>();
+        for (int i = 0; i < count; i++) {
+            members.add(User.builder()
+                    .username(prefix + i + "@test.com")
+                    .firstName("First")
+                    .lastName("Last")
+                    .password("encoded_password")
+                    .roles(new ArrayList<>(List.of(Role.USER)))
+                    .availableDays(new HashSet<>())
+                    .build());
+        }
+        return userRepository.saveAll(members);
+    }
+
+    private Event createEvent(String prefix, List<User> members) {
+        var group = groupRepository.save(Group.builder()
+                .name(prefix + " group")
+                .admin(members.get(0))
+                .members(new HashSet<>(members))
+                .build());
+        return eventRepository.save(Event.builder()
+                .name(prefix + " event")
+                .date(LocalDate.now().plusDays(1))
+                .hostUsername(members.get(0).getUsername())
+                .group(group)
+                .goingMembers(new HashSet<>(List.of(members.get(0))))
+                .build());
+    }
+}
@@ -22,6 +22,8 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -118,23 +120,52 @@ class InviteServiceTest {
 
         when(groupService.getGroupByIdFromDb(testGroup.getId())).thenReturn(testGroup);
         when(userService.getUserFromDb(testUser.getUsername())).thenReturn(testUser);
-        when(userRepository.findByUsername(user1.getUsername())).thenReturn(Optional.of(user1));
-        when(userRepository.findByUsername(user2.getUsername())).thenReturn(Optional.of(user2));
+        when(userRepository.findByUsernameIn(inviteDto.getReceiverUsernames())).thenReturn(List.of(user1, user2));
+        when(inviteRepository.findInvitedReceiverIds(List.of(user1.getId(), user2.getId()), Type.GROUP, testGroup.getId()))
+                .thenReturn(Set.of());
         when(inviteMapper.dtoToModel(eq(testGroup.getId()), any(), eq(testUser.getUsername()), eq(testGroup.getName())))
                 .thenReturn(testInvite);
-        when(inviteRepository.save(any(Invite.class))).thenReturn(testInvite);
-        when(inviteMapper.modelToDto(testInvite)).thenReturn(inviteDto);
+        when(inviteRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(inviteMapper.modelToDto(anyList())).thenReturn(List.of(inviteDto, inviteDto));
 
         // Act
         String result = inviteService.createNewInviteWhenGroupAlreadyExists(inviteDto, testUser.getUsername());
 
         // Assert
         assertEquals("Invite(s) were sent successfully", result);
-        verify(inviteRepository, times(2)).save(any(Invite.class));
+        verify(inviteRepository).insertAll(argThat(invites -> invites.size() == 2));
         verify(messagingTemplate, times(2)).convertAndSendToUser(
                 anyString(), eq("/queue/invites"), any(InviteDto.class));
     }
 
+    @Test
+    void createNewInviteWhenGroupAlreadyExists_ReportsInvalidReceivers() {
+        // Arrange
+        User member = User.builder().id(4L).username("member@test.com").build();
+        testGroup.getMembers().add(member);
+        InviteDto inviteDto = InviteDto.builder()
+                .type(Type.GROUP)
+                .typeId(testGroup.getId())
+                .receiverUsernames(Set.of("unknown@test.com", member.getUsername(), user1.getUsername()))
+                .build();
+
+        when(groupService.getGroupByIdFromDb(testGroup.getId())).thenReturn(testGroup);
+        when(userService.getUserFromDb(testUser.getUsername())).thenReturn(testUser);
+        when(userRepository.findByUsernameIn(inviteDto.getReceiverUsernames())).thenReturn(List.of(member, user1));
+        when(inviteRepository.findInvitedReceiverIds(List.of(member.getId(), user1.getId()), Type.GROUP, testGroup.getId()))
+                .thenReturn(Set.of(user1.getId()));
+
+        // Act
+        String result = inviteService.createNewInviteWhenGroupAlreadyExists(inviteDto, testUser.getUsername());
+
+        // Assert
+        assertTrue(result.contains("unknown@test.com: User does not exist"));
+        assertTrue(result.contains("member@test.com: User already exists in group Test Group"));
+        assertTrue(result.contains("user1@test.com: User is already invited to the group"));
+        verify(inviteRepository, never()).insertAll(anyList());
+        verifyNoInteractions(messagingTemplate);
+    }
+
     @Test
     void createNewInviteWhenGroupAlreadyExists_NonGroupInvite() {
         // Arrange
@@ -197,33 +228,38 @@ class InviteServiceTest {
     void createInvitesOnGroupCreation_Success() {
         // Arrange
         Set<String> invitedUsernames = Set.of(user1.getUsername(), user2.getUsername());
-        when(userRepository.findByUsername(user1.getUsername())).thenReturn(Optional.of(user1));
-        when(userRepository.findByUsername(user2.getUsername())).thenReturn(Optional.of(user2));
+        when(userRepository.findByUsernameIn(invitedUsernames)).thenReturn(List.of(user1, user2));
+        when(inviteRepository.findInvitedReceiverIds(anyList(), eq(Type.GROUP), eq(testGroup.getId())))
+                .thenReturn(Set.of());
         when(inviteMapper.dtoToModel(eq(testGroup.getId()), any(), eq(testUser.getUsername()), eq(testGroup.getName())))
                 .thenReturn(testInvite);
-        when(inviteRepository.save(any(Invite.class))).thenReturn(testInvite);
-        when(inviteMapper.modelToDto(testInvite)).thenReturn(InviteDto.builder().build());
+        when(inviteRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(inviteMapper.modelToDto(anyList()))
+                .thenReturn(List.of(InviteDto.builder().build(), InviteDto.builder().build()));
 
         // Act
         List<InviteDto> result = inviteService.createInvitesOnGroupCreation(testGroup, invitedUsernames);
 
         // Assert
         assertEquals(2, result.size());
-        verify(inviteRepository, times(2)).save(any(Invite.class));
+        verify(inviteRepository).insertAll(argThat(invites -> invites.size() == 2));
+        verify(inviteRepository, never()).save(any(Invite.class));
     }
 
     @Test
-    void getInvitesByTypeAndTypeId_Success() {
+    void deleteInvites_ReturnsReceiversOfDeletedInvites() {
         // Arrange
-        List<Invite> expectedInvites = List.of(testInvite);
-        when(inviteRepository.findByTypeAndTypeId(Type.GROUP, testGroup.getId())).thenReturn(expectedInvites);
+        List<Long> eventIds = List.of(10L, 11L);
+        when(inviteRepository.findReceiverUsernamesByTypeAndTypeIdIn(Type.EVENT, eventIds))
+                .thenReturn(Set.of(user1.getUsername(), user2.getUsername()));
 
         // Act
-        List<Invite> result = inviteService.getInvitesByTypeAndTypeId(Type.GROUP, testGroup.getId());
+        Set<String> result = inviteService.deleteInvites(Type.EVENT, eventIds);
 
         // Assert
-        assertEquals(expectedInvites, result);
-        verify(inviteRepository).findByTypeAndTypeId(Type.GROUP, testGroup.getId());
+        assertEquals(Set.of(user1.getUsername(), user2.getUsername()), result);
+        verify(inviteRepository).deleteByTypeAndTypeIdIn(Type.EVENT, eventIds);
+        verify(inviteRepository, never()).delete(any(Invite.class));
     }
 
     @Test
@@ -2,6 +2,7 @@ package get2gether.service;
 
 import get2gether.TestData;
 import get2gether.dto.MessageDto;
+import get2gether.dto.MessagePageDto;
 import get2gether.exception.ForbiddenActionException;
 import get2gether.exception.ResourceNotFoundException;
 import get2gether.mapper.MessageMapper;
@@ -15,9 +16,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -75,4 +81,61 @@ class MessageServiceTest {
                 testMessageService.save(invalidGroupId, messageDto, user.getUsername()));
     }
 
-}
\ No newline at end of file
+    @Test
+    void getGroupMessages_shouldReturnLatestPageOldestFirstWithCursor() {
+        var newest = Message.builder().id(12L).message("third").build();
+        var middle = Message.builder().id(11L).message("second").build();
+        var oldest = Message.builder().id(10L).message("first").build();
+        when(groupService.getGroupByIdWithMembers(1L)).thenReturn(group);
+        when(messageRepository.findByGroupIdOrderByIdDesc(1L, Limit.of(3))).thenReturn(List.of(newest, middle, oldest));
+        when(messageMapper.modelToDto(List.of(middle, newest), group.getMembers()))
+                .thenReturn(List.of(MessageDto.builder().id(11L).build(), MessageDto.builder().id(12L).build()));
+
+        MessagePageDto result = testMessageService.getGroupMessages(1L, null, 2, user.getUsername());
+
+        assertEquals(List.of(11L, 12L), result.getMessages().stream().map(MessageDto::getId).toList());
+        assertEquals(11L, result.getNextCursor());
+    }
+
+    @Test
+    void getGroupMessages_shouldPageBeforeCursorAndEndWithoutCursor() {
+        var oldest = Message.builder().id(10L).message("first").build();
+        when(groupService.getGroupByIdWithMembers(1L)).thenReturn(group);
+        when(messageRepository.findByGroupIdAndIdLessThanOrderByIdDesc(1L, 11L, Limit.of(3))).thenReturn(List.of(oldest));
+        when(messageMapper.modelToDto(List.of(oldest), group.getMembers()))
+                .thenReturn(List.of(MessageDto.builder().id(10L).build()));
+
+        MessagePageDto result = testMessageService.getGroupMessages(1L, 11L, 2, user.getUsername());
+
+        assertEquals(1, result.getMessages().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getGroupMessages_shouldCapLimitAtMaxPageSize() {
+        when(groupService.getGroupByIdWithMembers(1L)).thenReturn(group);
+        when(messageRepository.findByGroupIdOrderByIdDesc(1L, Limit.of(MessageService.MAX_PAGE_SIZE + 1)))
+                .thenReturn(List.of());
+
+        MessagePageDto result = testMessageService.getGroupMessages(1L, null, 10_000, user.getUsername());
+
+        assertTrue(result.getMessages().isEmpty());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getGroupMessages_WhenUserIsNotGroupMember_ShouldThrowForbiddenActionException() {
+        when(groupService.getGroupByIdWithMembers(2L)).thenReturn(groupWithoutMembers);
+
+        assertThrows(ForbiddenActionException.class, () ->
+                testMessageService.getGroupMessages(2L, null, 20, user.getUsername()));
+        verify(messageRepository, never()).findByGroupIdOrderByIdDesc(any(), any());
+    }
+
+    @Test
+    void getGroupMessages_WhenLimitIsNotPositive_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                testMessageService.getGroupMessages(1L, null, 0, user.getUsername()));
+    }
+
+}
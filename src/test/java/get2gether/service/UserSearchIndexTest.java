@@ -0,0 +1,141 @@
+package get2gether.service;
+
+import get2gether.dto.UserDto;
+import get2gether.enums.Role;
+import get2gether.mapper.UserMapper;
+import get2gether.model.User;
+import get2gether.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSearchIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @InjectMocks
+    private UserSearchIndex userSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(userMapper.viewToDto(any(UserRepository.ProfileView.class))).thenAnswer(invocation -> {
+            UserRepository.ProfileView profile = invocation.getArgument(0);
+            return dto(profile.getId(), profile.getUsername(), profile.getFirstName(), profile.getLastName());
+        });
+        lenient().when(userMapper.modelToDtoOnGroupCreate(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            return dto(user.getId(), user.getUsername(), user.getFirstName(), user.getLastName());
+        });
+        var anna = profile(1L, "anna@test.com", "Anna", "Smith");
+        var annika = profile(2L, "annika@test.com", "Annika", "Jones");
+        var bob = profile(3L, "bob@test.com", "Bob", "Annan");
+        lenient().when(userRepository.findProfilesByRole(Role.USER)).thenReturn(List.of(anna, annika, bob));
+    }
+
+    @Test
+    void search_shouldMatchUsernameFullNameAndLastNameIgnoringCase() {
+        assertThat(usernames(userSearchIndex.search("ANN", 10)))
+                .containsExactly("anna@test.com", "bob@test.com", "annika@test.com");
+        assertThat(usernames(userSearchIndex.search("anna smi", 10))).containsExactly("anna@test.com");
+        assertThat(usernames(userSearchIndex.search("jon", 10))).containsExactly("annika@test.com");
+        assertThat(userSearchIndex.search("carl", 10)).isEmpty();
+        verify(userRepository, times(1)).findProfilesByRole(Role.USER);
+    }
+
+    @Test
+    void search_shouldReturnEachUserOnceAndRespectLimit() {
+        assertThat(usernames(userSearchIndex.search("anna", 10))).containsExactly("anna@test.com", "bob@test.com");
+        assertThat(userSearchIndex.search("a", 2)).hasSize(2);
+    }
+
+    @Test
+    void search_shouldReturnNothingForBlankQueryAndRejectNonPositiveLimit() {
+        assertThat(userSearchIndex.search("  ", 10)).isEmpty();
+        assertThrows(IllegalArgumentException.class, () -> userSearchIndex.search("ann", 0));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void put_shouldAddNewUserAndReplaceNamesOfExistingUser() {
+        userSearchIndex.search("ann", 10);
+
+        userSearchIndex.put(user(4L, "anders@test.com", "Anders", "Berg"));
+        userSearchIndex.put(user(2L, "annika@test.com", "Annika", "Berg"));
+
+        assertThat(usernames(userSearchIndex.search("berg", 10))).containsExactly("anders@test.com", "annika@test.com");
+        assertThat(userSearchIndex.search("jones", 10)).isEmpty();
+        assertThat(usernames(userSearchIndex.search("an", 10))).hasSize(4).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void put_shouldIgnoreUsersWithoutUserRole() {
+        userSearchIndex.search("ann", 10);
+
+        var admin = user(5L, "admin@test.com", "Ada", "Admin");
+        admin.setRoles(List.of(Role.ADMIN));
+        userSearchIndex.put(admin);
+
+        assertThat(userSearchIndex.search("ad", 10)).isEmpty();
+    }
+
+    @Test
+    void remove_shouldDropAllKeysOfUser() {
+        userSearchIndex.search("ann", 10);
+
+        userSearchIndex.remove(1L);
+
+        assertThat(usernames(userSearchIndex.search("ann", 10))).containsExactly("bob@test.com", "annika@test.com");
+        assertThat(userSearchIndex.search("smith", 10)).isEmpty();
+    }
+
+    @Test
+    void put_shouldBeSkippedBeforeIndexIsLoaded() {
+        userSearchIndex.put(user(4L, "anders@test.com", "Anders", "Berg"));
+        userSearchIndex.remove(1L);
+
+        assertThat(usernames(userSearchIndex.search("anna", 10))).containsExactly("anna@test.com", "bob@test.com");
+        assertThat(userSearchIndex.search("anders", 10)).isEmpty();
+    }
+
+    private static List<String> usernames(List<UserDto> users) {
+        return users.stream().map(UserDto::getUsername).toList();
+    }
+
+    private static UserDto dto(Long id, String username, String firstName, String lastName) {
+        return UserDto.builder().id(id).username(username).firstName(firstName).lastName(lastName).build();
+    }
+
+    private static User user(Long id, String username, String firstName, String lastName) {
+        return User.builder()
+                .id(id)
+                .username(username)
+                .firstName(firstName)
+                .lastName(lastName)
+                .roles(List.of(Role.USER))
+                .build();
+    }
+
+    private static UserRepository.ProfileView profile(Long id, String username, String firstName, String lastName) {
+        var profile = mock(UserRepository.ProfileView.class);
+        lenient().when(profile.getId()).thenReturn(id);
+        lenient().when(profile.getUsername()).thenReturn(username);
+        lenient().when(profile.getFirstName()).thenReturn(firstName);
+        lenient().when(profile.getLastName()).thenReturn(lastName);
+        return profile;
+    }
+}
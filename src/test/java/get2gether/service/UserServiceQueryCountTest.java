@@ -0,0 +1,178 @@
+package get2gether.service;
+
+import get2gether.dto.AvailabilityDeltaDto;
+import get2gether.dto.EventDto;
+import get2gether.dto.GroupDto;
+import get2gether.dto.InviteDto;
+import get2gether.enums.Role;
+import get2gether.enums.Type;
+import get2gether.enums.UserSection;
+import get2gether.model.Event;
+import get2gether.model.Group;
+import get2gether.model.Invite;
+import get2gether.model.User;
+import get2gether.repository.EventRepository;
+import get2gether.repository.GroupRepository;
+import get2gether.repository.InviteRepository;
+import get2gether.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Transactional
+class UserServiceQueryCountTest {
+
+    private static final int GROUPS = 5;
+    private static final int EVENTS_PER_GROUP = 4;
+    private static final int MEMBERS_PER_GROUP = 6;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private InviteRepository inviteRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private User powerUser;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        powerUser = saveUser("power");
+        powerUser.getAvailableDays().addAll(Set.of(LocalDate.now().plusDays(1), LocalDate.now().plusDays(2)));
+        for (int g = 0; g < GROUPS; g++) {
+            var members = new HashSet<User>(List.of(powerUser));
+            for (int m = 1; m < MEMBERS_PER_GROUP; m++) {
+                members.add(saveUser("member" + g + "-" + m));
+            }
+            var group = groupRepository.save(Group.builder()
+                    .name("Profile group " + g)
+                    .groupColor("#00000" + g)
+                    .admin(powerUser)
+                    .members(members)
+                    .build());
+            for (int e = 0; e < EVENTS_PER_GROUP; e++) {
+                var event = eventRepository.save(Event.builder()
+                        .name("Profile event " + g + "-" + e)
+                        .date(LocalDate.now().plusDays(e + 1))
+                        .hostUsername(powerUser.getUsername())
+                        .group(group)
+                        .goingMembers(new HashSet<>(members))
+                        .build());
+                var sender = members.stream().filter(member -> member != powerUser).findFirst().orElseThrow();
+                inviteRepository.save(Invite.builder()
+                        .type(Type.EVENT)
+                        .typeId(event.getId())
+                        .typeName(event.getName())
+                        .senderUsername(sender.getUsername())
+                        .receiver(powerUser)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getUserProfile_shouldUseFixedNumberOfQueries_andMatchEntityMapping() {
+        var expected = userService.getUserByUsername(powerUser.getUsername());
+        var expectedAvailableDays = new HashSet<>(expected.getAvailableDays());
+        var entityMappingQueries = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        statistics.clear();
+
+        var profile = userService.getUserProfile(powerUser.getUsername(), Set.of());
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(entityMappingQueries).isGreaterThan(statistics.getPrepareStatementCount());
+        assertThat(profile.getUsername()).isEqualTo(expected.getUsername());
+        assertThat(profile.getAvailableDays()).hasSize(2).isEqualTo(expectedAvailableDays);
+        assertThat(profile.getGroups()).hasSize(GROUPS).isEqualTo(expected.getGroups());
+        assertThat(sortInvites(profile.getInvitesReceived())).hasSize(GROUPS * EVENTS_PER_GROUP)
+                .isEqualTo(sortInvites(expected.getInvitesReceived()));
+        assertThat(sortEvents(profile.getGoingEvents())).hasSize(GROUPS * EVENTS_PER_GROUP)
+                .isEqualTo(sortEvents(expected.getGoingEvents()));
+    }
+
+    @Test
+    void getUserProfile_shouldQueryOnlyRequestedSections() {
+        statistics.clear();
+
+        var profile = userService.getUserProfile(powerUser.getUsername(), Set.of(UserSection.GROUPS));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(profile.getGroups()).extracting(GroupDto::getName).hasSize(GROUPS);
+        assertThat(profile.getAvailableDays()).isNull();
+        assertThat(profile.getInvitesReceived()).isNull();
+        assertThat(profile.getGoingEvents()).isNull();
+    }
+
+    @Test
+    void updateAvailableDays_withDelta_shouldWriteOnlyChangedRowsWithFixedNumberOfQueries() {
+        var kept = LocalDate.now().plusDays(1);
+        var removed = LocalDate.now().plusDays(2);
+        var added = LocalDate.now().plusDays(3);
+        statistics.clear();
+
+        userService.updateAvailableDays(powerUser.getUsername(),
+                AvailabilityDeltaDto.builder().added(Set.of(added)).removed(Set.of(removed)).build());
+
+        // user id, user row lock, current state of the changed days, delete, insert
+        // and the member's groups for the notification
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(userRepository.findAvailableDaysByUserId(powerUser.getId())).containsExactlyInAnyOrder(kept, added);
+    }
+
+    private static List<InviteDto> sortInvites(List<InviteDto> invites) {
+        return invites.stream().sorted(Comparator.comparing(InviteDto::getId)).toList();
+    }
+
+    private static List<EventDto> sortEvents(List<EventDto> events) {
+        return events.stream().sorted(Comparator.comparing(EventDto::getId)).toList();
+    }
+
+    private User saveUser(String prefix) {
+        return userRepository.save(User.builder()
+                .username(prefix + "@profile.com")
+                .firstName(prefix)
+                .lastName("User")
+                .password("encoded_password")
+                .roles(new ArrayList<>(List.of(Role.USER)))
+                .availableDays(new HashSet<>())
+                .build());
+    }
+}
@@ -1,6 +1,7 @@
 package get2gether.service;
 
 import get2gether.TestData;
+import get2gether.dto.AvailabilityDeltaDto;
 import get2gether.dto.UserDto;
 import get2gether.enums.GroupAction;
 import get2gether.event.EventPublisher;
@@ -9,17 +10,22 @@ import get2gether.mapper.UserMapper;
 import get2gether.model.Group;
 import get2gether.model.User;
 import get2gether.repository.UserRepository;
+import get2gether.security.TokenVersionCache;
+import get2gether.security.UserDetailsCache;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,12 +40,37 @@ class UserServiceTest {
     @Mock
     private EventPublisher eventPublisher;
 
+    @Mock
+    private GroupAvailabilityIndex groupAvailabilityIndex;
+
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private UserSearchIndex userSearchIndex;
+
+    @Mock
+    private AvailabilityStore availabilityStore;
+
     @InjectMocks
     private UserService testUserService;
 
     private final User user = TestData.getTestUser();
     private final UserDto userDto = TestData.getTestUserDto();
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(availabilityStore.getAvailableDays(any(User.class)))
+                .thenAnswer(invocation -> invocation.<User>getArgument(0).getAvailableDays());
+        lenient().doAnswer(invocation -> {
+            invocation.<User>getArgument(0).setAvailableDays(invocation.getArgument(1));
+            return null;
+        }).when(availabilityStore).setAvailableDays(any(User.class), any());
+    }
+
     @Test
     void getUserByUsername_shouldReturnUserDtoWhenUserExists() {
         when(userRepository.findByUsername("test@gmail.com")).thenReturn(Optional.of(user));
@@ -77,6 +108,8 @@ class UserServiceTest {
         assertEquals("UpdatedTestName", result.getFirstName());
         assertEquals("UpdatedTestLastName", result.getLastName());
         assertEquals("test@gmail.com", result.getUsername());
+        verify(userDetailsCache).invalidate("test@gmail.com");
+        verify(userSearchIndex).put(savedUser);
     }
 
 
@@ -87,28 +120,47 @@ class UserServiceTest {
         testUserService.deleteUser(user.getUsername());
 
         verify(userRepository).delete(user);
+        verify(groupAvailabilityIndex).removeUser(user.getId());
+        verify(tokenVersionCache).invalidate(user.getUsername());
+        verify(userDetailsCache).invalidate(user.getUsername());
+        verify(userSearchIndex).remove(user.getId());
+    }
+
+    @Test
+    void getUserDirectory_shouldReturnPageAndCursorWhenMoreUsersMatch() {
+        var first = mock(UserRepository.ProfileView.class);
+        var second = mock(UserRepository.ProfileView.class);
+        when(first.getUsername()).thenReturn("test@gmail.com");
+        when(userRepository.findDirectoryPage(eq("te%"), any(Limit.class))).thenReturn(List.of(first, second));
+        when(userMapper.viewToDto(first)).thenReturn(userDto);
+
+        var result = testUserService.getUserDirectory(" Te ", null, 1);
+
+        assertEquals(1, result.getUsers().size());
+        assertEquals("test@gmail.com", result.getUsers().get(0).getUsername());
+        assertEquals("test@gmail.com", result.getNextCursor());
+        verify(userRepository).findDirectoryPage("te%", Limit.of(2));
     }
 
     @Test
-    void getAllUsers_shouldReturnListOfUsersWhenUsersExist() {
-        var users = List.of(user);
-        when(userRepository.findAll()).thenReturn(users);
-        when(userMapper.modelToDtoOnGroupCreate(user)).thenReturn(userDto);
+    void getUserDirectory_shouldContinueAfterCursorAndEscapeWildcards() {
+        when(userRepository.findDirectoryPageAfter(eq("a\\_b\\%%"), eq("test@gmail.com"), any(Limit.class)))
+                .thenReturn(Collections.emptyList());
 
-        var result = testUserService.getAllUsers();
+        var result = testUserService.getUserDirectory("a_b%", "test@gmail.com", 10);
 
-        assertEquals(1, result.size());
-        assertEquals("test@gmail.com", result.get(0).getUsername());
+        assertEquals(0, result.getUsers().size());
+        assertNull(result.getNextCursor());
     }
 
-
     @Test
-    void getAllUsers_shouldReturnEmptyListWhenNoUsers() {
-        when(userRepository.findAll()).thenReturn(Collections.emptyList());
+    void getUserDirectory_shouldCapLimitAndRejectNonPositiveLimit() {
+        when(userRepository.findDirectoryPage(eq("%"), any(Limit.class))).thenReturn(Collections.emptyList());
 
-        var result = testUserService.getAllUsers();
+        testUserService.getUserDirectory(null, null, 10_000);
 
-        assertEquals(0, result.size());
+        verify(userRepository).findDirectoryPage("%", Limit.of(UserService.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> testUserService.getUserDirectory(null, null, 0));
     }
 
     @Test
@@ -126,6 +178,52 @@ class UserServiceTest {
         verify(userRepository).save(any(User.class));
     }
 
+    @Test
+    void updateAvailableDays_shouldApplyOnlyChangedDaysAndPublishOneEvent() {
+        var monday = LocalDate.of(2025, 5, 19);
+        var tuesday = LocalDate.of(2025, 5, 20);
+        var wednesday = LocalDate.of(2025, 5, 21);
+        var delta = AvailabilityDeltaDto.builder()
+                .added(Set.of(monday, tuesday))
+                .removed(Set.of(wednesday, LocalDate.of(2025, 5, 22)))
+                .build();
+
+        when(userRepository.findIdByUsername("test@gmail.com")).thenReturn(Optional.of(1L));
+        when(availabilityStore.applyChange(1L, delta.getAdded(), delta.getRemoved()))
+                .thenReturn(new AvailabilityStore.Change(Set.of(monday), Set.of(wednesday)));
+
+        var result = testUserService.updateAvailableDays("test@gmail.com", delta);
+
+        assertEquals(Set.of(monday), result.getAdded());
+        assertEquals(Set.of(wednesday), result.getRemoved());
+        verify(userRepository, never()).save(any(User.class));
+        verify(eventPublisher).publishAvailabilityChanged(1L, "test@gmail.com", Set.of(monday), Set.of(wednesday));
+    }
+
+    @Test
+    void updateAvailableDays_shouldNotPublishEventWhenNothingChanged() {
+        var monday = LocalDate.of(2025, 5, 19);
+        when(userRepository.findIdByUsername("test@gmail.com")).thenReturn(Optional.of(1L));
+        when(availabilityStore.applyChange(eq(1L), any(), any()))
+                .thenReturn(new AvailabilityStore.Change(Set.of(), Set.of()));
+
+        var result = testUserService.updateAvailableDays("test@gmail.com",
+                AvailabilityDeltaDto.builder().added(Set.of(monday)).build());
+
+        assertTrue(result.getAdded().isEmpty());
+        assertTrue(result.getRemoved().isEmpty());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateAvailableDays_shouldRejectDayBothAddedAndRemoved() {
+        var monday = LocalDate.of(2025, 5, 19);
+        var delta = AvailabilityDeltaDto.builder().added(Set.of(monday)).removed(Set.of(monday)).build();
+
+        assertThrows(IllegalArgumentException.class, () -> testUserService.updateAvailableDays("test@gmail.com", delta));
+        verifyNoInteractions(userRepository, availabilityStore);
+    }
+
     @Test
     void getAvailableDays_shouldReturnExistingDays() {
         Set<LocalDate> existingDays = Set.of(LocalDate.of(2025, 5, 20));
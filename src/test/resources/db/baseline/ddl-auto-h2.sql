@@ -0,0 +1,23 @@
+-- Schema that Hibernate's ddl-auto created on H2 for the entities before migrations were introduced,
+-- used to test that such a database can be baselined at V1 and migrated.
+create table availability_days (available_day date, user_id bigint not null);
+create table event (date date, group_id bigint, id bigint generated by default as identity, description varchar(255), host_username varchar(255), name varchar(255), primary key (id));
+create table groups (admin_id bigint, id bigint generated by default as identity, group_color varchar(255), name varchar(255) not null unique, primary key (id));
+create table invite (id bigint generated by default as identity, receiver_id bigint, type_id bigint not null, sender_username varchar(255) not null, type_name varchar(255) not null, type enum ('EVENT','GROUP') not null, primary key (id));
+create table message (created_at timestamp(6), group_id bigint, id bigint generated by default as identity, message varchar(255), sender_username varchar(255), primary key (id));
+create table user_event (event_id bigint not null, user_id bigint not null, primary key (event_id, user_id));
+create table user_group (group_id bigint not null, user_id bigint not null, primary key (group_id, user_id));
+create table user_roles (user_id bigint not null, roles enum ('ADMIN','USER'));
+create table users (id bigint generated by default as identity, first_name varchar(255) not null, last_name varchar(255) not null, password varchar(255) not null, username varchar(255) not null unique, primary key (id));
+create index idx_receiver_type_typeId on invite (receiver_id, type, type_id);
+create index idx_type_typeId on invite (type, type_id);
+alter table if exists availability_days add constraint FK3mbv4jftbf37rc9dt69eboblv foreign key (user_id) references users;
+alter table if exists event add constraint FKbd87y8fosf8asg0ub1g3eg4yw foreign key (group_id) references groups;
+alter table if exists groups add constraint FKsnqhvirasbp2bh1ahns2iqeu foreign key (admin_id) references users;
+alter table if exists invite add constraint FKstecf7o6awj5y3msobeloeedq foreign key (receiver_id) references users;
+alter table if exists message add constraint FK5sr3baej6btgfkj8wywusesy3 foreign key (group_id) references groups;
+alter table if exists user_event add constraint FKk4yivyy0xvsm1l9kupdggqd2r foreign key (user_id) references users;
+alter table if exists user_event add constraint FKspe8srtv69gubpphvrnd7wekt foreign key (event_id) references event;
+alter table if exists user_group add constraint FK7k9ade3lqbo483u9vuryxmm34 foreign key (user_id) references users;
+alter table if exists user_group add constraint FKbegtgnl3oq004958pisko4fu4 foreign key (group_id) references groups;
+alter table if exists user_roles add constraint FKhfh9dx7w3ubf1co1vdev94g3f foreign key (user_id) references users;